@@ -22,7 +22,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(ManagedSuite.class)
-@Suite.SuiteClasses({ RepositoryKeyTest.class })
+@Suite.SuiteClasses({ RepositoryKeyTest.class, BugzillaRestJsonUtilTest.class })
 @TestConfigurationProperty()
 public class AllBugzillaRestCoreTests {
 	static {
@@ -643,6 +643,38 @@ public class BugzillaRestClientTest implements IFixtureJUnitClass {
 		assertThat(commentAttribute.getValue(), is("false"));
 	}
 
+	@Test
+	public void testGetTaskDataMultipleTasksWithComments() throws Exception {
+		String taskId1 = harness.getNewTaksId4TestProduct();
+		String taskId2 = harness.getNewTaksId4TestProduct();
+		TaskData taskDataGet = harness.getTaskFromServer(taskId2);
+		TaskAttribute attribute = taskDataGet.getRoot()
+				.getAttribute(BugzillaRestTaskSchema.getDefault().NEW_COMMENT.getKey());
+		attribute.setValue("The Comment");
+		connector.getClient(actualFixture.repository()).postTaskData(taskDataGet,
+				new HashSet<TaskAttribute>(Arrays.asList(attribute)), null);
+
+		final Map<String, TaskData> results = new HashMap<String, TaskData>();
+		connector.getClient(actualFixture.repository()).getTaskData(
+				new HashSet<String>(Arrays.asList(taskId1, taskId2)), actualFixture.repository(),
+				new TaskDataCollector() {
+
+					@Override
+					public void accept(TaskData taskData) {
+						results.put(taskData.getTaskId(), taskData);
+					}
+				}, null);
+
+		assertEquals(2, results.size());
+		TaskData taskData1 = results.get(taskId1);
+		assertNotNull(taskData1.getRoot().getMappedAttribute(TaskAttribute.DESCRIPTION));
+		assertNull(taskData1.getRoot().getMappedAttribute(TaskAttribute.PREFIX_COMMENT + "1"));
+		TaskData taskData2 = results.get(taskId2);
+		attribute = taskData2.getRoot().getMappedAttribute(TaskAttribute.PREFIX_COMMENT + "1");
+		assertNotNull(attribute);
+		assertThat(attribute.getMappedAttribute(TaskAttribute.COMMENT_TEXT).getValue(), is("The Comment"));
+	}
+
 	@Test
 	public void testGifAttachment() throws Exception {
 		TaskAttribute attachmentAttribute = null;
@@ -3,13 +3,20 @@ package org.eclipse.mylyn.bugzilla.rest.core.tests;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.mylyn.bugzilla.rest.test.support.BugzillaRestHarness;
 import org.eclipse.mylyn.bugzilla.rest.test.support.BugzillaRestTestFixture;
 import org.eclipse.mylyn.commons.net.AuthenticationCredentials;
 import org.eclipse.mylyn.commons.net.AuthenticationType;
@@ -21,11 +28,14 @@ import org.eclipse.mylyn.commons.sdk.util.Junit4TestFixtureRunner;
 import org.eclipse.mylyn.commons.sdk.util.Junit4TestFixtureRunner.FixtureDefinition;
 import org.eclipse.mylyn.internal.bugzilla.rest.core.BugzillaRestConfiguration;
 import org.eclipse.mylyn.internal.bugzilla.rest.core.BugzillaRestConnector;
+import org.eclipse.mylyn.internal.bugzilla.rest.core.BugzillaRestTaskSchema;
 import org.eclipse.mylyn.internal.bugzilla.rest.core.Duration;
 import org.eclipse.mylyn.internal.tasks.core.IRepositoryConstants;
 import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationSession;
 import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
 import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
 import org.junit.Before;
@@ -243,4 +253,45 @@ public class BugzillaRestConnectorTest {
 		assertThat(task.getUrl(), equalTo(actualFixture.repository().getRepositoryUrl() + "/rest.cgi/bug/123"));
 	}
 
+	@Test
+	public void testPreSynchronization() throws Exception {
+		connector = actualFixture.connector();
+		BugzillaRestHarness harness = actualFixture.createHarness();
+		TaskRepository repository = actualFixture.repository();
+		String taskId = harness.getNewTaksId4TestProduct();
+		TaskData taskData = harness.getTaskFromServer(taskId);
+		ITask task = new TaskTask(connector.getConnectorKind(), repository.getRepositoryUrl(), taskId);
+		connector.updateTaskFromTaskData(repository, task, taskData);
+
+		SimpleDateFormat iso8601Format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.US);
+		iso8601Format.setTimeZone(TimeZone.getTimeZone("UTC"));
+		repository.setSynchronizationTimeStamp(iso8601Format.format(task.getModificationDate()));
+
+		SynchronizationSession session = new SynchronizationSession();
+		session.setFullSynchronization(true);
+		session.setTasks(Collections.singleton(task));
+		session.setTaskRepository(repository);
+		session.setNeedsPerformQueries(true);
+		connector.preSynchronization(session, null);
+		assertEquals(Collections.emptySet(), session.getStaleTasks());
+		assertFalse(session.needsPerformQueries());
+
+		// ensure that the modification time advances
+		Thread.sleep(1000);
+		TaskAttribute attribute = taskData.getRoot()
+				.getAttribute(BugzillaRestTaskSchema.getDefault().NEW_COMMENT.getKey());
+		attribute.setValue("The Comment");
+		connector.getClient(repository).postTaskData(taskData, Collections.singleton(attribute), null);
+
+		session = new SynchronizationSession();
+		session.setFullSynchronization(true);
+		session.setTasks(Collections.singleton(task));
+		session.setTaskRepository(repository);
+		session.setNeedsPerformQueries(true);
+		connector.preSynchronization(session, null);
+		assertEquals(Collections.singleton(task), session.getStaleTasks());
+		assertTrue(session.needsPerformQueries());
+		assertNotNull(session.getData());
+	}
+
 }
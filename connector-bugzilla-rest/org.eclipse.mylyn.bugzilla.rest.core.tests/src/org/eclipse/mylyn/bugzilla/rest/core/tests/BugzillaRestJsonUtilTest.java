@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.rest.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.mylyn.internal.bugzilla.rest.core.BugzillaRestJsonUtil;
+import org.junit.Test;
+
+import com.google.gson.stream.JsonReader;
+
+public class BugzillaRestJsonUtilTest {
+
+	@Test
+	public void testReadRecord() throws IOException {
+		Map<String, String> record = BugzillaRestJsonUtil.readRecord(reader(
+				"{\"id\":12,\"text\":\"a\",\"is_private\":false,\"tags\":[\"x\"],\"detail\":{\"a\":1},\"time\":null}"));
+		assertEquals(3, record.size());
+		assertEquals("12", record.get("id"));
+		assertEquals("a", record.get("text"));
+		assertEquals("false", record.get("is_private"));
+	}
+
+	@Test
+	public void testReadRecords() throws IOException {
+		List<Map<String, String>> records = BugzillaRestJsonUtil.readRecords(reader("[{\"id\":1},2,{\"id\":3}]"));
+		assertEquals(2, records.size());
+		assertEquals("1", records.get(0).get("id"));
+		assertEquals("3", records.get(1).get("id"));
+	}
+
+	@Test
+	public void testReadValue() throws IOException {
+		assertEquals("abc", BugzillaRestJsonUtil.readValue(reader("\"abc\"")));
+		assertEquals(Arrays.asList("1", "b"), BugzillaRestJsonUtil.readValue(reader("[1,\"b\",null,{\"c\":2}]")));
+		assertNull(BugzillaRestJsonUtil.readValue(reader("null")));
+	}
+
+	@Test
+	public void testParseDate() {
+		assertEquals(new Date(0), BugzillaRestJsonUtil.parseDate("1970-01-01T00:00:00Z"));
+		assertNull(BugzillaRestJsonUtil.parseDate(null));
+	}
+
+	@Test
+	public void testFormatDate() {
+		assertEquals("1970-01-01T00:00:00Z", BugzillaRestJsonUtil.formatDate(new Date(0)));
+		Date date = new Date(1459254705000L);
+		assertEquals(date, BugzillaRestJsonUtil.parseDate(BugzillaRestJsonUtil.formatDate(date)));
+	}
+
+	private JsonReader reader(String json) {
+		JsonReader reader = new JsonReader(new StringReader(json));
+		reader.setLenient(true);
+		return reader;
+	}
+
+}
@@ -13,19 +13,29 @@ package org.eclipse.mylyn.internal.bugzilla.rest.core;
 
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.mylyn.commons.core.StatusHandler;
 import org.eclipse.mylyn.commons.core.operations.IOperationMonitor;
+import org.eclipse.mylyn.commons.core.operations.OperationUtil;
 import org.eclipse.mylyn.commons.repositories.core.RepositoryLocation;
 import org.eclipse.mylyn.commons.repositories.core.auth.AuthenticationType;
 import org.eclipse.mylyn.commons.repositories.core.auth.UserCredentials;
@@ -187,34 +197,111 @@ public class BugzillaRestClient {
 
 		Iterable<String> taskIdsTemp = Iterables.transform(taskIds, removeLeadingZero);
 		Iterable<List<String>> partitions = Iterables.partition(taskIdsTemp, MAX_RETRIEVED_PER_QUERY);
-		for (List<String> list : partitions) {
-			Joiner joiner = Joiner.on(",id=").skipNulls(); //$NON-NLS-1$
-			String urlIDList = "id=" + joiner.join(list); //$NON-NLS-1$
-			try {
-
-				List<TaskData> taskDataArray = new BugzillaRestGetTaskData(client, connector, urlIDList, taskRepository)
-						.run(monitor);
-				for (TaskData taskData : taskDataArray) {
-					new BugzillaRestGetTaskComments(getClient(), taskData).run(monitor);
-					new BugzillaRestGetTaskAttachments(getClient(), taskData).run(monitor);
-					config.updateProductOptions(taskData);
-					config.addValidOperations(taskData);
-					collector.accept(taskData);
-				}
-			} catch (RuntimeException e) {
-				// if the Throwable was warped in a RuntimeException in
-				// BugzillaRestGetTaskData.JSonTaskDataDeserializer.deserialize()
-				// we now remove the warper and throw a  BugzillaRestException
-				Throwable cause = e.getCause();
-				if (cause instanceof CoreException) {
-					throw new BugzillaRestException(cause);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (List<String> list : partitions) {
+				Joiner joiner = Joiner.on(",id=").skipNulls(); //$NON-NLS-1$
+				String urlIDList = "id=" + joiner.join(list); //$NON-NLS-1$
+				try {
+					// comments and attachments of the partition are retrieved while the bugs are retrieved
+					Future<Map<String, List<Map<String, String>>>> comments = executor
+							.submit(createGetBugEntries(list, BugzillaRestGetBugEntries.COMMENTS, null, monitor));
+					Future<Map<String, List<Map<String, String>>>> attachments = executor.submit(
+							createGetBugEntries(list, BugzillaRestGetBugEntries.ATTACHMENTS, "exclude_fields=data", //$NON-NLS-1$
+									monitor));
+
+					List<TaskData> taskDataArray = new BugzillaRestGetTaskData(client, connector, urlIDList,
+							taskRepository).run(monitor);
+					Map<String, List<Map<String, String>>> commentEntries = getBugEntries(comments, monitor);
+					Map<String, List<Map<String, String>>> attachmentEntries = getBugEntries(attachments, monitor);
+					for (TaskData taskData : taskDataArray) {
+						List<Map<String, String>> commentEntry = commentEntries.get(taskData.getTaskId());
+						if (commentEntry != null) {
+							BugzillaRestGetTaskComments.addComments(taskData, commentEntry);
+						} else {
+							new BugzillaRestGetTaskComments(getClient(), taskData).run(monitor);
+						}
+						List<Map<String, String>> attachmentEntry = attachmentEntries.get(taskData.getTaskId());
+						if (attachmentEntry != null) {
+							BugzillaRestGetTaskAttachments.addAttachments(taskData, attachmentEntry);
+						} else {
+							new BugzillaRestGetTaskAttachments(getClient(), taskData).run(monitor);
+						}
+						config.updateProductOptions(taskData);
+						config.addValidOperations(taskData);
+						collector.accept(taskData);
+					}
+				} catch (RuntimeException e) {
+					// if the Throwable was warped in a RuntimeException in
+					// BugzillaRestGetTaskData.TaskDataReader.read()
+					// we now remove the warper and throw a  BugzillaRestException
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException) {
+						throw new BugzillaRestException(cause);
+					}
+					throw e;
 				}
-				throw e;
 			}
+		} finally {
+			executor.shutdownNow();
 		}
 
 	}
 
+	/**
+	 * Creates a task that retrieves comments or attachments on a worker thread. The request is canceled when
+	 * <code>monitor</code> is canceled, progress is not reported since the monitor may not be used from other threads.
+	 */
+	private Callable<Map<String, List<Map<String, String>>>> createGetBugEntries(final List<String> ids,
+			final String resource, final String parameters, final IOperationMonitor monitor) {
+		return new Callable<Map<String, List<Map<String, String>>>>() {
+			public Map<String, List<Map<String, String>>> call() throws Exception {
+				IOperationMonitor batchMonitor = OperationUtil.convert(new NullProgressMonitor() {
+					@Override
+					public boolean isCanceled() {
+						return super.isCanceled() || (monitor != null && monitor.isCanceled());
+					}
+				});
+				return new BugzillaRestGetBugEntries(client, ids, resource, parameters).run(batchMonitor);
+			}
+		};
+	}
+
+	/**
+	 * Returns the entries retrieved by <code>future</code>. If the batched request failed an empty map is returned and
+	 * the entries are retrieved for each task individually.
+	 *
+	 * @throws OperationCanceledException
+	 *             if the request was canceled
+	 */
+	private Map<String, List<Map<String, String>>> getBugEntries(
+			Future<Map<String, List<Map<String, String>>>> future, IOperationMonitor monitor) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (CancellationException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			if (cause instanceof OperationCanceledException || (monitor != null && monitor.isCanceled())) {
+				throw new OperationCanceledException();
+			}
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Returns the ids and <code>last_change_time</code> of all bugs that were modified at or after <code>since</code>
+	 * which is an ISO 8601 timestamp.
+	 */
+	public Map<String, String> getChangedTasks(String since, IOperationMonitor monitor) throws BugzillaRestException {
+		return new BugzillaRestGetChangedTasks(client, since).run(monitor);
+	}
+
 	public IStatus performQuery(TaskRepository taskRepository, final IRepositoryQuery query,
 			final TaskDataCollector resultCollector, IOperationMonitor monitor) throws BugzillaRestException {
 		String urlIDList = query.getUrl();
@@ -16,8 +16,10 @@ import java.beans.PropertyChangeListener;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -56,6 +58,7 @@ import org.eclipse.mylyn.tasks.core.data.TaskMapper;
 import org.eclipse.mylyn.tasks.core.sync.ISynchronizationSession;
 
 import com.google.common.base.Optional;
+import com.google.common.base.Strings;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -254,6 +257,113 @@ public class BugzillaRestConnector extends AbstractRepositoryConnector {
 		}
 	}
 
+	@Override
+	public void preSynchronization(ISynchronizationSession session, IProgressMonitor monitor) throws CoreException {
+		monitor = Policy.monitorFor(monitor);
+		try {
+			monitor.beginTask("preSynchronization", IProgressMonitor.UNKNOWN); //$NON-NLS-1$
+			if (!session.isFullSynchronization() || session.getTasks().isEmpty()) {
+				return;
+			}
+
+			TaskRepository repository = session.getTaskRepository();
+			String since = repository.getSynchronizationTimeStamp();
+			Date sinceDate = parseTimestamp(since);
+			if (sinceDate == null) {
+				for (ITask task : session.getTasks()) {
+					session.markStale(task);
+				}
+				return;
+			}
+
+			Map<String, String> changedTasks;
+			try {
+				changedTasks = getClient(repository).getChangedTasks(since, OperationUtil.convert(monitor));
+			} catch (BugzillaRestException e) {
+				throw new CoreException(new Status(IStatus.ERROR, BugzillaRestCore.ID_PLUGIN,
+						"Could not determine changed tasks", e)); //$NON-NLS-1$
+			}
+
+			Map<String, ITask> taskById = new HashMap<String, ITask>();
+			for (ITask task : session.getTasks()) {
+				taskById.put(task.getTaskId(), task);
+			}
+			boolean changed = false;
+			Date mostRecent = sinceDate;
+			for (Entry<String, String> entry : changedTasks.entrySet()) {
+				Date lastChanged = parseTimestamp(entry.getValue());
+				if (lastChanged == null) {
+					continue;
+				}
+				// the search includes bugs that were modified at the time of the last synchronization
+				boolean modified = lastChanged.after(sinceDate);
+				ITask task = taskById.get(entry.getKey());
+				if (task != null && !lastChanged.equals(task.getModificationDate())) {
+					session.markStale(task);
+					modified = true;
+				}
+				changed |= modified;
+				if (lastChanged.after(mostRecent)) {
+					mostRecent = lastChanged;
+				}
+			}
+
+			if (!changed) {
+				// repository is unchanged
+				session.setNeedsPerformQueries(false);
+			}
+			session.setData(formatTimestamp(mostRecent));
+		} finally {
+			monitor.done();
+		}
+	}
+
+	@Override
+	public void postSynchronization(ISynchronizationSession event, IProgressMonitor monitor) throws CoreException {
+		monitor = Policy.monitorFor(monitor);
+		try {
+			monitor.beginTask("", 1); //$NON-NLS-1$
+			if (event.isFullSynchronization() && event.getStatus() == null) {
+				String timestamp = getSynchronizationTimestamp(event);
+				if (timestamp != null) {
+					event.getTaskRepository().setSynchronizationTimeStamp(timestamp);
+				}
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	private String getSynchronizationTimestamp(ISynchronizationSession event) {
+		if (event.getData() instanceof String) {
+			return (String) event.getData();
+		}
+		Date mostRecent = parseTimestamp(event.getTaskRepository().getSynchronizationTimeStamp());
+		for (ITask task : event.getChangedTasks()) {
+			Date taskModifiedDate = task.getModificationDate();
+			if (taskModifiedDate != null && (mostRecent == null || taskModifiedDate.after(mostRecent))) {
+				mostRecent = taskModifiedDate;
+			}
+		}
+		return (mostRecent != null) ? formatTimestamp(mostRecent) : null;
+	}
+
+	private static Date parseTimestamp(String timestamp) {
+		if (Strings.isNullOrEmpty(timestamp)) {
+			return null;
+		}
+		try {
+			return BugzillaRestJsonUtil.parseDate(timestamp);
+		} catch (RuntimeException e) {
+			// the time stamp was not set by this connector
+			return null;
+		}
+	}
+
+	private static String formatTimestamp(Date date) {
+		return BugzillaRestJsonUtil.formatDate(date);
+	}
+
 	@Override
 	public void updateRepositoryConfiguration(TaskRepository taskRepository, IProgressMonitor monitor)
 			throws CoreException {
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.bugzilla.rest.core;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpClient;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Retrieves the comments or attachments of several bugs with a single request. The result maps bug ids to the
+ * comments or attachments of each bug so that they can be merged into task data that is retrieved concurrently.
+ * <p>
+ * The first id is passed in the path and the remaining ids as <code>ids</code> parameters. Servers that only return
+ * the bug from the path omit the other bugs from the result.
+ */
+public class BugzillaRestGetBugEntries extends BugzillaRestGetRequest<Map<String, List<Map<String, String>>>> {
+
+	public static final String COMMENTS = "comment"; //$NON-NLS-1$
+
+	public static final String ATTACHMENTS = "attachment"; //$NON-NLS-1$
+
+	private final String resource;
+
+	public BugzillaRestGetBugEntries(CommonHttpClient client, List<String> ids, String resource, String parameters) {
+		super(client, createUrlSuffix(ids, resource, parameters), null);
+		this.resource = resource;
+	}
+
+	private static String createUrlSuffix(List<String> ids, String resource, String parameters) {
+		StringBuilder query = new StringBuilder();
+		for (int i = 1; i < ids.size(); i++) {
+			if (query.length() > 0) {
+				query.append("&"); //$NON-NLS-1$
+			}
+			query.append("ids=").append(ids.get(i)); //$NON-NLS-1$
+		}
+		if (parameters != null && parameters.length() > 0) {
+			if (query.length() > 0) {
+				query.append("&"); //$NON-NLS-1$
+			}
+			query.append(parameters);
+		}
+		StringBuilder sb = new StringBuilder();
+		sb.append("/bug/").append(ids.get(0)).append("/").append(resource); //$NON-NLS-1$ //$NON-NLS-2$
+		if (query.length() > 0) {
+			sb.append("?").append(query); //$NON-NLS-1$
+		}
+		return sb.toString();
+	}
+
+	@Override
+	protected Map<String, List<Map<String, String>>> parseFromJson(InputStreamReader in)
+			throws BugzillaRestException {
+		try {
+			return readBugEntries(new JsonReader(in), resource);
+		} catch (IOException e) {
+			throw new BugzillaRestException(e);
+		}
+	}
+
+	/**
+	 * Reads the <code>bugs</code> object of a comment or attachment response. Comments are nested in a
+	 * <code>comments</code> member of each bug while attachments are listed directly.
+	 */
+	static Map<String, List<Map<String, String>>> readBugEntries(JsonReader in, String resource)
+			throws IOException {
+		Map<String, List<Map<String, String>>> result = new HashMap<String, List<Map<String, String>>>();
+		in.beginObject();
+		while (in.hasNext()) {
+			if (!"bugs".equals(in.nextName())) { //$NON-NLS-1$
+				in.skipValue();
+				continue;
+			}
+			in.beginObject();
+			while (in.hasNext()) {
+				String id = in.nextName();
+				if (COMMENTS.equals(resource)) {
+					in.beginObject();
+					while (in.hasNext()) {
+						if ("comments".equals(in.nextName())) { //$NON-NLS-1$
+							result.put(id, BugzillaRestJsonUtil.readRecords(in));
+						} else {
+							in.skipValue();
+						}
+					}
+					in.endObject();
+				} else {
+					result.put(id, BugzillaRestJsonUtil.readRecords(in));
+				}
+			}
+			in.endObject();
+		}
+		in.endObject();
+		return result;
+	}
+
+}
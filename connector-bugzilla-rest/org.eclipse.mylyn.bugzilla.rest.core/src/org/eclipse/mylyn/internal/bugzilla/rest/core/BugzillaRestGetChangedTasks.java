@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.bugzilla.rest.core;
+
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpClient;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Searches for the bugs that were modified at or after a given time. The result maps the ids of the bugs to their
+ * <code>last_change_time</code>. The search is not limited by the <code>default_search_limit</code> of the server since
+ * bugs that are missing from the result would not be synchronized.
+ */
+public class BugzillaRestGetChangedTasks extends BugzillaRestGetRequest<Map<String, String>> {
+
+	public BugzillaRestGetChangedTasks(CommonHttpClient client, String since) {
+		super(client, "/bug?include_fields=id,last_change_time&limit=0&last_change_time=" + encode(since), null); //$NON-NLS-1$
+	}
+
+	private static String encode(String value) {
+		try {
+			return URLEncoder.encode(value, "UTF-8"); //$NON-NLS-1$
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	protected Map<String, String> parseFromJson(InputStreamReader in) {
+		Map<String, String> result = new HashMap<String, String>();
+		JsonElement bugs = new JsonParser().parse(in).getAsJsonObject().get("bugs"); //$NON-NLS-1$
+		if (bugs != null && bugs.isJsonArray()) {
+			for (JsonElement bug : bugs.getAsJsonArray()) {
+				JsonObject bugdata = bug.getAsJsonObject();
+				result.put(bugdata.get("id").getAsString(), bugdata.get("last_change_time").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return result;
+	}
+
+}
@@ -17,7 +17,6 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpClient;
 
-import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 
 public class BugzillaRestGetRequest<T> extends BugzillaRestRequest<T> {
@@ -44,6 +43,6 @@ public class BugzillaRestGetRequest<T> extends BugzillaRestRequest<T> {
 
 	@Override
 	protected T parseFromJson(InputStreamReader in) throws BugzillaRestException {
-		return new Gson().fromJson(in, responseType.getType());
+		return getGson().fromJson(in, responseType.getType());
 	}
 }
@@ -11,31 +11,18 @@
 
 package org.eclipse.mylyn.internal.bugzilla.rest.core;
 
+import java.io.IOException;
 import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.Locale;
-import java.util.Map.Entry;
-import java.util.TimeZone;
+import java.util.List;
+import java.util.Map;
 
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpClient;
 import org.eclipse.mylyn.tasks.core.IRepositoryPerson;
 import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
 
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 public class BugzillaRestGetTaskAttachments extends BugzillaRestGetRequest<ArrayList<TaskAttribute>> {
 	private final TaskData taskData;
@@ -46,65 +33,53 @@ public class BugzillaRestGetTaskAttachments extends BugzillaRestGetRequest<Array
 	}
 
 	@Override
-	protected ArrayList<TaskAttribute> parseFromJson(InputStreamReader in) {
-		TypeToken<ArrayList<TaskAttribute>> type = new TypeToken<ArrayList<TaskAttribute>>() {
-		};
-		return new GsonBuilder().registerTypeAdapter(type.getType(), new JSonTaskDataDeserializer())
-				.create()
-				.fromJson(in, type.getType());
+	protected ArrayList<TaskAttribute> parseFromJson(InputStreamReader in) throws BugzillaRestException {
+		ArrayList<TaskAttribute> response = new ArrayList<TaskAttribute>();
+		try {
+			for (List<Map<String, String>> attachments : BugzillaRestGetBugEntries
+					.readBugEntries(new JsonReader(in), BugzillaRestGetBugEntries.ATTACHMENTS)
+					.values()) {
+				response.addAll(addAttachments(taskData, attachments));
+			}
+		} catch (IOException e) {
+			throw new BugzillaRestException(e);
+		}
+		return response;
 	}
 
-	BugzillaRestTaskSchema taskSchema = BugzillaRestTaskSchema.getDefault();
-
-	private class JSonTaskDataDeserializer implements JsonDeserializer<ArrayList<TaskAttribute>> {
-
-		@Override
-		public ArrayList<TaskAttribute> deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-				throws JsonParseException {
-			ArrayList<TaskAttribute> response = new ArrayList<TaskAttribute>();
+	/**
+	 * Creates the attachment attributes of <code>taskData</code> from the attachments of a bug in an attachment
+	 * response.
+	 */
+	static List<TaskAttribute> addAttachments(TaskData taskData, List<Map<String, String>> attachments) {
+		List<TaskAttribute> response = new ArrayList<TaskAttribute>();
+		for (Map<String, String> attachmentObject : attachments) {
+			String id = attachmentObject.get("id"); //$NON-NLS-1$
+			String creator = attachmentObject.get("creator"); //$NON-NLS-1$
+			String size = attachmentObject.get("size"); //$NON-NLS-1$
+			TaskAttribute attachmentAttribute = taskData.getRoot().createAttribute(TaskAttribute.PREFIX_ATTACHMENT + id);
+			BugzillaRestAttachmentMapper attachmentMapper = BugzillaRestAttachmentMapper.createFrom(attachmentAttribute);
+			attachmentMapper.setAttachmentId(id);
 
-			for (Entry<String, JsonElement> bugEntry : ((JsonObject) json.getAsJsonObject().get("bugs")).entrySet()) { //$NON-NLS-1$
-				for (JsonElement jsonElement : bugEntry.getValue().getAsJsonArray()) {
-					JsonObject attachmentObject = (JsonObject) jsonElement;
-					String id = attachmentObject.get("id").getAsString(); //$NON-NLS-1$
-					String creator = attachmentObject.get("creator").getAsString(); //$NON-NLS-1$
-					Long size = attachmentObject.get("size").getAsLong(); //$NON-NLS-1$
-					TaskAttribute attachmentAttribute = taskData.getRoot()
-							.createAttribute(TaskAttribute.PREFIX_ATTACHMENT + id);
-					BugzillaRestAttachmentMapper attachmentMapper = BugzillaRestAttachmentMapper
-							.createFrom(attachmentAttribute);
-					attachmentMapper.setAttachmentId(id);
-
-					IRepositoryPerson author = taskData.getAttributeMapper().getTaskRepository().createPerson(creator);
-					author.setName(creator);
-					attachmentMapper.setAuthor(author);
-					attachmentMapper.setLength(size != null ? size : -1L);
-					try {
-						SimpleDateFormat iso8601Format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.US); //$NON-NLS-1$
-						iso8601Format.setTimeZone(TimeZone.getTimeZone("UTC")); //$NON-NLS-1$
-						Date tempDate = iso8601Format.parse(attachmentObject.get("creation_time").getAsString()); //$NON-NLS-1$
-						attachmentMapper.setCreationDate(tempDate);
-						tempDate = iso8601Format.parse(attachmentObject.get("last_change_time").getAsString()); //$NON-NLS-1$
-						attachmentMapper.setDeltaDate(tempDate);
-					} catch (ParseException e) {
-						com.google.common.base.Throwables.propagate(new CoreException(new Status(IStatus.ERROR,
-								BugzillaRestCore.ID_PLUGIN,
-								"Can not parse Date (" + attachmentObject.get("creation_time").getAsString() + ")"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-					}
-					attachmentMapper.setContentType(attachmentObject.get("content_type").getAsString()); //$NON-NLS-1$
-					attachmentMapper.setDeprecated(attachmentObject.get("is_obsolete") //$NON-NLS-1$
-							.getAsString()
-							.equals(Integer.valueOf(1)));
-					attachmentMapper.setDescription(attachmentObject.get("summary").getAsString()); //$NON-NLS-1$
-					attachmentMapper.setFileName(attachmentObject.get("file_name").getAsString()); //$NON-NLS-1$
-					attachmentMapper
-							.setPatch(attachmentObject.get("is_patch").getAsString().equals(Integer.valueOf(1))); //$NON-NLS-1$
-					attachmentMapper.applyTo(attachmentAttribute);
-				}
-			}
-			return response;
+			IRepositoryPerson author = taskData.getAttributeMapper().getTaskRepository().createPerson(creator);
+			author.setName(creator);
+			attachmentMapper.setAuthor(author);
+			attachmentMapper.setLength(size != null ? Long.parseLong(size) : -1L);
+			attachmentMapper.setCreationDate(BugzillaRestJsonUtil.parseDate(attachmentObject.get("creation_time"))); //$NON-NLS-1$
+			attachmentMapper.setDeltaDate(BugzillaRestJsonUtil.parseDate(attachmentObject.get("last_change_time"))); //$NON-NLS-1$
+			attachmentMapper.setContentType(attachmentObject.get("content_type")); //$NON-NLS-1$
+			attachmentMapper.setDeprecated(isTrue(attachmentObject.get("is_obsolete"))); //$NON-NLS-1$
+			attachmentMapper.setDescription(attachmentObject.get("summary")); //$NON-NLS-1$
+			attachmentMapper.setFileName(attachmentObject.get("file_name")); //$NON-NLS-1$
+			attachmentMapper.setPatch(isTrue(attachmentObject.get("is_patch"))); //$NON-NLS-1$
+			attachmentMapper.applyTo(attachmentAttribute);
+			response.add(attachmentAttribute);
 		}
+		return response;
+	}
 
+	private static boolean isTrue(String value) {
+		return "1".equals(value) || "true".equals(value); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
-}
\ No newline at end of file
+}
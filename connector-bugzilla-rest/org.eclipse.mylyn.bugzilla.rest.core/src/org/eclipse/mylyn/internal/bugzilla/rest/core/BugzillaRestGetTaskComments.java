@@ -11,32 +11,19 @@
 
 package org.eclipse.mylyn.internal.bugzilla.rest.core;
 
+import java.io.IOException;
 import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.Locale;
-import java.util.Map.Entry;
-import java.util.TimeZone;
+import java.util.List;
+import java.util.Map;
 
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpClient;
 import org.eclipse.mylyn.tasks.core.IRepositoryPerson;
 import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
 import org.eclipse.mylyn.tasks.core.data.TaskCommentMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
 
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 public class BugzillaRestGetTaskComments extends BugzillaRestGetRequest<ArrayList<TaskAttribute>> {
 	private final TaskData taskData;
@@ -47,79 +34,66 @@ public class BugzillaRestGetTaskComments extends BugzillaRestGetRequest<ArrayLis
 	}
 
 	@Override
-	protected ArrayList<TaskAttribute> parseFromJson(InputStreamReader in) {
-		TypeToken<ArrayList<TaskAttribute>> type = new TypeToken<ArrayList<TaskAttribute>>() {
-		};
-		return new GsonBuilder().registerTypeAdapter(type.getType(), new JSonTaskDataDeserializer())
-				.create()
-				.fromJson(in, type.getType());
+	protected ArrayList<TaskAttribute> parseFromJson(InputStreamReader in) throws BugzillaRestException {
+		ArrayList<TaskAttribute> response = new ArrayList<TaskAttribute>();
+		try {
+			for (List<Map<String, String>> comments : BugzillaRestGetBugEntries
+					.readBugEntries(new JsonReader(in), BugzillaRestGetBugEntries.COMMENTS)
+					.values()) {
+				response.addAll(addComments(taskData, comments));
+			}
+		} catch (IOException e) {
+			throw new BugzillaRestException(e);
+		}
+		return response;
 	}
 
-	BugzillaRestTaskSchema taskSchema = BugzillaRestTaskSchema.getDefault();
-
-	private class JSonTaskDataDeserializer implements JsonDeserializer<ArrayList<TaskAttribute>> {
-
-		@Override
-		public ArrayList<TaskAttribute> deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-				throws JsonParseException {
-			ArrayList<TaskAttribute> response = new ArrayList<TaskAttribute>();
-			for (Entry<String, JsonElement> commentEntry : ((JsonObject) json.getAsJsonObject().get("bugs")) //$NON-NLS-1$
-					.entrySet()) {
-				for (JsonElement jsonElement : ((JsonObject) commentEntry.getValue()).get("comments") //$NON-NLS-1$
-						.getAsJsonArray()) {
-					JsonObject comment = (JsonObject) jsonElement;
-					int count = comment.get("count").getAsInt(); //$NON-NLS-1$
-					if (count == 0) {
-						TaskAttribute desc = taskData.getRoot().getMappedAttribute(taskSchema.DESCRIPTION.getKey());
-						desc.setValue(comment.get("text").getAsString()); //$NON-NLS-1$
-						TaskAttribute cid = desc.getAttribute(taskSchema.COMMENT_NUMBER.getKey());
-						cid.setValue(comment.get("id").getAsString()); //$NON-NLS-1$
-						TaskAttribute cidp = desc.getAttribute(taskSchema.COMMENT_ISPRIVATE.getKey());
-						cidp.setValue(comment.get("is_private").getAsBoolean() ? "1" : "0"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
-						response.add(desc);
-					} else {
-						TaskAttribute attribute = taskData.getRoot()
-								.createAttribute(TaskAttribute.PREFIX_COMMENT + count);
-						TaskCommentMapper taskComment = TaskCommentMapper.createFrom(attribute);
-						taskComment.setCommentId(comment.get("id").getAsString()); //$NON-NLS-1$
-						taskComment.setNumber(count);
-						taskComment.setUrl(taskData.getRepositoryUrl() + "/show_bug.cgi?id=" //$NON-NLS-1$
-								+ taskData.getTaskId() + "#c" + count); //$NON-NLS-1$
-						IRepositoryPerson author = taskData.getAttributeMapper()
-								.getTaskRepository()
-								.createPerson(comment.get("creator").getAsString()); //$NON-NLS-1$
-						author.setName(comment.get("creator").getAsString()); //$NON-NLS-1$
-						taskComment.setAuthor(author);
-						JsonElement isPrivate = comment.get("is_private"); //$NON-NLS-1$
-						if (isPrivate != null) {
-							taskComment.setIsPrivate(isPrivate.getAsBoolean());
-						} else {
-							taskComment.setIsPrivate(null);
-						}
-						try {
-							SimpleDateFormat iso8601Format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", //$NON-NLS-1$
-									Locale.US);
-							iso8601Format.setTimeZone(TimeZone.getTimeZone("UTC")); //$NON-NLS-1$
-							Date tempDate = iso8601Format.parse(comment.get("creation_time").getAsString()); //$NON-NLS-1$
-							taskComment.setCreationDate(tempDate);
-						} catch (ParseException e) {
-							com.google.common.base.Throwables.propagate(new CoreException(new Status(IStatus.ERROR,
-									BugzillaRestCore.ID_PLUGIN,
-									"Can not parse Date (" + comment.get("creation_time").getAsString() + ")"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-						}
-
-						if (comment.get("text").getAsString() != null) { //$NON-NLS-1$
-							String commentText = comment.get("text").getAsString().trim(); //$NON-NLS-1$
-							taskComment.setText(commentText);
-						}
-						taskComment.applyTo(attribute);
-						response.add(attribute);
-					}
+	/**
+	 * Creates the comment attributes of <code>taskData</code> from the comments of a bug in a comment response.
+	 */
+	static List<TaskAttribute> addComments(TaskData taskData, List<Map<String, String>> comments) {
+		BugzillaRestTaskSchema taskSchema = BugzillaRestTaskSchema.getDefault();
+		List<TaskAttribute> response = new ArrayList<TaskAttribute>();
+		for (Map<String, String> comment : comments) {
+			int count = Integer.parseInt(comment.get("count")); //$NON-NLS-1$
+			if (count == 0) {
+				TaskAttribute desc = taskData.getRoot().getMappedAttribute(taskSchema.DESCRIPTION.getKey());
+				desc.setValue(comment.get("text")); //$NON-NLS-1$
+				TaskAttribute cid = desc.getAttribute(taskSchema.COMMENT_NUMBER.getKey());
+				cid.setValue(comment.get("id")); //$NON-NLS-1$
+				TaskAttribute cidp = desc.getAttribute(taskSchema.COMMENT_ISPRIVATE.getKey());
+				cidp.setValue(Boolean.parseBoolean(comment.get("is_private")) ? "1" : "0"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
+				response.add(desc);
+			} else {
+				TaskAttribute attribute = taskData.getRoot().createAttribute(TaskAttribute.PREFIX_COMMENT + count);
+				TaskCommentMapper taskComment = TaskCommentMapper.createFrom(attribute);
+				taskComment.setCommentId(comment.get("id")); //$NON-NLS-1$
+				taskComment.setNumber(count);
+				taskComment.setUrl(taskData.getRepositoryUrl() + "/show_bug.cgi?id=" //$NON-NLS-1$
+						+ taskData.getTaskId() + "#c" + count); //$NON-NLS-1$
+				String creator = comment.get("creator"); //$NON-NLS-1$
+				IRepositoryPerson author = taskData.getAttributeMapper().getTaskRepository().createPerson(creator);
+				author.setName(creator);
+				taskComment.setAuthor(author);
+				String isPrivate = comment.get("is_private"); //$NON-NLS-1$
+				if (isPrivate != null) {
+					taskComment.setIsPrivate(Boolean.parseBoolean(isPrivate));
+				} else {
+					taskComment.setIsPrivate(null);
+				}
+				String creationTime = comment.get("creation_time"); //$NON-NLS-1$
+				if (creationTime != null) {
+					taskComment.setCreationDate(BugzillaRestJsonUtil.parseDate(creationTime));
 				}
+				String text = comment.get("text"); //$NON-NLS-1$
+				if (text != null) {
+					taskComment.setText(text.trim());
+				}
+				taskComment.applyTo(attribute);
+				response.add(attribute);
 			}
-			return response;
 		}
-
+		return response;
 	}
 
-}
\ No newline at end of file
+}
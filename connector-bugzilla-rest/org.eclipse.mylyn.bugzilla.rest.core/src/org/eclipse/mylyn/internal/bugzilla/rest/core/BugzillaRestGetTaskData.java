@@ -14,20 +14,14 @@ package org.eclipse.mylyn.internal.bugzilla.rest.core;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TimeZone;
 
 import org.apache.http.HttpStatus;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.commons.core.operations.IOperationMonitor;
 import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpClient;
 import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpResponse;
@@ -38,14 +32,7 @@ import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
 import org.eclipse.osgi.util.NLS;
 
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 public class BugzillaRestGetTaskData extends BugzillaRestGetRequest<List<TaskData>> {
 
@@ -62,11 +49,11 @@ public class BugzillaRestGetTaskData extends BugzillaRestGetRequest<List<TaskDat
 
 	@Override
 	protected List<TaskData> parseFromJson(InputStreamReader in) throws BugzillaRestException {
-		TypeToken<List<TaskData>> type = new TypeToken<List<TaskData>>() {
-		};
-		return new GsonBuilder().registerTypeAdapter(type.getType(), new JSonTaskDataDeserializer())
-				.create()
-				.fromJson(in, type.getType());
+		try {
+			return new TaskDataReader().read(new JsonReader(in));
+		} catch (IOException e) {
+			throw new BugzillaRestException(e);
+		}
 	}
 
 	@Override
@@ -94,93 +81,129 @@ public class BugzillaRestGetTaskData extends BugzillaRestGetRequest<List<TaskDat
 
 	BugzillaRestTaskSchema taskSchema = BugzillaRestTaskSchema.getDefault();
 
-	private class JSonTaskDataDeserializer implements JsonDeserializer<ArrayList<TaskData>> {
+	/**
+	 * Reads the bugs of a response directly into task data. Members that do not correspond to an attribute are
+	 * skipped without being read.
+	 */
+	private class TaskDataReader {
+
+		private final BugzillaRestTaskDataHandler dataHandler = (BugzillaRestTaskDataHandler) connector
+				.getTaskDataHandler();
 
-		@Override
-		public ArrayList<TaskData> deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-				throws JsonParseException {
+		private final TaskAttributeMapper mapper = dataHandler.getAttributeMapper(taskRepository);
+
+		public List<TaskData> read(JsonReader in) throws IOException {
 			ArrayList<TaskData> response = new ArrayList<TaskData>();
-			BugzillaRestTaskDataHandler dataHandler = (BugzillaRestTaskDataHandler) connector.getTaskDataHandler();
-			TaskAttributeMapper mapper = dataHandler.getAttributeMapper(taskRepository);
-			for (JsonElement bug : json.getAsJsonObject().get("bugs").getAsJsonArray()) { //$NON-NLS-1$
-				JsonObject bugdata = bug.getAsJsonObject();
-				TaskData taskData = null;
-				Integer taskId = bugdata.get("id").getAsInt(); //$NON-NLS-1$
-				taskData = new TaskData(mapper, connector.getConnectorKind(), taskRepository.getRepositoryUrl(),
-						taskId.toString());
-				try {
-					dataHandler.initializeTaskData(taskRepository, taskData, null, null);
-				} catch (CoreException e) {
-					com.google.common.base.Throwables.propagate(e);
-				}
-				TaskAttribute idAttribute = taskData.getRoot().getAttribute(taskSchema.BUG_ID.getKey());
-				idAttribute.setValue(taskId.toString());
-				response.add(taskData);
-				for (Entry<String, JsonElement> entry : bugdata.entrySet()) {
-					String attributeId = BugzillaRestTaskSchema.getAttributeNameFromFieldName(entry.getKey());
-					if (entry.getKey().equals("assigned_to_detail")) { //$NON-NLS-1$
-						TaskAttribute attribute = taskData.getRoot().getAttribute(taskSchema.ASSIGNED_TO.getKey());
-						if (attribute != null) {
-							JsonElement value = entry.getValue().getAsJsonObject().get("email"); //$NON-NLS-1$
-							if (value != null) {
-								attribute.setValue(value.getAsString());
-							} else {
-								value = entry.getValue().getAsJsonObject().get("name"); //$NON-NLS-1$
-								if (value != null) {
-									attribute.setValue(value.getAsString());
-								}
-							}
-						}
-						continue;
-					} else if (entry.getKey().equals("last_change_time")) { //$NON-NLS-1$
-						TaskAttribute attribute = taskData.getRoot()
-								.getAttribute(taskSchema.DATE_MODIFICATION.getKey());
-						JsonElement value = entry.getValue(); //.get("real_name");
-						if (attribute != null) {
-							try {
-								SimpleDateFormat iso8601Format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", //$NON-NLS-1$
-										Locale.US);
-								iso8601Format.setTimeZone(TimeZone.getTimeZone("UTC")); //$NON-NLS-1$
-								Date tempDate = iso8601Format.parse(value.getAsString());
-								attribute.setValue(Long.toString(tempDate.getTime()));
-								continue;
-							} catch (ParseException e) {
-								com.google.common.base.Throwables.propagate(
-										new CoreException(new Status(IStatus.ERROR, BugzillaRestCore.ID_PLUGIN,
-												"Can not parse Date (" + value.getAsString() + ")"))); //$NON-NLS-1$ //$NON-NLS-2$
-							}
-						}
+			in.beginObject();
+			while (in.hasNext()) {
+				if ("bugs".equals(in.nextName())) { //$NON-NLS-1$
+					in.beginArray();
+					while (in.hasNext()) {
+						response.add(readTaskData(in));
 					}
+					in.endArray();
+				} else {
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			return response;
+		}
 
-					TaskAttribute attribute = taskData.getRoot().getAttribute(attributeId);
-					if (attribute != null) {
-						JsonElement value = entry.getValue();
-						if (!value.isJsonNull()) {
-							if (value.isJsonArray()) {
-								JsonArray valueArray = value.getAsJsonArray();
-								attribute.clearValues();
-								for (JsonElement jsonElement : valueArray) {
-									attribute.addValue(jsonElement.getAsString());
-								}
-							} else {
-								attribute.setValue(entry.getValue().getAsString());
-							}
+		private TaskData readTaskData(JsonReader in) throws IOException {
+			TaskData taskData = null;
+			// members that precede the id are kept until the task data has been created
+			Map<String, Object> pending = new LinkedHashMap<String, Object>();
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if (taskData == null) {
+					if ("id".equals(name)) { //$NON-NLS-1$
+						taskData = createTaskData(in.nextString());
+						for (Entry<String, Object> entry : pending.entrySet()) {
+							setValue(taskData, entry.getKey(), entry.getValue());
 						}
+						pending = null;
+					} else {
+						pending.put(name, BugzillaRestJsonUtil.readValue(in));
 					}
+				} else if (hasAttribute(taskData, name)) {
+					setValue(taskData, name, BugzillaRestJsonUtil.readValue(in));
+				} else {
+					in.skipValue();
 				}
-				BugzillaRestConfiguration config;
-				try {
-					config = connector.getRepositoryConfiguration(taskRepository);
-					if (config != null) {
-						config.addValidOperations(taskData);
+			}
+			in.endObject();
+			if (taskData == null) {
+				throw new IOException("Missing id of bug"); //$NON-NLS-1$
+			}
+			BugzillaRestConfiguration config;
+			try {
+				config = connector.getRepositoryConfiguration(taskRepository);
+				if (config != null) {
+					config.addValidOperations(taskData);
+				}
+			} catch (CoreException e) {
+				com.google.common.base.Throwables.propagate(e);
+			}
+			return taskData;
+		}
+
+		private TaskData createTaskData(String taskId) {
+			TaskData taskData = new TaskData(mapper, connector.getConnectorKind(), taskRepository.getRepositoryUrl(),
+					taskId);
+			try {
+				dataHandler.initializeTaskData(taskRepository, taskData, null, null);
+			} catch (CoreException e) {
+				com.google.common.base.Throwables.propagate(e);
+			}
+			TaskAttribute idAttribute = taskData.getRoot().getAttribute(taskSchema.BUG_ID.getKey());
+			idAttribute.setValue(taskId);
+			return taskData;
+		}
+
+		private boolean hasAttribute(TaskData taskData, String fieldName) {
+			return getAttribute(taskData, fieldName) != null;
+		}
+
+		private TaskAttribute getAttribute(TaskData taskData, String fieldName) {
+			if (fieldName.equals("assigned_to_detail")) { //$NON-NLS-1$
+				return taskData.getRoot().getAttribute(taskSchema.ASSIGNED_TO.getKey());
+			} else if (fieldName.equals("last_change_time")) { //$NON-NLS-1$
+				return taskData.getRoot().getAttribute(taskSchema.DATE_MODIFICATION.getKey());
+			}
+			return taskData.getRoot().getAttribute(BugzillaRestTaskSchema.getAttributeNameFromFieldName(fieldName));
+		}
+
+		@SuppressWarnings("unchecked")
+		private void setValue(TaskData taskData, String fieldName, Object value) {
+			TaskAttribute attribute = getAttribute(taskData, fieldName);
+			if (attribute == null || value == null) {
+				return;
+			}
+			if (fieldName.equals("assigned_to_detail")) { //$NON-NLS-1$
+				if (value instanceof Map) {
+					Map<String, String> detail = (Map<String, String>) value;
+					if (detail.get("email") != null) { //$NON-NLS-1$
+						attribute.setValue(detail.get("email")); //$NON-NLS-1$
+					} else if (detail.get("name") != null) { //$NON-NLS-1$
+						attribute.setValue(detail.get("name")); //$NON-NLS-1$
 					}
-				} catch (CoreException e) {
-					com.google.common.base.Throwables.propagate(e);
 				}
+			} else if (fieldName.equals("last_change_time")) { //$NON-NLS-1$
+				if (value instanceof String) {
+					attribute.setValue(Long.toString(BugzillaRestJsonUtil.parseDate((String) value).getTime()));
+				}
+			} else if (value instanceof List) {
+				attribute.clearValues();
+				for (String element : (List<String>) value) {
+					attribute.addValue(element);
+				}
+			} else if (value instanceof String) {
+				attribute.setValue((String) value);
 			}
-			return response;
 		}
 
 	}
 
-}
\ No newline at end of file
+}
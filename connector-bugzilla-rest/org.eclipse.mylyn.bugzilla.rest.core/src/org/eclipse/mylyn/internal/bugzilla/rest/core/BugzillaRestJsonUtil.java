@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.bugzilla.rest.core;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Reads values from a JSON stream without building a tree of the document.
+ */
+public class BugzillaRestJsonUtil {
+
+	private BugzillaRestJsonUtil() {
+	}
+
+	/**
+	 * Returns the next value as a string. Booleans are returned as <code>"true"</code> or <code>"false"</code>. Returns
+	 * <code>null</code> and skips the value if it is <code>null</code>, an object or an array.
+	 */
+	public static String readPrimitive(JsonReader in) throws IOException {
+		switch (in.peek()) {
+		case STRING:
+		case NUMBER:
+			return in.nextString();
+		case BOOLEAN:
+			return Boolean.toString(in.nextBoolean());
+		case NULL:
+			in.nextNull();
+			return null;
+		default:
+			in.skipValue();
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the next value as a string, a list of strings for an array or a map of strings for an object. Values
+	 * nested in arrays or objects that are not primitives are skipped.
+	 */
+	public static Object readValue(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+		if (token == JsonToken.BEGIN_ARRAY) {
+			List<String> values = new ArrayList<String>();
+			in.beginArray();
+			while (in.hasNext()) {
+				String value = readPrimitive(in);
+				if (value != null) {
+					values.add(value);
+				}
+			}
+			in.endArray();
+			return values;
+		} else if (token == JsonToken.BEGIN_OBJECT) {
+			return readRecord(in);
+		}
+		return readPrimitive(in);
+	}
+
+	/**
+	 * Reads an object and returns the members that have primitive values.
+	 */
+	public static Map<String, String> readRecord(JsonReader in) throws IOException {
+		Map<String, String> record = new HashMap<String, String>();
+		in.beginObject();
+		while (in.hasNext()) {
+			String name = in.nextName();
+			String value = readPrimitive(in);
+			if (value != null) {
+				record.put(name, value);
+			}
+		}
+		in.endObject();
+		return record;
+	}
+
+	/**
+	 * Reads an array of objects.
+	 *
+	 * @see #readRecord(JsonReader)
+	 */
+	public static List<Map<String, String>> readRecords(JsonReader in) throws IOException {
+		List<Map<String, String>> records = new ArrayList<Map<String, String>>();
+		in.beginArray();
+		while (in.hasNext()) {
+			if (in.peek() == JsonToken.BEGIN_OBJECT) {
+				records.add(readRecord(in));
+			} else {
+				in.skipValue();
+			}
+		}
+		in.endArray();
+		return records;
+	}
+
+	/**
+	 * Parses an ISO 8601 timestamp as returned by the REST API. Returns <code>null</code>, if <code>value</code> is
+	 * <code>null</code>.
+	 *
+	 * @throws RuntimeException
+	 *             wrapping a {@link CoreException}, if <code>value</code> can not be parsed
+	 */
+	public static Date parseDate(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return createIso8601Format().parse(value);
+		} catch (ParseException e) {
+			throw com.google.common.base.Throwables.propagate(new CoreException(
+					new Status(IStatus.ERROR, BugzillaRestCore.ID_PLUGIN, "Can not parse Date (" + value + ")"))); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Formats <code>date</code> as an ISO 8601 timestamp in the format returned by the REST API.
+	 */
+	public static String formatDate(Date date) {
+		return createIso8601Format().format(date);
+	}
+
+	private static SimpleDateFormat createIso8601Format() {
+		SimpleDateFormat iso8601Format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.US); //$NON-NLS-1$
+		iso8601Format.setTimeZone(TimeZone.getTimeZone("UTC")); //$NON-NLS-1$
+		return iso8601Format;
+	}
+
+}
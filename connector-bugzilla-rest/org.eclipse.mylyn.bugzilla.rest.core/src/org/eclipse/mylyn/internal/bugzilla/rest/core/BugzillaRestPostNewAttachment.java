@@ -40,7 +40,6 @@ import org.eclipse.mylyn.tasks.core.data.TaskAttachmentMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
 import org.eclipse.osgi.util.NLS;
 
-import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonWriter;
 
@@ -149,13 +148,13 @@ public class BugzillaRestPostNewAttachment extends BugzillaRestPostRequest<Bugzi
 	protected BugzillaRestIdsResult parseFromJson(InputStreamReader in) {
 		TypeToken<BugzillaRestIdsResult> type = new TypeToken<BugzillaRestIdsResult>() {
 		};
-		return new Gson().fromJson(in, type.getType());
+		return getGson().fromJson(in, type.getType());
 	}
 
 	protected BugzillaRestStatus parseErrorFromJson(InputStreamReader in) {
 		TypeToken<BugzillaRestStatus> type = new TypeToken<BugzillaRestStatus>() {
 		};
-		return new Gson().fromJson(in, type.getType());
+		return getGson().fromJson(in, type.getType());
 	}
 
 	@Override
@@ -147,13 +147,13 @@ public class BugzillaRestPostNewTask extends BugzillaRestPostRequest<BugzillaRes
 	protected BugzillaRestIdResult parseFromJson(InputStreamReader in) {
 		TypeToken<BugzillaRestIdResult> type = new TypeToken<BugzillaRestIdResult>() {
 		};
-		return new Gson().fromJson(in, type.getType());
+		return getGson().fromJson(in, type.getType());
 	}
 
 	protected BugzillaRestStatus parseErrorFromJson(InputStreamReader in) {
 		TypeToken<BugzillaRestStatus> type = new TypeToken<BugzillaRestStatus>() {
 		};
-		return new Gson().fromJson(in, type.getType());
+		return getGson().fromJson(in, type.getType());
 	}
 
 	@Override
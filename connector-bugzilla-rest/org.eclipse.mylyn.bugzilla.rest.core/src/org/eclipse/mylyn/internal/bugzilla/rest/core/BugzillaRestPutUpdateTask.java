@@ -252,7 +252,7 @@ public class BugzillaRestPutUpdateTask extends BugzillaRestPutRequest<PutUpdateR
 	protected PutUpdateResult parseFromJson(InputStreamReader in) {
 		TypeToken<PutUpdateResult> type = new TypeToken<PutUpdateResult>() {
 		};
-		return new Gson().fromJson(in, type.getType());
+		return getGson().fromJson(in, type.getType());
 	}
 
 }
\ No newline at end of file
@@ -48,6 +48,11 @@ public abstract class BugzillaRestRequest<T> extends CommonHttpOperation<T> {
 
 	protected static final String TEXT_XML_CHARSET_UTF_8 = "text/xml; charset=UTF-8"; //$NON-NLS-1$
 
+	/**
+	 * Gson instances are thread-safe and expensive to create, therefore a single instance is shared by all requests.
+	 */
+	private static final Gson gson = new Gson();
+
 	private final boolean authenticationRequired;
 
 	private final String urlSuffix;
@@ -74,6 +79,10 @@ public abstract class BugzillaRestRequest<T> extends CommonHttpOperation<T> {
 		return request;
 	}
 
+	protected Gson getGson() {
+		return gson;
+	}
+
 	protected String baseUrl() {
 		String url = getClient().getLocation().getUrl();
 		if (!url.endsWith("/rest.cgi")) {
@@ -89,7 +98,9 @@ public abstract class BugzillaRestRequest<T> extends CommonHttpOperation<T> {
 	protected String createHttpRequestURL() {
 		String urlSuffix = getUrlSuffix();
 		if (urlSuffix.length() > 0 && authenticationRequired) {
-			if (!urlSuffix.endsWith("?")) { //$NON-NLS-1$
+			if (urlSuffix.indexOf('?') == -1) {
+				urlSuffix += "?"; //$NON-NLS-1$
+			} else if (!urlSuffix.endsWith("?")) { //$NON-NLS-1$
 				urlSuffix += "&"; //$NON-NLS-1$
 			}
 			RepositoryLocation location = getClient().getLocation();
@@ -196,7 +207,7 @@ public abstract class BugzillaRestRequest<T> extends CommonHttpOperation<T> {
 
 		TypeToken<ErrorResponse> a = new TypeToken<ErrorResponse>() {
 		};
-		return new Gson().fromJson(in, a.getType());
+		return getGson().fromJson(in, a.getType());
 	}
 
 	protected void throwExeptionIfRestError(InputStream is, InputStreamReader in)
@@ -37,10 +37,19 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 import javax.swing.text.html.HTML.Tag;
 
@@ -68,6 +77,8 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.mylyn.commons.core.HtmlStreamTokenizer;
@@ -83,6 +94,7 @@ import org.eclipse.mylyn.commons.net.WebUtil;
 import org.eclipse.mylyn.internal.bugzilla.core.IBugzillaConstants.BUGZILLA_REPORT_STATUS_4_0;
 import org.eclipse.mylyn.internal.bugzilla.core.service.BugzillaXmlRpcClient;
 import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryLocation;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics;
 import org.eclipse.mylyn.tasks.core.IRepositoryQuery;
 import org.eclipse.mylyn.tasks.core.RepositoryResponse;
 import org.eclipse.mylyn.tasks.core.RepositoryResponse.ResponseKind;
@@ -175,7 +187,15 @@ public class BugzillaClient {
 
 	protected String characterEncoding;
 
-	private boolean loggedIn;
+	private volatile boolean loggedIn;
+
+	/**
+	 * Incremented after each successful login. Requests that fail due to an expired session compare the value they
+	 * observed before the request to avoid logging in again if another thread has already renewed the session.
+	 */
+	private volatile int loginCount;
+
+	private final Object loginLock = new Object();
 
 	private final Map<String, String> configParameters;
 
@@ -187,14 +207,14 @@ public class BugzillaClient {
 
 	private RepositoryConfiguration repositoryConfiguration;
 
-	private HostConfiguration hostConfiguration;
-
 	private final AbstractWebLocation location;
 
 	private final BugzillaRepositoryConnector connector;
 
 	private BugzillaXmlRpcClient xmlRpcClient = null;
 
+	private final Semaphore taskDataPermits;
+
 	public BugzillaClient(AbstractWebLocation location, String characterEncoding, Map<String, String> configParameters,
 			BugzillaLanguageSettings languageSettings, BugzillaRepositoryConnector connector)
 			throws MalformedURLException {
@@ -205,6 +225,8 @@ public class BugzillaClient {
 		this.bugzillaLanguageSettings = languageSettings;
 		this.connector = connector;
 		this.proxy = location.getProxyForHost(location.getUrl(), IProxyData.HTTP_PROXY_TYPE);
+		this.taskDataPermits = new Semaphore(getIntParameter(IBugzillaConstants.BUGZILLA_TASK_DATA_CONCURRENCY, 1),
+				true);
 		WebUtil.configureHttpClient(httpClient, USER_AGENT);
 	}
 
@@ -304,11 +326,12 @@ public class BugzillaClient {
 	private GzipGetMethod connectInternal(String requestURL, boolean gzip, IProgressMonitor monitor, String eTagValue)
 			throws IOException, CoreException {
 		monitor = Policy.monitorFor(monitor);
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
 
 		for (int attempt = 0; attempt < 2; attempt++) {
 			// force authentication
 			authenticate(monitor);
+			int requestLoginCount = loginCount;
 
 			GzipGetMethod getMethod = new GzipGetMethod(WebUtil.getRequestPath(requestURL), gzip);
 			if (requestURL.contains(QUERY_DELIMITER)) {
@@ -348,9 +371,8 @@ public class BugzillaClient {
 			case HttpURLConnection.HTTP_UNAUTHORIZED:
 			case HttpURLConnection.HTTP_FORBIDDEN:
 				// login or reauthenticate due to an expired session
-				loggedIn = false;
 				WebUtil.releaseConnection(getMethod, monitor);
-				authenticate(monitor);
+				reauthenticate(requestLoginCount, monitor);
 				break;
 			case HttpURLConnection.HTTP_PROXY_AUTH:
 				loggedIn = false;
@@ -440,7 +462,7 @@ public class BugzillaClient {
 
 	}
 
-	private String getBugzillaLoginTokenIfExists(IProgressMonitor monitor) throws CoreException {
+	private String getBugzillaLoginTokenIfExists(HostConfiguration hostConfiguration, IProgressMonitor monitor) throws CoreException {
 		String loginToken = null;
 		GzipPostMethod getMethod = new GzipPostMethod(WebUtil.getRequestPath(repositoryUrl.toString()) + "/index.cgi", //$NON-NLS-1$
 				true);
@@ -487,21 +509,48 @@ public class BugzillaClient {
 		return loginToken;
 	}
 
+	/**
+	 * Logs in unless a session has been established already. Concurrent invocations are serialized so that only a
+	 * single login request is sent.
+	 */
 	public void authenticate(IProgressMonitor monitor) throws CoreException {
 		if (loggedIn || (!hasAuthenticationCredentials() && !hasHTTPAuthenticationCredentials())) {
 			return;
 		}
+		synchronized (loginLock) {
+			if (!loggedIn) {
+				login(monitor);
+				if (loggedIn) {
+					loginCount++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Logs in again after a request failed due to an expired session unless another thread has already logged in
+	 * since <code>expiredLoginCount</code> was obtained.
+	 */
+	private void reauthenticate(int expiredLoginCount, IProgressMonitor monitor) throws CoreException {
+		synchronized (loginLock) {
+			if (loginCount == expiredLoginCount) {
+				loggedIn = false;
+			}
+		}
+		authenticate(monitor);
+	}
 
+	private void login(IProgressMonitor monitor) throws CoreException {
 		monitor = Policy.monitorFor(monitor);
 
 		GzipPostMethod postMethod = null;
 
 		try {
-			hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+			HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
 
 			NameValuePair[] formData;
 
-			String loginToken = getBugzillaLoginTokenIfExists(monitor);
+			String loginToken = getBugzillaLoginTokenIfExists(hostConfiguration, monitor);
 			if (loginToken != null) {
 				formData = new NameValuePair[3];
 				formData[2] = new NameValuePair("Bugzilla_login_token", loginToken); //$NON-NLS-1$
@@ -996,7 +1045,7 @@ public class BugzillaClient {
 					Messages.BugzillaClient_description_required_when_submitting_attachments));
 		}
 
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
 		authenticate(monitor);
 		GzipPostMethod postMethod = null;
 
@@ -1128,7 +1177,7 @@ public class BugzillaClient {
 
 		GzipPostMethod postMethod = null;
 		monitor = Policy.monitorFor(monitor);
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
 		authenticate(monitor);
 
 		postMethod = new GzipPostMethod(WebUtil.getRequestPath(repositoryUrl.toString() + formUrl), true);
@@ -1355,7 +1404,7 @@ public class BugzillaClient {
 		if (!loggedIn) {
 			authenticate(new SubProgressMonitor(monitor, 1));
 		}
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
 
 		GzipGetMethod getMethod = new GzipGetMethod(WebUtil.getRequestPath(bugUrl), false);
 		getMethod.setRequestHeader("Content-Type", "text/xml; charset=" + getCharacterEncoding()); //$NON-NLS-1$ //$NON-NLS-2$
@@ -1916,7 +1965,7 @@ public class BugzillaClient {
 	private HtmlInformation getHtmlOnlyInformation(TaskData taskData, IProgressMonitor monitor) throws CoreException {
 		HtmlInformation htmlInfo = new HtmlInformation();
 		authenticate(new SubProgressMonitor(monitor, 1));
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
 
 		String bugUrl = taskData.getRepositoryUrl() + IBugzillaConstants.URL_GET_SHOW_BUG + taskData.getTaskId();
 		GzipGetMethod getMethod = new GzipGetMethod(WebUtil.getRequestPath(bugUrl), false);
@@ -2272,101 +2321,224 @@ public class BugzillaClient {
 			connector.addRepositoryConfiguration(repositoryConfiguration);
 		}
 
-		GzipPostMethod method = null;
-		HashMap<String, TaskData> taskDataMap = new HashMap<String, TaskData>();
-		// make a copy to modify set
-		taskIds = new HashSet<String>(taskIds);
-		int authenticationAttempt = 0;
-		while (taskIds.size() > 0) {
+		List<Set<String>> batches = createTaskDataBatches(taskIds, getIntParameter(
+				IBugzillaConstants.BUGZILLA_TASK_DATA_BATCH_SIZE, MAX_RETRIEVED_PER_QUERY));
+		int concurrency = Math.min(getIntParameter(IBugzillaConstants.BUGZILLA_TASK_DATA_CONCURRENCY, 1),
+				batches.size());
+		if (concurrency > 1) {
+			getTaskDataConcurrently(batches, concurrency, collector, mapper, monitor);
+			return;
+		}
 
+		int authenticationAttempt = 0;
+		for (int i = 0; i < batches.size();) {
+			int requestLoginCount = loginCount;
 			try {
+				getTaskDataBatch(batches.get(i), collector, mapper, monitor);
+				i++;
+			} catch (CoreException c) {
+				if (c.getStatus().getCode() == RepositoryStatus.ERROR_REPOSITORY_LOGIN && authenticationAttempt < 1) {
+					reauthenticate(requestLoginCount, monitor);
+					authenticationAttempt++;
+					// StatusHandler.log(c.getStatus());
+				} else {
+					throw c;
+				}
+			}
+		}
+	}
 
-				Set<String> idsToRetrieve = new HashSet<String>();
-				Iterator<String> itr = taskIds.iterator();
-				for (int x = 0; itr.hasNext() && x < MAX_RETRIEVED_PER_QUERY; x++) {
-					String taskId = itr.next();
-					String taskIdOrg = taskId;
-					// remove leading zeros
-					boolean changed = false;
-					while (taskId.startsWith("0")) { //$NON-NLS-1$
-						taskId = taskId.substring(1);
-						changed = true;
-					}
-					idsToRetrieve.add(taskId);
-					if (changed) {
-						taskIds.remove(taskIdOrg);
-						taskIds.add(taskId);
+	/**
+	 * Retrieves batches concurrently. Each batch is parsed on the thread that retrieved it and the results are passed
+	 * to <code>collector</code> on the calling thread in the order in which batches complete. The number of concurrent
+	 * requests is limited for all calls on this client.
+	 */
+	private void getTaskDataConcurrently(List<Set<String>> batches, int concurrency, TaskDataCollector collector,
+			final TaskAttributeMapper mapper, final IProgressMonitor monitor) throws IOException, CoreException {
+		// authenticate once before sending concurrent requests
+		authenticate(monitor);
+
+		final IProgressMonitor requestMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		try {
+			CompletionService<BatchTaskDataCollector> completionService = new ExecutorCompletionService<BatchTaskDataCollector>(
+					executor);
+			for (final Set<String> batch : batches) {
+				completionService.submit(new Callable<BatchTaskDataCollector>() {
+					public BatchTaskDataCollector call() throws Exception {
+						BatchTaskDataCollector batchCollector = new BatchTaskDataCollector();
+						taskDataPermits.acquire();
+						try {
+							int requestLoginCount = loginCount;
+							try {
+								getTaskDataBatch(batch, batchCollector, mapper, requestMonitor);
+							} catch (CoreException e) {
+								if (e.getStatus().getCode() != RepositoryStatus.ERROR_REPOSITORY_LOGIN) {
+									throw e;
+								}
+								// the session may have expired, retry once after a single thread has logged in again
+								reauthenticate(requestLoginCount, requestMonitor);
+								batchCollector = new BatchTaskDataCollector();
+								getTaskDataBatch(batch, batchCollector, mapper, requestMonitor);
+							}
+						} finally {
+							taskDataPermits.release();
+						}
+						return batchCollector;
 					}
-				}
+				});
+			}
+			for (int i = 0; i < batches.size(); i++) {
+				Policy.checkCanceled(monitor);
+				completionService.take().get().forward(collector);
+			}
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof CoreException) {
+				throw (CoreException) cause;
+			} else if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new CoreException(new Status(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
+					"Unable to retrieve task data", cause)); //$NON-NLS-1$
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 
-				NameValuePair[] formData = new NameValuePair[idsToRetrieve.size() + 2];
+	private List<Set<String>> createTaskDataBatches(Set<String> taskIds, int batchSize) {
+		Set<String> ids = new LinkedHashSet<String>();
+		for (String taskId : taskIds) {
+			// remove leading zeros
+			while (taskId.startsWith("0")) { //$NON-NLS-1$
+				taskId = taskId.substring(1);
+			}
+			ids.add(taskId);
+		}
+		List<Set<String>> batches = new ArrayList<Set<String>>();
+		Set<String> batch = null;
+		for (String taskId : ids) {
+			if (batch == null || batch.size() >= batchSize) {
+				batch = new HashSet<String>();
+				batches.add(batch);
+			}
+			batch.add(taskId);
+		}
+		return batches;
+	}
 
-				if (idsToRetrieve.size() == 0) {
-					return;
-				}
+	private int getIntParameter(String key, int defaultValue) {
+		String value = configParameters.get(key);
+		if (value != null) {
+			try {
+				return Math.max(1, Integer.parseInt(value.trim()));
+			} catch (NumberFormatException e) {
+				// ignore
+			}
+		}
+		return defaultValue;
+	}
 
-				itr = idsToRetrieve.iterator();
-				int x = 0;
-				for (; itr.hasNext(); x++) {
-					String taskId = itr.next();
-					formData[x] = new NameValuePair("id", taskId); //$NON-NLS-1$
-					TaskData taskData = new TaskData(mapper, getConnectorKind(), repositoryUrl.toString(), taskId);
-					setupExistingBugAttributes(repositoryUrl.toString(), taskData);
-					taskDataMap.put(taskId, taskData);
-				}
-				formData[x++] = new NameValuePair("ctype", "xml"); //$NON-NLS-1$ //$NON-NLS-2$
-				formData[x] = new NameValuePair("excludefield", "attachmentdata"); //$NON-NLS-1$ //$NON-NLS-2$
-				method = postFormData(IBugzillaConstants.URL_POST_SHOW_BUG, formData, monitor);
-				if (method == null) {
-					throw new IOException("Could not post form, client returned null method."); //$NON-NLS-1$
-				}
+	private void getTaskDataBatch(Set<String> idsToRetrieve, TaskDataCollector collector, TaskAttributeMapper mapper,
+			IProgressMonitor monitor) throws IOException, CoreException {
+		GzipPostMethod method = null;
+		try {
+			HashMap<String, TaskData> taskDataMap = new HashMap<String, TaskData>();
+			NameValuePair[] formData = new NameValuePair[idsToRetrieve.size() + 2];
+
+			Iterator<String> itr = idsToRetrieve.iterator();
+			int x = 0;
+			for (; itr.hasNext(); x++) {
+				String taskId = itr.next();
+				formData[x] = new NameValuePair("id", taskId); //$NON-NLS-1$
+				TaskData taskData = new TaskData(mapper, getConnectorKind(), repositoryUrl.toString(), taskId);
+				setupExistingBugAttributes(repositoryUrl.toString(), taskData);
+				taskDataMap.put(taskId, taskData);
+			}
+			formData[x++] = new NameValuePair("ctype", "xml"); //$NON-NLS-1$ //$NON-NLS-2$
+			formData[x] = new NameValuePair("excludefield", "attachmentdata"); //$NON-NLS-1$ //$NON-NLS-2$
+			method = postFormData(IBugzillaConstants.URL_POST_SHOW_BUG, formData, monitor);
+			if (method == null) {
+				throw new IOException("Could not post form, client returned null method."); //$NON-NLS-1$
+			}
 
-				boolean parseable = false;
-				if (method.getResponseHeader("Content-Type") != null) { //$NON-NLS-1$
-					Header responseTypeHeader = method.getResponseHeader("Content-Type"); //$NON-NLS-1$
-					for (String type : VALID_CONFIG_CONTENT_TYPES) {
-						if (responseTypeHeader.getValue().toLowerCase(Locale.ENGLISH).contains(type)) {
-							InputStream input = getResponseStream(method, monitor);
-							try {
-								MultiBugReportFactory factory = new MultiBugReportFactory(input, getCharacterEncoding(),
-										connector);
-								List<BugzillaCustomField> customFields = new ArrayList<BugzillaCustomField>();
-								if (repositoryConfiguration != null) {
-									customFields = repositoryConfiguration.getCustomFields();
-								}
-								factory.populateReport(taskDataMap, collector, mapper, customFields);
-								taskIds.removeAll(idsToRetrieve);
-								taskDataMap.clear();
-								parseable = true;
-								break;
-							} finally {
-								input.close();
+			boolean parseable = false;
+			if (method.getResponseHeader("Content-Type") != null) { //$NON-NLS-1$
+				Header responseTypeHeader = method.getResponseHeader("Content-Type"); //$NON-NLS-1$
+				for (String type : VALID_CONFIG_CONTENT_TYPES) {
+					if (responseTypeHeader.getValue().toLowerCase(Locale.ENGLISH).contains(type)) {
+						InputStream input = SynchronizationMetrics.countBytesReceived(repositoryUrl.toString(),
+								getResponseStream(method, monitor));
+						long startTime = SynchronizationMetrics.start();
+						try {
+							MultiBugReportFactory factory = new MultiBugReportFactory(input, getCharacterEncoding(),
+									connector);
+							List<BugzillaCustomField> customFields = new ArrayList<BugzillaCustomField>();
+							if (repositoryConfiguration != null) {
+								customFields = repositoryConfiguration.getCustomFields();
 							}
+							factory.populateReport(taskDataMap, collector, mapper, customFields);
+							parseable = true;
+							break;
+						} finally {
+							input.close();
+							SynchronizationMetrics.recordResponseParsing(repositoryUrl.toString(), startTime);
 						}
 					}
 				}
+			}
 
-				if (!parseable) {
-					// because html is not a valid config content type it is
-					// save to get the response here
-					throw new CoreException(parseHtmlError(getResponseStream(method, monitor)));
-				}
-			} catch (CoreException c) {
-				if (c.getStatus().getCode() == RepositoryStatus.ERROR_REPOSITORY_LOGIN && authenticationAttempt < 1) {
-					loggedIn = false;
-					authenticationAttempt++;
-					// StatusHandler.log(c.getStatus());
-				} else {
-					throw c;
-				}
-			} finally {
-				if (method != null) {
-					WebUtil.releaseConnection(method, monitor);
-				}
+			if (!parseable) {
+				// because html is not a valid config content type it is
+				// save to get the response here
+				throw new CoreException(parseHtmlError(getResponseStream(method, monitor)));
+			}
+		} finally {
+			if (method != null) {
+				WebUtil.releaseConnection(method, monitor);
 			}
 		}
 	}
 
+	/**
+	 * Buffers the results of a batch that is retrieved on a worker thread.
+	 */
+	private static class BatchTaskDataCollector extends TaskDataCollector {
+
+		private final List<TaskData> taskData = new ArrayList<TaskData>();
+
+		private final Map<String, IStatus> failures = new LinkedHashMap<String, IStatus>();
+
+		@Override
+		public void accept(TaskData data) {
+			taskData.add(data);
+		}
+
+		@Override
+		public void failed(String taskId, IStatus status) {
+			failures.put(taskId, status);
+		}
+
+		void forward(TaskDataCollector collector) {
+			for (TaskData data : taskData) {
+				collector.accept(data);
+			}
+			for (Map.Entry<String, IStatus> entry : failures.entrySet()) {
+				collector.failed(entry.getKey(), entry.getValue());
+			}
+		}
+
+	}
+
 	protected String getConnectorKind() {
 		return BugzillaCorePlugin.CONNECTOR_KIND;
 	}
@@ -2403,10 +2575,11 @@ public class BugzillaClient {
 	}
 
 	private HeadMethod connectHead(String requestURL, IProgressMonitor monitor) throws IOException, CoreException {
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
 		for (int attempt = 0; attempt < 2; attempt++) {
 			// force authentication
 			authenticate(monitor);
+			int requestLoginCount = loginCount;
 
 			HeadMethod headMethod = new HeadMethod(WebUtil.getRequestPath(requestURL));
 			if (requestURL.contains(QUERY_DELIMITER)) {
@@ -2439,8 +2612,7 @@ public class BugzillaClient {
 			} else if (code == HttpURLConnection.HTTP_UNAUTHORIZED || code == HttpURLConnection.HTTP_FORBIDDEN) {
 				// ignore the response
 				WebUtil.releaseConnection(headMethod, monitor);
-				loggedIn = false;
-				authenticate(monitor);
+				reauthenticate(requestLoginCount, monitor);
 			} else if (code == HttpURLConnection.HTTP_PROXY_AUTH) {
 				loggedIn = false;
 				// ignore the response
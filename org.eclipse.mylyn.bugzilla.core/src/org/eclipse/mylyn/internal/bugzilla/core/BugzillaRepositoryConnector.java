@@ -27,16 +27,22 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
@@ -74,6 +80,25 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 
 	private static final String CHANGED_BUGS_CGI_QUERY = "/buglist.cgi?query_format=advanced&chfieldfrom="; //$NON-NLS-1$
 
+	private static final String CHANGED_BUGS_CGI_COLUMNS = "&columnlist=changeddate"; //$NON-NLS-1$
+
+	private static final String CHANGED_BUGS_CGI_LIMIT = "&limit="; //$NON-NLS-1$
+
+	private static final String CHANGED_BUGS_CGI_OFFSET = "&offset="; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of results of the query for all changed tasks. If the limit is reached the ids of the tasks in
+	 * the session are queried instead.
+	 */
+	private static final int CHANGED_TASKS_SINGLE_QUERY_LIMIT = 5000;
+
+	/**
+	 * Minimum number of tasks in a session to query all changed tasks instead of the ids of the tasks in the session.
+	 */
+	private static final int CHANGED_TASKS_SINGLE_QUERY_MIN_TASKS = 500;
+
+	private static final int DEFAULT_CHANGED_TASKS_QUERY_CONCURRENCY = 1;
+
 	private static final String CLIENT_LABEL = Messages.BugzillaRepositoryConnector_BUGZILLA_CONNECTOR_LABEL;
 
 	private static final String COMMENT_FORMAT = "yyyy-MM-dd HH:mm"; //$NON-NLS-1$
@@ -88,6 +113,19 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 
 	private final BugzillaTaskDataHandler taskDataHandler = new BugzillaTaskDataHandler(this);
 
+	private static class ChangedTasksQuery {
+
+		private final String url;
+
+		private final int taskCount;
+
+		public ChangedTasksQuery(String url, int taskCount) {
+			this.url = url;
+			this.taskCount = taskCount;
+		}
+
+	}
+
 	protected BugzillaClientManager clientManager;
 
 	protected static BugzillaLanguageSettings enSetting;
@@ -295,37 +333,23 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 			String urlQueryBase = repository.getRepositoryUrl() + CHANGED_BUGS_CGI_QUERY
 					+ URLEncoder.encode(dateString, repository.getCharacterEncoding()) + CHANGED_BUGS_CGI_ENDDATE;
 
-			StringBuilder urlQueryString = new StringBuilder(Math.min(30 + 9 * session.getTasks().size(), 7009));
-			urlQueryString.append(urlQueryBase + BUG_ID);
-
-			Set<ITask> changedTasks = new HashSet<ITask>();
-			Iterator<ITask> itr = session.getTasks().iterator();
-			int queryCounter = 0;
-			Set<ITask> checking = new HashSet<ITask>();
-			while (itr.hasNext()) {
-				ITask task = itr.next();
-				checking.add(task);
-				queryCounter++;
-				urlQueryString.append(URLEncoder.encode(task.getTaskId() + ",", repository.getCharacterEncoding())); //$NON-NLS-1$
-				if (urlQueryString.length() >= 7000) {
-					queryForChanged(repository, changedTasks, urlQueryString.toString(), session,
-							new SubProgressMonitor(monitor, queryCounter));
-
-					queryCounter = 0;
-					urlQueryString.setLength(0);
-					urlQueryString.append(urlQueryBase + BUG_ID);
-				}
+			Map<String, ITask> taskById = new HashMap<String, ITask>();
+			for (ITask task : session.getTasks()) {
+				taskById.put(task.getTaskId(), task);
+			}
 
-				if (!itr.hasNext() && queryCounter != 0) {
-					queryForChanged(repository, changedTasks, urlQueryString.toString(), session,
-							new SubProgressMonitor(monitor, queryCounter));
-				}
+			Set<ITask> changedTasks = null;
+			if (useSingleChangedTasksQuery(repository, taskById.size())) {
+				changedTasks = queryForChangedSince(repository, urlQueryBase, taskById, session,
+						new SubProgressMonitor(monitor, 0));
+			}
+			if (changedTasks == null) {
+				List<ChangedTasksQuery> queries = createChangedTasksQueries(repository, urlQueryBase, taskById.keySet());
+				changedTasks = queryForChanged(repository, queries, taskById, session, monitor);
 			}
 
-			for (ITask task : session.getTasks()) {
-				if (changedTasks.contains(task)) {
-					session.markStale(task);
-				}
+			for (ITask task : changedTasks) {
+				session.markStale(task);
 			}
 
 		} catch (UnsupportedEncodingException e) {
@@ -337,22 +361,148 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 		}
 	}
 
-	private void queryForChanged(final TaskRepository repository, Set<ITask> changedTasks, String urlQueryString,
-			ISynchronizationSession syncSession, IProgressMonitor monitor) throws UnsupportedEncodingException,
-			CoreException {
+	/**
+	 * Splits the ids of <code>taskIds</code> into queries that do not exceed the maximum URL length. The queries are
+	 * posted to buglist.cgi by {@link BugzillaClient#getSearchHits} but Bugzilla 3.4 answers the post with a redirect
+	 * that carries all parameters in the URL which is then followed with a GET request.
+	 */
+	private List<ChangedTasksQuery> createChangedTasksQueries(TaskRepository repository, String urlQueryBase,
+			Set<String> taskIds) throws UnsupportedEncodingException {
+		List<ChangedTasksQuery> queries = new ArrayList<ChangedTasksQuery>();
+		StringBuilder urlQueryString = new StringBuilder(Math.min(30 + 9 * taskIds.size(), 7009));
+		urlQueryString.append(urlQueryBase + BUG_ID);
+		int queryCounter = 0;
+		for (String taskId : taskIds) {
+			queryCounter++;
+			urlQueryString.append(URLEncoder.encode(taskId + ",", repository.getCharacterEncoding())); //$NON-NLS-1$
+			if (urlQueryString.length() >= 7000) {
+				queries.add(new ChangedTasksQuery(urlQueryString.toString(), queryCounter));
+
+				queryCounter = 0;
+				urlQueryString.setLength(0);
+				urlQueryString.append(urlQueryBase + BUG_ID);
+			}
+		}
+		if (queryCounter != 0) {
+			queries.add(new ChangedTasksQuery(urlQueryString.toString(), queryCounter));
+		}
+		return queries;
+	}
 
-		HashMap<String, ITask> taskById = new HashMap<String, ITask>();
-		for (ITask task : syncSession.getTasks()) {
-			taskById.put(task.getTaskId(), task);
+	/**
+	 * Returns true, if all tasks changed since the last synchronization should be retrieved with a single query
+	 * instead of querying the ids of the tasks in the session.
+	 */
+	private boolean useSingleChangedTasksQuery(TaskRepository repository, int taskCount) {
+		if (taskCount < CHANGED_TASKS_SINGLE_QUERY_MIN_TASKS
+				|| "false".equals(repository.getProperty(IBugzillaConstants.BUGZILLA_CHANGED_TASKS_SINGLE_QUERY))) { //$NON-NLS-1$
+			return false;
 		}
+		RepositoryConfiguration configuration = getRepositoryConfiguration(repository.getRepositoryUrl());
+		// the limit parameter of buglist.cgi is only honored by Bugzilla 4.4 and later
+		return configuration != null && configuration.getInstallVersion() != null
+				&& configuration.getInstallVersion().compareMajorMinorOnly(BugzillaVersion.BUGZILLA_4_4) >= 0;
+	}
 
+	/**
+	 * Queries the ids of all tasks changed since the last synchronization.
+	 * <p>
+	 * Bugzilla also truncates results at its <code>max_search_results</code> parameter which may be lower than
+	 * {@link #CHANGED_TASKS_SINGLE_QUERY_LIMIT} and is not known to the client. Unless the result is empty a second
+	 * query therefore requests a single task past the end of the result to detect truncation.
+	 *
+	 * @return the changed tasks of <code>taskById</code> or null, if the query failed or the result was truncated
+	 */
+	private Set<ITask> queryForChangedSince(TaskRepository repository, String urlQueryBase,
+			Map<String, ITask> taskById, ISynchronizationSession syncSession, IProgressMonitor monitor) {
+		String urlQueryString = urlQueryBase + CHANGED_BUGS_CGI_COLUMNS + CHANGED_BUGS_CGI_LIMIT
+				+ CHANGED_TASKS_SINGLE_QUERY_LIMIT;
 		BugzillaTaskDataCollector collector = new BugzillaTaskDataCollector();
+		IStatus status = performChangedTasksQuery(repository, urlQueryString, collector, syncSession, monitor);
+		int resultCount = collector.getTaskData().size();
+		if (!status.isOK() || resultCount >= CHANGED_TASKS_SINGLE_QUERY_LIMIT) {
+			return null;
+		}
+		if (resultCount > 0) {
+			BugzillaTaskDataCollector probeCollector = new BugzillaTaskDataCollector();
+			status = performChangedTasksQuery(repository, urlQueryBase + CHANGED_BUGS_CGI_COLUMNS
+					+ CHANGED_BUGS_CGI_LIMIT + 1 + CHANGED_BUGS_CGI_OFFSET + resultCount, probeCollector, syncSession,
+					monitor);
+			if (!status.isOK() || !probeCollector.getTaskData().isEmpty()) {
+				return null;
+			}
+		}
+		Set<ITask> changedTasks = new HashSet<ITask>();
+		processChangedTasks(collector, taskById, changedTasks, syncSession);
+		return changedTasks;
+	}
 
+	private Set<ITask> queryForChanged(final TaskRepository repository, List<ChangedTasksQuery> queries,
+			Map<String, ITask> taskById, final ISynchronizationSession syncSession, final IProgressMonitor monitor)
+			throws CoreException {
+		Set<ITask> changedTasks = new HashSet<ITask>();
+		int concurrency = Math.min(getChangedTasksQueryConcurrency(repository), queries.size());
+		if (concurrency <= 1) {
+			for (ChangedTasksQuery query : queries) {
+				Policy.checkCanceled(monitor);
+				BugzillaTaskDataCollector collector = new BugzillaTaskDataCollector();
+				performChangedTasksQuery(repository, query.url, collector, syncSession, new SubProgressMonitor(
+						monitor, query.taskCount));
+				processChangedTasks(collector, taskById, changedTasks, syncSession);
+			}
+			return changedTasks;
+		}
+
+		// authenticate once before sending concurrent requests, the client serializes logins of the queries
+		getClientManager().getClient(repository, new SubProgressMonitor(monitor, 0)).authenticate(
+				new SubProgressMonitor(monitor, 0));
+
+		final IProgressMonitor queryMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		try {
+			List<Future<BugzillaTaskDataCollector>> results = new ArrayList<Future<BugzillaTaskDataCollector>>();
+			for (final ChangedTasksQuery query : queries) {
+				results.add(executor.submit(new Callable<BugzillaTaskDataCollector>() {
+					public BugzillaTaskDataCollector call() throws Exception {
+						BugzillaTaskDataCollector collector = new BugzillaTaskDataCollector();
+						performChangedTasksQuery(repository, query.url, collector, syncSession, queryMonitor);
+						return collector;
+					}
+				}));
+			}
+			for (int i = 0; i < queries.size(); i++) {
+				Policy.checkCanceled(monitor);
+				processChangedTasks(results.get(i).get(), taskById, changedTasks, syncSession);
+				monitor.worked(queries.get(i).taskCount);
+			}
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			throw new CoreException(new Status(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
+					"Unable to determine changed tasks", e.getCause())); //$NON-NLS-1$
+		} finally {
+			executor.shutdownNow();
+		}
+		return changedTasks;
+	}
+
+	private IStatus performChangedTasksQuery(TaskRepository repository, String urlQueryString,
+			BugzillaTaskDataCollector collector, ISynchronizationSession syncSession, IProgressMonitor monitor) {
 		// TODO: Decouple from internals
+		// the parameters of the URL are sent as form data in a POST request to buglist.cgi
 		IRepositoryQuery query = new RepositoryQuery(repository.getConnectorKind(), ""); //$NON-NLS-1$
 		query.setSummary(Messages.BugzillaRepositoryConnector_Query_for_changed_tasks);
 		query.setUrl(urlQueryString);
-		performQuery(repository, query, collector, syncSession, monitor);
+		return performQuery(repository, query, collector, syncSession, monitor);
+	}
+
+	private void processChangedTasks(BugzillaTaskDataCollector collector, Map<String, ITask> taskById,
+			Set<ITask> changedTasks, ISynchronizationSession syncSession) {
 		for (TaskData data : collector.getTaskData()) {
 			ITask changedTask = taskById.get(data.getTaskId());
 			if (changedTask != null) {
@@ -372,6 +522,18 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 		}
 	}
 
+	private int getChangedTasksQueryConcurrency(TaskRepository repository) {
+		String value = repository.getProperty(IBugzillaConstants.BUGZILLA_CHANGED_TASKS_QUERY_CONCURRENCY);
+		if (value != null) {
+			try {
+				return Math.max(1, Integer.parseInt(value.trim()));
+			} catch (NumberFormatException e) {
+				// ignore
+			}
+		}
+		return DEFAULT_CHANGED_TASKS_QUERY_CONCURRENCY;
+	}
+
 	@Override
 	public boolean canCreateTaskFromKey(TaskRepository repository) {
 		return true;
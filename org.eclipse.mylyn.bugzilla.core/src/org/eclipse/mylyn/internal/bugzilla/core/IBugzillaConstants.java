@@ -254,6 +254,28 @@ public interface IBugzillaConstants {
 
 	public static final String BUGZILLA_USE_XMLRPC = "bugzilla.xmlrpc.status.transition"; //$NON-NLS-1$
 
+	/**
+	 * Repository property that specifies the number of queries for changed tasks that are sent concurrently.
+	 */
+	public static final String BUGZILLA_CHANGED_TASKS_QUERY_CONCURRENCY = "bugzilla.changedTasks.concurrency"; //$NON-NLS-1$
+
+	/**
+	 * Repository property that disables querying all tasks changed since the last synchronization with a single
+	 * query when set to <code>false</code>.
+	 */
+	public static final String BUGZILLA_CHANGED_TASKS_SINGLE_QUERY = "bugzilla.changedTasks.singleQuery"; //$NON-NLS-1$
+
+	/**
+	 * Repository property that specifies the number of requests for task data that are sent concurrently. Values less
+	 * than 2 retrieve task data one batch at a time.
+	 */
+	public static final String BUGZILLA_TASK_DATA_CONCURRENCY = "bugzilla.taskData.concurrency"; //$NON-NLS-1$
+
+	/**
+	 * Repository property that specifies the number of tasks that are retrieved per request for task data.
+	 */
+	public static final String BUGZILLA_TASK_DATA_BATCH_SIZE = "bugzilla.taskData.batchSize"; //$NON-NLS-1$
+
 	public static final String DEFAULT_LANG = "en (default)"; //$NON-NLS-1$
 
 	public static final String BUGZILLA_PARAM_USECLASSIFICATION = "bugzilla.param.use.classification"; //$NON-NLS-1$
@@ -30,7 +30,9 @@ import org.eclipse.mylyn.commons.core.HtmlTag;
  * https://bugzilla.mozilla.org/show_bug.cgi?id=264785
  * 
  * @author Rob Elves
+ * @deprecated use {@link XmlCleaningReader} instead which does not require a temporary file
  */
+@Deprecated
 public class XmlCleaner {
 
 	public static BufferedReader clean(Reader in, File tempFile) {
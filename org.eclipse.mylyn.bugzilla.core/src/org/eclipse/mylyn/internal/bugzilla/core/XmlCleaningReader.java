@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.bugzilla.core;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Removes characters that are not allowed in XML documents while the document is read. Optionally escapes unescaped
+ * <code>&amp;</code> characters within the <code>resource</code> and <code>rdf:about</code> attributes which are not
+ * escaped by some Bugzilla versions (https://bugzilla.mozilla.org/show_bug.cgi?id=264785).
+ * <p>
+ * The document is processed in a single pass over a character buffer and does not need to be stored.
+ *
+ * @see XmlCleaner
+ */
+public class XmlCleaningReader extends Reader {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * the maximum number of characters that are inspected after a <code>&amp;</code> to detect an entity reference
+	 */
+	private static final int MAX_REFERENCE_LENGTH = 32;
+
+	private static final String ESCAPED_AMPERSAND = "&amp;"; //$NON-NLS-1$
+
+	private static final int STATE_TEXT = 0;
+
+	private static final int STATE_TAG = 1;
+
+	private static final int STATE_VALUE = 2;
+
+	private static final int STATE_COMMENT = 3;
+
+	private final Reader in;
+
+	private final boolean escapeAttributes;
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+
+	private int position;
+
+	private int limit;
+
+	private boolean eof;
+
+	/**
+	 * the remaining characters of an escaped ampersand that have not been returned yet
+	 */
+	private int pendingEscape;
+
+	private int state = STATE_TEXT;
+
+	private final StringBuilder name = new StringBuilder();
+
+	private String attributeName;
+
+	private char quote;
+
+	private boolean escapeValue;
+
+	public XmlCleaningReader(Reader in, boolean escapeAttributes) {
+		this.in = in;
+		this.escapeAttributes = escapeAttributes;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		int count = 0;
+		while (count < len) {
+			if (pendingEscape > 0) {
+				cbuf[off + count++] = ESCAPED_AMPERSAND.charAt(ESCAPED_AMPERSAND.length() - pendingEscape--);
+				continue;
+			}
+			if (position == limit && !fill()) {
+				break;
+			}
+			if (!escapeAttributes) {
+				int n = Math.min(len - count, limit - position);
+				System.arraycopy(buffer, position, cbuf, off + count, n);
+				position += n;
+				count += n;
+				continue;
+			}
+			char c = buffer[position++];
+			cbuf[off + count++] = c;
+			if (process(c)) {
+				pendingEscape = ESCAPED_AMPERSAND.length() - 1;
+			}
+		}
+		return (count == 0) ? -1 : count;
+	}
+
+	/**
+	 * Updates the parser state for <code>c</code>. Returns true, if <code>c</code> is an ampersand that needs to be
+	 * escaped.
+	 */
+	private boolean process(char c) throws IOException {
+		switch (state) {
+		case STATE_TEXT:
+			if (c == '<') {
+				state = STATE_TAG;
+				name.setLength(0);
+				attributeName = null;
+			}
+			break;
+		case STATE_TAG:
+			if (c == '>') {
+				state = STATE_TEXT;
+			} else if (c == '"' || c == '\'') {
+				state = STATE_VALUE;
+				quote = c;
+				escapeValue = "resource".equals(attributeName) || "rdf:about".equals(attributeName); //$NON-NLS-1$ //$NON-NLS-2$
+			} else if (c == '=') {
+				attributeName = name.toString();
+				name.setLength(0);
+			} else if (Character.isWhitespace(c)) {
+				name.setLength(0);
+			} else {
+				name.append(c);
+				if (name.length() == 3 && "!--".contentEquals(name)) { //$NON-NLS-1$
+					state = STATE_COMMENT;
+				}
+			}
+			break;
+		case STATE_VALUE:
+			if (c == quote) {
+				state = STATE_TAG;
+				name.setLength(0);
+				attributeName = null;
+			} else if (c == '&' && escapeValue) {
+				return !isReference();
+			}
+			break;
+		case STATE_COMMENT:
+			if (c == '>' && position >= 3 && buffer[position - 2] == '-' && buffer[position - 3] == '-') {
+				state = STATE_TEXT;
+			}
+			break;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true, if the characters following the current position complete an entity or character reference.
+	 */
+	private boolean isReference() throws IOException {
+		if (limit - position < MAX_REFERENCE_LENGTH && !eof) {
+			compact();
+			while (limit - position < MAX_REFERENCE_LENGTH && readIntoBuffer()) {
+				// continue reading
+			}
+		}
+		for (int i = position; i < limit && i - position < MAX_REFERENCE_LENGTH; i++) {
+			char c = buffer[i];
+			if (c == ';') {
+				return i > position;
+			}
+			if (!(Character.isLetterOrDigit(c) || c == '#' || c == '_' || c == '-' || c == '.')) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private boolean fill() throws IOException {
+		if (eof) {
+			return false;
+		}
+		compact();
+		while (position == limit) {
+			if (!readIntoBuffer()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Moves unread characters to the start of the buffer, retaining the last characters that were read to detect the
+	 * end of comments.
+	 */
+	private void compact() {
+		int keep = Math.min(position, 2);
+		int start = position - keep;
+		if (start > 0) {
+			System.arraycopy(buffer, start, buffer, 0, limit - start);
+			position -= start;
+			limit -= start;
+		}
+	}
+
+	/**
+	 * Reads characters into the free space at the end of the buffer and removes characters that are not valid in XML
+	 * documents. Returns false, if the end of the stream was reached.
+	 */
+	private boolean readIntoBuffer() throws IOException {
+		int n = in.read(buffer, limit, buffer.length - limit);
+		if (n == -1) {
+			eof = true;
+			return false;
+		}
+		int end = limit + n;
+		int j = limit;
+		for (int i = limit; i < end; i++) {
+			char c = buffer[i];
+			if (isValid(c)) {
+				buffer[j++] = c;
+			}
+		}
+		limit = j;
+		return true;
+	}
+
+	/**
+	 * Returns true, if <code>c</code> is allowed in XML 1.0 documents. Surrogates are retained since they encode
+	 * supplementary characters which are allowed.
+	 */
+	static boolean isValid(char c) {
+		return (c >= 0x20 && c <= 0xFFFD) || c == '\t' || c == '\n' || c == '\r';
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+}
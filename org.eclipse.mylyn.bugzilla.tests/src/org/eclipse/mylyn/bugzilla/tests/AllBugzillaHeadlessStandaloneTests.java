@@ -19,6 +19,7 @@ import junit.framework.TestSuite;
 
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaAttributeMapperTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaAttributeTest;
+import org.eclipse.mylyn.bugzilla.tests.core.BugzillaChangedTasksQueryTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaClientTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaConfigurationTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaCustomFieldsTest;
@@ -29,6 +30,7 @@ import org.eclipse.mylyn.bugzilla.tests.core.BugzillaTaskCompletionTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaUtilTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaVersionTest;
 import org.eclipse.mylyn.bugzilla.tests.core.RepositoryConfigurationTest;
+import org.eclipse.mylyn.bugzilla.tests.core.XmlCleaningReaderTest;
 import org.eclipse.mylyn.bugzilla.tests.support.BugzillaFixture;
 import org.eclipse.mylyn.commons.sdk.util.TestConfiguration;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaVersion;
@@ -52,6 +54,8 @@ public class AllBugzillaHeadlessStandaloneTests {
 		suite.addTestSuite(BugzillaAttributeMapperTest.class);
 		suite.addTestSuite(BugzillaAttributeTest.class);
 		suite.addTestSuite(RepositoryConfigurationTest.class);
+		suite.addTestSuite(XmlCleaningReaderTest.class);
+		suite.addTestSuite(BugzillaChangedTasksQueryTest.class);
 		if (!configuration.isLocalOnly()) {
 			// network tests
 			suite.addTestSuite(BugzillaTaskCompletionTest.class);
@@ -0,0 +1,381 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.tests.core;
+
+import java.io.UnsupportedEncodingException;
+import java.net.MalformedURLException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.mylyn.commons.net.WebLocation;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaClient;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaClientManager;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaCorePlugin;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaRepositoryConnector;
+import org.eclipse.mylyn.internal.bugzilla.core.IBugzillaConstants;
+import org.eclipse.mylyn.internal.bugzilla.core.RepositoryConfiguration;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationSession;
+import org.eclipse.mylyn.tasks.core.IRepositoryQuery;
+import org.eclipse.mylyn.tasks.core.ITask;
+import org.eclipse.mylyn.tasks.core.RepositoryStatus;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
+import org.eclipse.mylyn.tasks.core.sync.ISynchronizationSession;
+
+/**
+ * Tests the detection of changed tasks in {@link BugzillaRepositoryConnector#preSynchronization} without a server.
+ */
+public class BugzillaChangedTasksQueryTest extends TestCase {
+
+	private static final String REPOSITORY_URL = "http://mylyn.test/bugzilla";
+
+	private static final String BUG_ID = "bug_id=";
+
+	private static final String OFFSET = "&offset=";
+
+	private class StubConnector extends BugzillaRepositoryConnector {
+
+		private final List<String> queryUrls = Collections.synchronizedList(new ArrayList<String>());
+
+		private RepositoryConfiguration configuration;
+
+		private Set<String> changedTaskIds = new HashSet<String>();
+
+		private int singleQueryResultCount = -1;
+
+		private int serverResultLimit = Integer.MAX_VALUE;
+
+		private boolean authenticationFailure;
+
+		private CountDownLatch concurrentQueries;
+
+		private final AtomicInteger activeQueries = new AtomicInteger();
+
+		private final AtomicInteger maxActiveQueries = new AtomicInteger();
+
+		public StubConnector() {
+			super(null);
+		}
+
+		@Override
+		public BugzillaClientManager getClientManager() {
+			return new BugzillaClientManager(this) {
+				@Override
+				public BugzillaClient getClient(TaskRepository taskRepository, IProgressMonitor monitor)
+						throws CoreException {
+					if (authenticationFailure) {
+						throw new CoreException(new Status(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
+								RepositoryStatus.ERROR_REPOSITORY_LOGIN, "login failed", null));
+					}
+					try {
+						// authenticate() returns immediately since the location has no credentials
+						return new BugzillaClient(new WebLocation(REPOSITORY_URL), taskRepository, StubConnector.this);
+					} catch (MalformedURLException e) {
+						throw new CoreException(new Status(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN, "", e));
+					}
+				}
+			};
+		}
+
+		@Override
+		public RepositoryConfiguration getRepositoryConfiguration(String repositoryUrl) {
+			return configuration;
+		}
+
+		@Override
+		public IStatus performQuery(TaskRepository repository, IRepositoryQuery query, TaskDataCollector collector,
+				ISynchronizationSession session, IProgressMonitor monitor) {
+			String url = query.getUrl();
+			queryUrls.add(url);
+			int active = activeQueries.incrementAndGet();
+			try {
+				synchronized (maxActiveQueries) {
+					maxActiveQueries.set(Math.max(active, maxActiveQueries.get()));
+				}
+				if (concurrentQueries != null) {
+					concurrentQueries.countDown();
+					try {
+						concurrentQueries.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						return Status.CANCEL_STATUS;
+					}
+				}
+				collectResults(repository, url, collector);
+			} catch (UnsupportedEncodingException e) {
+				return new Status(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN, "Invalid query", e);
+			} finally {
+				activeQueries.decrementAndGet();
+			}
+			return Status.OK_STATUS;
+		}
+
+		private void collectResults(TaskRepository repository, String url, TaskDataCollector collector)
+				throws UnsupportedEncodingException {
+			TaskAttributeMapper mapper = new TaskAttributeMapper(repository);
+			int index = url.indexOf(BUG_ID);
+			if (index == -1) {
+				List<String> taskIds = new ArrayList<String>();
+				if (singleQueryResultCount != -1) {
+					for (int i = 0; i < singleQueryResultCount; i++) {
+						taskIds.add("s" + i);
+					}
+				} else {
+					taskIds.addAll(changedTaskIds);
+				}
+				int offset = 0;
+				int offsetIndex = url.indexOf(OFFSET);
+				if (offsetIndex != -1) {
+					offset = Integer.parseInt(url.substring(offsetIndex + OFFSET.length()));
+				}
+				int end = (int) Math.min(taskIds.size(), (long) offset + serverResultLimit);
+				for (String taskId : taskIds.subList(Math.min(offset, end), end)) {
+					collector.accept(new TaskData(mapper, repository.getConnectorKind(), REPOSITORY_URL, taskId));
+				}
+			} else {
+				for (String taskId : getTaskIds(url)) {
+					if (changedTaskIds.contains(taskId)) {
+						collector.accept(new TaskData(mapper, repository.getConnectorKind(), REPOSITORY_URL, taskId));
+					}
+				}
+			}
+		}
+
+	}
+
+	private StubConnector connector;
+
+	private TaskRepository repository;
+
+	private Set<ITask> tasks;
+
+	@Override
+	protected void setUp() throws Exception {
+		connector = new StubConnector();
+		repository = new TaskRepository(BugzillaCorePlugin.CONNECTOR_KIND, REPOSITORY_URL);
+		repository.setSynchronizationTimeStamp("2016-01-01 00:00:00");
+	}
+
+	public void testChangedTasksQueriesChunked() throws Exception {
+		createTasks(2000);
+		connector.changedTaskIds.addAll(Arrays.asList("1", "999", "2000"));
+
+		Set<ITask> staleTasks = synchronize();
+
+		assertTrue(connector.queryUrls.size() > 1);
+		Set<String> queriedIds = new HashSet<String>();
+		for (String url : connector.queryUrls) {
+			assertTrue(url, url.length() < 7100);
+			for (String taskId : getTaskIds(url)) {
+				assertTrue("Queried more than once: " + taskId, queriedIds.add(taskId));
+			}
+		}
+		assertEquals(2000, queriedIds.size());
+		assertEquals(connector.changedTaskIds, getTaskIds(staleTasks));
+	}
+
+	public void testChangedTasksQueriesConcurrent() throws Exception {
+		createTasks(2000);
+		connector.changedTaskIds.addAll(Arrays.asList("5", "1500"));
+		repository.setProperty(IBugzillaConstants.BUGZILLA_CHANGED_TASKS_QUERY_CONCURRENCY, "2");
+		connector.concurrentQueries = new CountDownLatch(2);
+
+		Set<ITask> staleTasks = synchronize();
+
+		assertEquals(2, connector.maxActiveQueries.get());
+		assertTrue(connector.queryUrls.size() > 2);
+		assertEquals(connector.changedTaskIds, getTaskIds(staleTasks));
+	}
+
+	public void testChangedTasksQueriesConcurrentAuthenticationFailure() throws Exception {
+		createTasks(2000);
+		repository.setProperty(IBugzillaConstants.BUGZILLA_CHANGED_TASKS_QUERY_CONCURRENCY, "2");
+		connector.authenticationFailure = true;
+
+		try {
+			synchronize();
+			fail("Expected CoreException");
+		} catch (CoreException e) {
+			assertEquals(RepositoryStatus.ERROR_REPOSITORY_LOGIN, e.getStatus().getCode());
+		}
+		assertTrue(connector.queryUrls.isEmpty());
+	}
+
+	public void testChangedTasksQueriesConcurrencyInvalid() throws Exception {
+		createTasks(2000);
+		connector.changedTaskIds.add("7");
+		repository.setProperty(IBugzillaConstants.BUGZILLA_CHANGED_TASKS_QUERY_CONCURRENCY, "invalid");
+
+		Set<ITask> staleTasks = synchronize();
+
+		assertEquals(1, connector.maxActiveQueries.get());
+		assertTrue(connector.queryUrls.size() > 1);
+		assertEquals(connector.changedTaskIds, getTaskIds(staleTasks));
+	}
+
+	public void testChangedTasksSingleQuery() throws Exception {
+		createTasks(600);
+		connector.configuration = createConfiguration("4.4.2");
+		connector.changedTaskIds.addAll(Arrays.asList("2", "300", "12345"));
+
+		Set<ITask> staleTasks = synchronize();
+
+		assertEquals(2, connector.queryUrls.size());
+		String url = connector.queryUrls.get(0);
+		assertTrue(url, url.contains("chfieldfrom="));
+		assertTrue(url, url.contains("&limit=5000"));
+		assertFalse(url, url.contains(BUG_ID));
+		// checks for results past the end of the first query
+		String probeUrl = connector.queryUrls.get(1);
+		assertTrue(probeUrl, probeUrl.endsWith("&limit=1&offset=3"));
+		assertEquals(new HashSet<String>(Arrays.asList("2", "300")), getTaskIds(staleTasks));
+	}
+
+	public void testChangedTasksSingleQueryNoResults() throws Exception {
+		createTasks(600);
+		connector.configuration = createConfiguration("4.4");
+
+		Set<ITask> staleTasks = synchronize();
+
+		assertEquals(1, connector.queryUrls.size());
+		assertTrue(staleTasks.isEmpty());
+	}
+
+	public void testChangedTasksSingleQueryServerLimit() throws Exception {
+		createTasks(600);
+		connector.configuration = createConfiguration("4.4");
+		// the server truncates results below the limit requested by the client
+		connector.serverResultLimit = 20;
+		for (int i = 1; i <= 30; i++) {
+			connector.changedTaskIds.add(Integer.toString(i));
+		}
+
+		Set<ITask> staleTasks = synchronize();
+
+		assertTrue(connector.queryUrls.get(1).endsWith("&offset=20"));
+		for (String url : connector.queryUrls.subList(2, connector.queryUrls.size())) {
+			assertTrue(url, url.contains(BUG_ID));
+		}
+		assertEquals(connector.changedTaskIds, getTaskIds(staleTasks));
+	}
+
+	public void testChangedTasksSingleQueryTruncated() throws Exception {
+		createTasks(600);
+		connector.configuration = createConfiguration("5.0");
+		connector.singleQueryResultCount = 5000;
+		connector.changedTaskIds.add("42");
+
+		Set<ITask> staleTasks = synchronize();
+
+		assertTrue(connector.queryUrls.size() > 1);
+		assertFalse(connector.queryUrls.get(0).contains(BUG_ID));
+		for (String url : connector.queryUrls.subList(1, connector.queryUrls.size())) {
+			assertTrue(url, url.contains(BUG_ID));
+		}
+		assertEquals(connector.changedTaskIds, getTaskIds(staleTasks));
+	}
+
+	public void testChangedTasksSingleQueryUnsupportedVersion() throws Exception {
+		createTasks(600);
+		connector.configuration = createConfiguration("4.2");
+		connector.changedTaskIds.add("42");
+
+		Set<ITask> staleTasks = synchronize();
+
+		for (String url : connector.queryUrls) {
+			assertTrue(url, url.contains(BUG_ID));
+		}
+		assertEquals(connector.changedTaskIds, getTaskIds(staleTasks));
+	}
+
+	public void testChangedTasksSingleQueryDisabled() throws Exception {
+		createTasks(600);
+		connector.configuration = createConfiguration("4.4");
+		repository.setProperty(IBugzillaConstants.BUGZILLA_CHANGED_TASKS_SINGLE_QUERY, "false");
+
+		synchronize();
+
+		for (String url : connector.queryUrls) {
+			assertTrue(url, url.contains(BUG_ID));
+		}
+	}
+
+	public void testChangedTasksSingleQueryFewTasks() throws Exception {
+		createTasks(10);
+		connector.configuration = createConfiguration("4.4");
+
+		synchronize();
+
+		assertEquals(1, connector.queryUrls.size());
+		assertTrue(connector.queryUrls.get(0).contains(BUG_ID));
+	}
+
+	private void createTasks(int count) {
+		tasks = new HashSet<ITask>();
+		for (int i = 1; i <= count; i++) {
+			tasks.add(new TaskTask(BugzillaCorePlugin.CONNECTOR_KIND, REPOSITORY_URL, Integer.toString(i)));
+		}
+	}
+
+	private RepositoryConfiguration createConfiguration(String version) {
+		RepositoryConfiguration configuration = new RepositoryConfiguration();
+		configuration.setRepositoryUrl(REPOSITORY_URL);
+		configuration.setInstallVersion(version);
+		return configuration;
+	}
+
+	private Set<ITask> synchronize() throws CoreException {
+		SynchronizationSession session = new SynchronizationSession();
+		session.setTaskRepository(repository);
+		session.setTasks(tasks);
+		connector.preSynchronization(session, null);
+		return session.getStaleTasks();
+	}
+
+	private static Set<String> getTaskIds(String url) throws UnsupportedEncodingException {
+		int index = url.indexOf(BUG_ID) + BUG_ID.length();
+		int end = url.indexOf('&', index);
+		String value = URLDecoder.decode((end == -1) ? url.substring(index) : url.substring(index, end), "UTF-8");
+		Set<String> taskIds = new HashSet<String>();
+		for (String taskId : value.split(",")) {
+			if (taskId.length() > 0) {
+				taskIds.add(taskId);
+			}
+		}
+		return taskIds;
+	}
+
+	private static Set<String> getTaskIds(Set<ITask> tasks) {
+		Set<String> taskIds = new HashSet<String>();
+		for (ITask task : tasks) {
+			taskIds.add(task.getTaskId());
+		}
+		return taskIds;
+	}
+
+}
@@ -13,6 +13,7 @@ package org.eclipse.mylyn.bugzilla.tests.core;
 
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -29,6 +30,7 @@ import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttributeMapper;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaClient;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaRepositoryConnector;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaVersion;
+import org.eclipse.mylyn.internal.bugzilla.core.IBugzillaConstants;
 import org.eclipse.mylyn.internal.bugzilla.core.RepositoryConfiguration;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryLocation;
@@ -280,4 +282,30 @@ public class BugzillaClientTest extends AbstractBugzillaTest {
 		assertEquals("2", idAttribute.getValue());
 	}
 
+	public void testGetTaskDataConcurrently() throws Exception {
+		TaskRepository repository = BugzillaFixture.current().repository();
+		repository.setProperty(IBugzillaConstants.BUGZILLA_TASK_DATA_CONCURRENCY, "3");
+		repository.setProperty(IBugzillaConstants.BUGZILLA_TASK_DATA_BATCH_SIZE, "1");
+		AbstractWebLocation location = BugzillaFixture.current().location();
+		client = new BugzillaClient(location, repository, BugzillaFixture.current().connector());
+
+		final Set<String> taskIds = new HashSet<String>();
+		TaskDataCollector collector = new TaskDataCollector() {
+
+			@Override
+			public void accept(TaskData taskData) {
+				taskIds.add(taskData.getTaskId());
+			}
+		};
+		TaskAttributeMapper mapper = BugzillaFixture.current()
+				.connector()
+				.getTaskDataHandler()
+				.getAttributeMapper(repository);
+
+		client.getTaskData(new HashSet<String>(Arrays.asList("1", "2", "0003")), collector, mapper,
+				new NullProgressMonitor());
+
+		assertEquals(new HashSet<String>(Arrays.asList("1", "2", "3")), taskIds);
+	}
+
 }
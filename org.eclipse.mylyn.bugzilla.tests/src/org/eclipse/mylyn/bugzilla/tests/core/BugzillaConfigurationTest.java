@@ -15,6 +15,7 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 
 import junit.framework.TestCase;
 
@@ -24,7 +25,7 @@ import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttribute;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaRepositoryConnector;
 import org.eclipse.mylyn.internal.bugzilla.core.RepositoryConfiguration;
 import org.eclipse.mylyn.internal.bugzilla.core.SaxConfigurationContentHandler;
-import org.eclipse.mylyn.internal.bugzilla.core.XmlCleaner;
+import org.eclipse.mylyn.internal.bugzilla.core.XmlCleaningReader;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -109,21 +110,10 @@ public class BugzillaConfigurationTest extends TestCase {
 	 * included (rdfconfig218.txt) is from mylyn.eclipse.org/bugs218
 	 */
 	public void testRepositoryConfigurationFromFile() throws Exception {
-		BufferedReader inCleaned = null;
+		Reader inCleaned = null;
 		try {
-			File tempFile = File.createTempFile("XmlCleaner-", "tmp");
-			tempFile.deleteOnExit();
-
 			InputStream stream = BugzillaFixture.getResource("testdata/configuration/rdfconfig218.txt");
-			BufferedReader in = new BufferedReader(new InputStreamReader(stream));
-			try {
-				inCleaned = XmlCleaner.clean(in, tempFile);
-				if (tempFile != null) {
-					tempFile.delete();
-				}
-			} finally {
-				in.close();
-			}
+			inCleaned = new XmlCleaningReader(new BufferedReader(new InputStreamReader(stream)), true);
 
 			SaxConfigurationContentHandler contentHandler = new SaxConfigurationContentHandler();
 			final XMLReader reader = CoreUtil.newXmlReader();
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.tests.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+
+import junit.framework.TestCase;
+
+import org.eclipse.mylyn.bugzilla.tests.support.BugzillaFixture;
+import org.eclipse.mylyn.commons.core.CoreUtil;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttribute;
+import org.eclipse.mylyn.internal.bugzilla.core.RepositoryConfiguration;
+import org.eclipse.mylyn.internal.bugzilla.core.SaxConfigurationContentHandler;
+import org.eclipse.mylyn.internal.bugzilla.core.XmlCleaningReader;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+public class XmlCleaningReaderTest extends TestCase {
+
+	public void testRemoveInvalidCharacters() throws Exception {
+		assertEquals("<a>bc\td</a>", clean("<a>b\u0000c\t\u0001d\u001f</a>", false));
+		assertEquals("\uD83D\uDE00", clean("\uD83D\uDE00", false));
+	}
+
+	public void testEscapeAttributes() throws Exception {
+		assertEquals("<li resource=\"a?b=1&amp;c=2\" other=\"x&y\">&z</li>",
+				clean("<li resource=\"a?b=1&c=2\" other=\"x&y\">&z</li>", true));
+		assertEquals("<li rdf:about='a?b=1&amp;c=2'/>", clean("<li rdf:about='a?b=1&c=2'/>", true));
+	}
+
+	public void testEscapeAttributesRetainsReferences() throws Exception {
+		assertEquals("<li resource=\"a&amp;b&#38;c&lt;\"/>", clean("<li resource=\"a&amp;b&#38;c&lt;\"/>", true));
+		assertEquals("<li resource=\"a&amp;\"/>", clean("<li resource=\"a&\"/>", true));
+	}
+
+	public void testEscapeAttributesIgnoresComments() throws Exception {
+		assertEquals("<!-- resource=\"a&b\" --><li resource=\"&amp;\"/>",
+				clean("<!-- resource=\"a&b\" --><li resource=\"&\"/>", true));
+	}
+
+	public void testEscapeAttributesAcrossBuffers() throws Exception {
+		StringBuilder expected = new StringBuilder();
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			input.append("<li resource=\"p?a=" + i + "&b=&amp;" + i + "\"/>\u0000\n");
+			expected.append("<li resource=\"p?a=" + i + "&amp;b=&amp;" + i + "\"/>\n");
+		}
+		assertEquals(expected.toString(), clean(input.toString(), true));
+	}
+
+	public void testRepositoryConfigurationFromFile() throws Exception {
+		InputStream stream = BugzillaFixture.getResource("testdata/configuration/rdfconfig218.txt");
+		Reader in = new XmlCleaningReader(new InputStreamReader(stream), true);
+		try {
+			SaxConfigurationContentHandler contentHandler = new SaxConfigurationContentHandler();
+			XMLReader reader = CoreUtil.newXmlReader();
+			reader.setContentHandler(contentHandler);
+			reader.parse(new InputSource(in));
+
+			RepositoryConfiguration config = contentHandler.getConfiguration();
+			assertNotNull(config);
+			assertTrue(config.getOptionValues(BugzillaAttribute.PRODUCT).contains(
+					"Test-Long-Named-Product-AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"));
+		} finally {
+			in.close();
+		}
+	}
+
+	private String clean(String content, boolean escapeAttributes) throws IOException {
+		Reader in = new XmlCleaningReader(new StringReader(content), escapeAttributes);
+		try {
+			StringBuilder sb = new StringBuilder();
+			char[] buffer = new char[1000];
+			int n;
+			while ((n = in.read(buffer)) != -1) {
+				sb.append(buffer, 0, n);
+			}
+			return sb.toString();
+		} finally {
+			in.close();
+		}
+	}
+
+}
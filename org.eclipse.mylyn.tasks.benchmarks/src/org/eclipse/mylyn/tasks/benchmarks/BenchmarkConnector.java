@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.util.Date;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector;
+import org.eclipse.mylyn.tasks.core.IRepositoryQuery;
+import org.eclipse.mylyn.tasks.core.ITask;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
+import org.eclipse.mylyn.tasks.core.data.TaskMapper;
+import org.eclipse.mylyn.tasks.core.sync.ISynchronizationSession;
+
+/**
+ * An in-process connector that serves task data generated by {@link SyntheticTasks}. Queries return partial task
+ * data for the first {@link #getQueryResultCount()} tasks, the first {@link #getChangedTaskCount()} tasks are reported
+ * at the current {@link #getRevision() revision} while all other tasks remain unchanged.
+ */
+public class BenchmarkConnector extends AbstractRepositoryConnector {
+
+	public static final String CONNECTOR_KIND = "benchmark"; //$NON-NLS-1$
+
+	public static final String REPOSITORY_URL = "http://benchmark.test"; //$NON-NLS-1$
+
+	private static final String TASK_URL_PREFIX = "/tasks/"; //$NON-NLS-1$
+
+	private SyntheticTasks syntheticTasks;
+
+	private volatile int queryResultCount;
+
+	private volatile int changedTaskCount;
+
+	private volatile int revision;
+
+	public static String getTaskUrl(TaskRepository repository, String taskId) {
+		return repository.getRepositoryUrl() + TASK_URL_PREFIX + taskId;
+	}
+
+	public void setSyntheticTasks(SyntheticTasks syntheticTasks) {
+		this.syntheticTasks = syntheticTasks;
+	}
+
+	public int getQueryResultCount() {
+		return queryResultCount;
+	}
+
+	public void setQueryResultCount(int queryResultCount) {
+		this.queryResultCount = queryResultCount;
+	}
+
+	public int getChangedTaskCount() {
+		return changedTaskCount;
+	}
+
+	public void setChangedTaskCount(int changedTaskCount) {
+		this.changedTaskCount = changedTaskCount;
+	}
+
+	public int getRevision() {
+		return revision;
+	}
+
+	public void setRevision(int revision) {
+		this.revision = revision;
+	}
+
+	@Override
+	public boolean canCreateNewTask(TaskRepository repository) {
+		return false;
+	}
+
+	@Override
+	public boolean canCreateTaskFromKey(TaskRepository repository) {
+		return false;
+	}
+
+	@Override
+	public String getConnectorKind() {
+		return CONNECTOR_KIND;
+	}
+
+	@Override
+	public String getLabel() {
+		return "Benchmark"; //$NON-NLS-1$
+	}
+
+	@Override
+	public String getRepositoryUrlFromTaskUrl(String taskUrl) {
+		int i = taskUrl.indexOf(TASK_URL_PREFIX);
+		return (i != -1) ? taskUrl.substring(0, i) : null;
+	}
+
+	@Override
+	public String getTaskIdFromTaskUrl(String taskUrl) {
+		int i = taskUrl.indexOf(TASK_URL_PREFIX);
+		return (i != -1) ? taskUrl.substring(i + TASK_URL_PREFIX.length()) : null;
+	}
+
+	@Override
+	public String getTaskUrl(String repositoryUrl, String taskIdOrKey) {
+		return repositoryUrl + TASK_URL_PREFIX + taskIdOrKey;
+	}
+
+	@Override
+	public TaskData getTaskData(TaskRepository repository, String taskId, IProgressMonitor monitor)
+			throws CoreException {
+		return syntheticTasks.createTaskData(taskId, getRevision(taskId), false);
+	}
+
+	@Override
+	public boolean hasTaskChanged(TaskRepository taskRepository, ITask task, TaskData taskData) {
+		Date modificationDate = new TaskMapper(taskData).getModificationDate();
+		return modificationDate == null || !modificationDate.equals(task.getModificationDate());
+	}
+
+	@Override
+	public IStatus performQuery(TaskRepository repository, IRepositoryQuery query, TaskDataCollector collector,
+			ISynchronizationSession session, IProgressMonitor monitor) {
+		for (int i = 1; i <= queryResultCount; i++) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			String taskId = Integer.toString(i);
+			collector.accept(syntheticTasks.createTaskData(taskId, getRevision(taskId), true));
+		}
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public void updateRepositoryConfiguration(TaskRepository taskRepository, IProgressMonitor monitor)
+			throws CoreException {
+		// nothing to update
+	}
+
+	@Override
+	public void updateTaskFromTaskData(TaskRepository taskRepository, ITask task, TaskData taskData) {
+		new TaskMapper(taskData).applyTo(task);
+	}
+
+	private int getRevision(String taskId) {
+		return (Integer.parseInt(taskId) <= changedTaskCount) ? revision : 0;
+	}
+
+}
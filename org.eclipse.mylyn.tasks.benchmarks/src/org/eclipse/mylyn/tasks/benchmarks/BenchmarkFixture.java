@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
+import org.eclipse.mylyn.internal.tasks.core.TaskActivityManager;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
+import org.eclipse.mylyn.internal.tasks.core.data.SynchronizationManger;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataStore;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.sync.SynchronizationParticipant;
+
+/**
+ * Wires up the task list and task data infrastructure for a {@link BenchmarkConnector} repository without requiring a
+ * running Eclipse platform. Task data is stored in a temporary folder that is deleted on {@link #dispose()}.
+ */
+public class BenchmarkFixture {
+
+	public static final long SEED = 42;
+
+	private final TaskList taskList;
+
+	private final TaskRepositoryManager repositoryManager;
+
+	private final BenchmarkConnector connector;
+
+	private final TaskRepository repository;
+
+	private final RepositoryModel repositoryModel;
+
+	private final TaskDataStore dataStore;
+
+	private final TaskDataManager dataManager;
+
+	private final SyntheticTasks syntheticTasks;
+
+	private final File dataDir;
+
+	public BenchmarkFixture() throws IOException {
+		taskList = new TaskList();
+		repositoryManager = new TaskRepositoryManager();
+
+		connector = new BenchmarkConnector();
+		repositoryManager.addRepositoryConnector(connector);
+		repository = new TaskRepository(BenchmarkConnector.CONNECTOR_KIND, BenchmarkConnector.REPOSITORY_URL);
+		repositoryManager.addRepository(repository);
+
+		syntheticTasks = new SyntheticTasks(repository, SEED);
+		connector.setSyntheticTasks(syntheticTasks);
+
+		repositoryModel = new RepositoryModel(taskList, repositoryManager);
+		dataStore = new TaskDataStore(repositoryManager);
+		TaskActivityManager activityManager = new TaskActivityManager(repositoryManager, taskList);
+		// synchronization participants are contributed through extensions which are not available outside of OSGi
+		SynchronizationManger synchronizationManger = new SynchronizationManger(repositoryModel) {
+			@Override
+			public synchronized List<SynchronizationParticipant> getParticipants(String connectorKind) {
+				return Collections.emptyList();
+			}
+
+			@Override
+			public synchronized List<SynchronizationParticipant> getDefaultParticipants() {
+				return Collections.emptyList();
+			}
+
+			@Override
+			public synchronized List<SynchronizationParticipant> getIgnoredIncomings(String connectorKind) {
+				return Collections.emptyList();
+			}
+		};
+		dataManager = new TaskDataManager(dataStore, repositoryManager, taskList, activityManager,
+				synchronizationManger);
+
+		dataDir = createTempFolder("data"); //$NON-NLS-1$
+		dataManager.setDataPath(dataDir.getAbsolutePath());
+	}
+
+	public TaskList getTaskList() {
+		return taskList;
+	}
+
+	public TaskRepositoryManager getRepositoryManager() {
+		return repositoryManager;
+	}
+
+	public BenchmarkConnector getConnector() {
+		return connector;
+	}
+
+	public TaskRepository getRepository() {
+		return repository;
+	}
+
+	public RepositoryModel getRepositoryModel() {
+		return repositoryModel;
+	}
+
+	public TaskDataStore getDataStore() {
+		return dataStore;
+	}
+
+	public TaskDataManager getDataManager() {
+		return dataManager;
+	}
+
+	public SyntheticTasks getSyntheticTasks() {
+		return syntheticTasks;
+	}
+
+	public File getDataDir() {
+		return dataDir;
+	}
+
+	public File createTempFolder(String prefix) throws IOException {
+		File folder = File.createTempFile("mylyn-benchmark-" + prefix, null); //$NON-NLS-1$
+		if (!folder.delete() || !folder.mkdirs()) {
+			throw new IOException("Failed to create temporary folder " + folder); //$NON-NLS-1$
+		}
+		return folder;
+	}
+
+	public void dispose() {
+		deleteRecursively(dataDir);
+	}
+
+	public static void deleteRecursively(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				deleteRecursively(child);
+			}
+		}
+		file.delete();
+	}
+
+}
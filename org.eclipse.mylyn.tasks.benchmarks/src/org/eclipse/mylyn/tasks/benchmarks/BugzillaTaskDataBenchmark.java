@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttributeMapper;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaCorePlugin;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaCustomField;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaRepositoryConnector;
+import org.eclipse.mylyn.internal.bugzilla.core.MultiBugReportFactory;
+import org.eclipse.mylyn.internal.bugzilla.core.XmlCleaningReader;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing of a Bugzilla show_bug.cgi response with multiple bugs through the {@link XmlCleaningReader} and
+ * the {@link MultiBugReportFactory}. The response repeats the bug of a Bugzilla 4.4 response for each id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BugzillaTaskDataBenchmark {
+
+	private static final String RESPONSE_RESOURCE = "show_bug-4.4.xml"; //$NON-NLS-1$
+
+	private static final String ENCODING = "UTF-8"; //$NON-NLS-1$
+
+	private static final String REPOSITORY_URL = "http://mylyn.test/bugs44"; //$NON-NLS-1$
+
+	@Param({ "50" })
+	public int bugCount;
+
+	private byte[] response;
+
+	private BugzillaRepositoryConnector connector;
+
+	private TaskRepository repository;
+
+	private TaskAttributeMapper mapper;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		response = createResponse(bugCount);
+		connector = new BugzillaRepositoryConnector();
+		repository = new TaskRepository(BugzillaCorePlugin.CONNECTOR_KIND, REPOSITORY_URL);
+		mapper = new BugzillaAttributeMapper(repository, connector);
+	}
+
+	@Benchmark
+	public int clean() throws IOException {
+		Reader reader = new XmlCleaningReader(new InputStreamReader(new ByteArrayInputStream(response), ENCODING),
+				false);
+		try {
+			char[] buffer = new char[8192];
+			int count = 0;
+			int read;
+			while ((read = reader.read(buffer)) != -1) {
+				count += read;
+			}
+			return count;
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Benchmark
+	public List<TaskData> populateReport() throws IOException, CoreException {
+		Map<String, TaskData> taskDataById = new HashMap<String, TaskData>();
+		for (int i = 1; i <= bugCount; i++) {
+			String taskId = Integer.toString(i);
+			taskDataById.put(taskId, new TaskData(mapper, BugzillaCorePlugin.CONNECTOR_KIND, REPOSITORY_URL, taskId));
+		}
+		final List<TaskData> result = new ArrayList<TaskData>(bugCount);
+		TaskDataCollector collector = new TaskDataCollector() {
+			@Override
+			public void accept(TaskData taskData) {
+				result.add(taskData);
+			}
+		};
+		MultiBugReportFactory factory = new MultiBugReportFactory(new ByteArrayInputStream(response), ENCODING,
+				connector);
+		factory.populateReport(taskDataById, collector, mapper, Collections.<BugzillaCustomField> emptyList());
+		return result;
+	}
+
+	private static byte[] createResponse(int bugCount) throws IOException {
+		InputStream in = BugzillaTaskDataBenchmark.class.getResourceAsStream(RESPONSE_RESOURCE);
+		if (in == null) {
+			throw new IOException("Missing resource " + RESPONSE_RESOURCE); //$NON-NLS-1$
+		}
+		StringBuilder content = new StringBuilder();
+		try {
+			Reader reader = new InputStreamReader(in, ENCODING);
+			char[] buffer = new char[8192];
+			int read;
+			while ((read = reader.read(buffer)) != -1) {
+				content.append(buffer, 0, read);
+			}
+		} finally {
+			in.close();
+		}
+		String template = content.toString();
+		int start = template.indexOf("<bug>"); //$NON-NLS-1$
+		int end = template.indexOf("</bug>") + "</bug>".length(); //$NON-NLS-1$ //$NON-NLS-2$
+		String bug = template.substring(start, end);
+		StringBuilder sb = new StringBuilder(template.length() * bugCount);
+		sb.append(template.substring(0, start));
+		for (int i = 1; i <= bugCount; i++) {
+			sb.append(bug.replace("<bug_id>1</bug_id>", "<bug_id>" + i + "</bug_id>")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			sb.append("\n\n    "); //$NON-NLS-1$
+		}
+		sb.append(template.substring(end));
+		return sb.toString().getBytes(ENCODING);
+	}
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizeQueriesJob;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full {@link SynchronizeQueriesJob} against the {@link BenchmarkConnector}. The task list is synchronized
+ * once during setup, each iteration then advances the revision of {@link #changedTaskCount} tasks so that the
+ * benchmark measures an incremental synchronization of a large query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SynchronizeQueriesJobBenchmark {
+
+	@Param({ "10000", "100000" })
+	public int taskCount;
+
+	@Param({ "100" })
+	public int changedTaskCount;
+
+	private BenchmarkFixture fixture;
+
+	private Set<RepositoryQuery> queries;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		fixture = new BenchmarkFixture();
+		fixture.getSyntheticTasks().populate(fixture.getTaskList(), taskCount, 0, 0);
+		queries = new HashSet<RepositoryQuery>(
+				fixture.getSyntheticTasks().createQueries(fixture.getTaskList(), 1));
+		fixture.getConnector().setQueryResultCount(taskCount);
+		fixture.getConnector().setChangedTaskCount(changedTaskCount);
+		// the initial synchronization stores the query results, no task data is retrieved since all tasks match
+		// revision 0
+		synchronize();
+	}
+
+	@Setup(Level.Iteration)
+	public void advanceRevision() {
+		fixture.getConnector().setRevision(fixture.getConnector().getRevision() + 1);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.dispose();
+	}
+
+	@Benchmark
+	public IStatus synchronize() {
+		SynchronizeQueriesJob job = new SynchronizeQueriesJob(fixture.getTaskList(), fixture.getDataManager(),
+				fixture.getRepositoryModel(), fixture.getConnector(), fixture.getRepository(), queries);
+		job.setFullSynchronization(true);
+		return job.run(new NullProgressMonitor());
+	}
+
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
+import org.eclipse.mylyn.internal.tasks.core.TaskCategory;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttachmentMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskCommentMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskMapper;
+
+/**
+ * Generates reproducible task lists and task data of arbitrary size. Generated content only depends on the seed and
+ * the task id so that task data can be recreated for any task in a generated task list.
+ */
+public class SyntheticTasks {
+
+	private static final long BASE_DATE = 1451606400000L; // 2016-01-01
+
+	private static final long HOUR = 60 * 60 * 1000L;
+
+	private static final String[] WORDS = { "editor", "repository", "query", "synchronization", "attachment", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			"comment", "context", "index", "search", "timeout", "exception", "layout", "performance", "memory", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$
+			"filter", "decoration", "notification", "scheduling", "planning", "label", "server", "client", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+			"fails", "hangs", "slow", "missing", "wrong", "after", "when", "with", "update", "refresh" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+
+	private static final String[] STATUSES = { "NEW", "ASSIGNED", "REOPENED", "RESOLVED", "VERIFIED", "CLOSED" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+	private static final String[] PRIORITIES = { "P1", "P2", "P3", "P4", "P5" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+	private static final int PEOPLE_COUNT = 200;
+
+	private final TaskRepository repository;
+
+	private final long seed;
+
+	private int maxComments = 10;
+
+	private int maxAttachments = 3;
+
+	public SyntheticTasks(TaskRepository repository, long seed) {
+		this.repository = repository;
+		this.seed = seed;
+	}
+
+	public int getMaxComments() {
+		return maxComments;
+	}
+
+	public void setMaxComments(int maxComments) {
+		this.maxComments = maxComments;
+	}
+
+	public int getMaxAttachments() {
+		return maxAttachments;
+	}
+
+	public void setMaxAttachments(int maxAttachments) {
+		this.maxAttachments = maxAttachments;
+	}
+
+	public TaskRepository getRepository() {
+		return repository;
+	}
+
+	/**
+	 * Adds <code>taskCount</code> tasks with ids <code>1..taskCount</code> to <code>taskList</code>. Tasks are
+	 * distributed round-robin across the categories and each task is additionally added to one of the queries.
+	 */
+	public List<TaskTask> populate(TaskList taskList, int taskCount, int categoryCount, int queryCount) {
+		List<TaskCategory> categories = new ArrayList<TaskCategory>(categoryCount);
+		for (int i = 0; i < categoryCount; i++) {
+			TaskCategory category = new TaskCategory("category-" + i, "Category " + i); //$NON-NLS-1$ //$NON-NLS-2$
+			taskList.addCategory(category);
+			categories.add(category);
+		}
+		List<RepositoryQuery> queries = createQueries(taskList, queryCount);
+		List<TaskTask> tasks = new ArrayList<TaskTask>(taskCount);
+		for (int i = 1; i <= taskCount; i++) {
+			TaskTask task = createTask(Integer.toString(i));
+			if (categories.isEmpty()) {
+				taskList.addTask(task);
+			} else {
+				taskList.addTask(task, categories.get(i % categories.size()));
+			}
+			if (!queries.isEmpty()) {
+				taskList.addTask(task, queries.get(i % queries.size()));
+			}
+			tasks.add(task);
+		}
+		return tasks;
+	}
+
+	public List<RepositoryQuery> createQueries(TaskList taskList, int queryCount) {
+		List<RepositoryQuery> queries = new ArrayList<RepositoryQuery>(queryCount);
+		for (int i = 0; i < queryCount; i++) {
+			RepositoryQuery query = new RepositoryQuery(repository.getConnectorKind(), "query-" + i); //$NON-NLS-1$
+			query.setRepositoryUrl(repository.getRepositoryUrl());
+			query.setSummary("Query " + i); //$NON-NLS-1$
+			query.setUrl(repository.getRepositoryUrl() + "/query?id=" + i); //$NON-NLS-1$
+			taskList.addQuery(query);
+			queries.add(query);
+		}
+		return queries;
+	}
+
+	/**
+	 * Creates a task that matches the initial revision of the task data for <code>taskId</code>.
+	 */
+	public TaskTask createTask(String taskId) {
+		TaskTask task = new TaskTask(repository.getConnectorKind(), repository.getRepositoryUrl(), taskId);
+		new TaskMapper(createTaskData(taskId, 0, true)).applyTo(task);
+		return task;
+	}
+
+	/**
+	 * Creates task data for <code>taskId</code>. Each <code>revision</code> adds a comment and advances the
+	 * modification date, the remaining content is identical for all revisions of a task.
+	 */
+	public TaskData createTaskData(String taskId, int revision, boolean partial) {
+		Random random = createRandom(taskId);
+		TaskData taskData = new TaskData(new TaskAttributeMapper(repository), repository.getConnectorKind(),
+				repository.getRepositoryUrl(), taskId);
+		taskData.setPartial(partial);
+
+		Date creationDate = new Date(BASE_DATE + random.nextInt(24 * 365) * HOUR);
+		TaskMapper mapper = new TaskMapper(taskData, true);
+		mapper.setTaskKey(taskId);
+		mapper.setSummary(createText(random, 4 + random.nextInt(8)));
+		mapper.setOwner(createPerson(random));
+		mapper.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+		mapper.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+		mapper.setCreationDate(creationDate);
+		mapper.setModificationDate(new Date(creationDate.getTime() + revision * HOUR));
+		mapper.setTaskUrl(BenchmarkConnector.getTaskUrl(repository, taskId));
+		if (partial) {
+			return taskData;
+		}
+
+		mapper.setReporter(createPerson(random));
+		mapper.setProduct("Product " + random.nextInt(5)); //$NON-NLS-1$
+		mapper.setComponent("Component " + random.nextInt(20)); //$NON-NLS-1$
+		mapper.setDescription(createText(random, 50 + random.nextInt(200)));
+		mapper.setCc(Arrays.asList(createPerson(random), createPerson(random), createPerson(random)));
+
+		int commentCount = random.nextInt(maxComments + 1) + revision;
+		for (int i = 1; i <= commentCount; i++) {
+			TaskCommentMapper comment = new TaskCommentMapper();
+			comment.setCommentId(Integer.toString(i));
+			comment.setNumber(i);
+			comment.setAuthor(repository.createPerson(createPerson(random)));
+			comment.setCreationDate(new Date(creationDate.getTime() + i * HOUR));
+			comment.setText(createText(random, 10 + random.nextInt(100)));
+			comment.applyTo(taskData.getRoot().createAttribute(TaskAttribute.PREFIX_COMMENT + i));
+		}
+
+		int attachmentCount = random.nextInt(maxAttachments + 1);
+		for (int i = 1; i <= attachmentCount; i++) {
+			TaskAttachmentMapper attachment = new TaskAttachmentMapper();
+			attachment.setAttachmentId(Integer.toString(i));
+			attachment.setAuthor(repository.createPerson(createPerson(random)));
+			attachment.setCreationDate(new Date(creationDate.getTime() + i * HOUR));
+			attachment.setDescription(createText(random, 3 + random.nextInt(5)));
+			attachment.setFileName("attachment-" + i + ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+			attachment.setContentType("text/plain"); //$NON-NLS-1$
+			attachment.setLength((long) random.nextInt(100000));
+			attachment.applyTo(taskData.getRoot().createAttribute(TaskAttribute.PREFIX_ATTACHMENT + i));
+		}
+		return taskData;
+	}
+
+	private Random createRandom(String taskId) {
+		return new Random(seed * 31 + taskId.hashCode());
+	}
+
+	private String createPerson(Random random) {
+		return "user" + random.nextInt(PEOPLE_COUNT) + "@example.com"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private String createText(Random random, int wordCount) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < wordCount; i++) {
+			if (i > 0) {
+				sb.append(' ');
+			}
+			sb.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataState;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataStore;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing and reading of task data files through the {@link TaskDataStore}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskDataStoreBenchmark {
+
+	private static final int FILE_COUNT = 1000;
+
+	@Param({ "5", "50" })
+	public int maxComments;
+
+	private BenchmarkFixture fixture;
+
+	private TaskDataStore dataStore;
+
+	private TaskData[] taskData;
+
+	private File[] files;
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, CoreException {
+		fixture = new BenchmarkFixture();
+		fixture.getSyntheticTasks().setMaxComments(maxComments);
+		dataStore = fixture.getDataStore();
+		taskData = new TaskData[FILE_COUNT];
+		files = new File[FILE_COUNT];
+		for (int i = 0; i < FILE_COUNT; i++) {
+			taskData[i] = fixture.getSyntheticTasks().createTaskData(Integer.toString(i + 1), 0, false);
+			files[i] = new File(fixture.getDataDir(), (i + 1) + ".zip"); //$NON-NLS-1$
+			dataStore.putTaskData(files[i], taskData[i], false, false);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.dispose();
+	}
+
+	@Benchmark
+	public TaskDataState putTaskData() throws CoreException {
+		int i = next();
+		return dataStore.putTaskData(files[i], taskData[i], false, false);
+	}
+
+	@Benchmark
+	public TaskDataState getTaskDataState() throws CoreException {
+		return dataStore.getTaskDataState(files[next()]);
+	}
+
+	private int next() {
+		index = (index + 1) % FILE_COUNT;
+		return index;
+	}
+
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.mylyn.internal.tasks.core.RepositoryTaskHandleUtil;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures common {@link TaskList} operations on large task lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListBenchmark {
+
+	@Param({ "10000", "100000" })
+	public int taskCount;
+
+	private BenchmarkFixture fixture;
+
+	private TaskList taskList;
+
+	private String[] handles;
+
+	private Random random;
+
+	private TaskTask newTask;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		fixture = new BenchmarkFixture();
+		taskList = fixture.getTaskList();
+		fixture.getSyntheticTasks().populate(taskList, taskCount, 20, 10);
+		handles = new String[taskCount];
+		for (int i = 0; i < taskCount; i++) {
+			handles[i] = RepositoryTaskHandleUtil.getHandle(BenchmarkConnector.REPOSITORY_URL, Integer.toString(i + 1));
+		}
+		random = new Random(BenchmarkFixture.SEED);
+		newTask = fixture.getSyntheticTasks().createTask(Integer.toString(taskCount + 1));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.dispose();
+	}
+
+	@Benchmark
+	public int getAllTasks() {
+		return taskList.getAllTasks().size();
+	}
+
+	@Benchmark
+	public Object getTaskByHandle() {
+		return taskList.getTask(handles[random.nextInt(handles.length)]);
+	}
+
+	@Benchmark
+	public Object getTaskByRepositoryUrl() {
+		return taskList.getTask(BenchmarkConnector.REPOSITORY_URL, Integer.toString(random.nextInt(taskCount) + 1));
+	}
+
+	@Benchmark
+	public int getRootElements() {
+		return taskList.getRootElements().size();
+	}
+
+	@Benchmark
+	public void addAndDeleteTask() {
+		taskList.addTask(newTask, taskList.getDefaultCategory());
+		taskList.deleteTask(newTask);
+	}
+
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.mylyn.internal.tasks.core.TransferList;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListExternalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures saving and loading of large task lists with the {@link TaskListExternalizer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskListExternalizerBenchmark {
+
+	@Param({ "10000", "100000" })
+	public int taskCount;
+
+	private BenchmarkFixture fixture;
+
+	private TaskListExternalizer externalizer;
+
+	private File taskListFile;
+
+	private File outputFile;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, CoreException {
+		fixture = new BenchmarkFixture();
+		fixture.getSyntheticTasks().populate(fixture.getTaskList(), taskCount, 20, 10);
+		externalizer = new TaskListExternalizer(fixture.getRepositoryModel(), fixture.getRepositoryManager());
+		taskListFile = new File(fixture.getDataDir(), "tasklist.xml.zip"); //$NON-NLS-1$
+		externalizer.writeTaskList(fixture.getTaskList(), taskListFile);
+		outputFile = new File(fixture.getDataDir(), "tasklist-out.xml.zip"); //$NON-NLS-1$
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.dispose();
+	}
+
+	@Benchmark
+	public long writeTaskList() throws CoreException {
+		externalizer.writeTaskList(fixture.getTaskList(), outputFile);
+		return outputFile.length();
+	}
+
+	@Benchmark
+	public int readTaskList() throws CoreException {
+		TransferList transferList = new TransferList();
+		externalizer.readTaskList(transferList, taskListFile);
+		return transferList.getAllTasks().size();
+	}
+
+}
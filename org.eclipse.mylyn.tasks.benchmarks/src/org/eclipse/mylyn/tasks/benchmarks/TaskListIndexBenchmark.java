@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.mylyn.commons.core.DelegatingProgressMonitor;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.index.core.TaskListIndex;
+import org.eclipse.mylyn.internal.tasks.index.core.TaskListIndex.TaskCollector;
+import org.eclipse.mylyn.tasks.core.ITask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rebuilding and searching the {@link TaskListIndex}. Task data is stored for the first
+ * {@link #TASK_DATA_COUNT} tasks, the remaining tasks are indexed from the task list only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TaskListIndexBenchmark {
+
+	private static final int TASK_DATA_COUNT = 5000;
+
+	private static final int RESULTS_LIMIT = 50;
+
+	@Param({ "10000", "100000" })
+	public int taskCount;
+
+	private BenchmarkFixture fixture;
+
+	private File indexDir;
+
+	private TaskListIndex index;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, CoreException, InterruptedException {
+		fixture = new BenchmarkFixture();
+		int i = 0;
+		for (TaskTask task : fixture.getSyntheticTasks().populate(fixture.getTaskList(), taskCount, 20, 10)) {
+			if (i++ >= TASK_DATA_COUNT) {
+				break;
+			}
+			fixture.getDataManager().putSubmittedTaskData(task,
+					fixture.getSyntheticTasks().createTaskData(task.getTaskId(), 0, false),
+					new DelegatingProgressMonitor());
+		}
+
+		indexDir = fixture.createTempFolder("index"); //$NON-NLS-1$
+		index = new TaskListIndex(fixture.getTaskList(), fixture.getDataManager(), fixture.getRepositoryManager(),
+				indexDir, 0L);
+		index.setDefaultField(TaskListIndex.FIELD_CONTENT);
+		index.setReindexDelay(0L);
+		index.reindex();
+		index.waitUntilIdle();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		index.close();
+		BenchmarkFixture.deleteRecursively(indexDir);
+		fixture.dispose();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	public void reindex() throws InterruptedException {
+		index.reindex();
+		index.waitUntilIdle();
+	}
+
+	@Benchmark
+	public int findContent() {
+		return find("synchronization timeout"); //$NON-NLS-1$
+	}
+
+	@Benchmark
+	public int findSummary() {
+		return find(TaskListIndex.FIELD_SUMMARY.getIndexKey() + ":editor"); //$NON-NLS-1$
+	}
+
+	private int find(String pattern) {
+		final int[] count = new int[1];
+		index.find(pattern, new TaskCollector() {
+			@Override
+			public void collect(ITask task) {
+				count[0]++;
+			}
+		}, RESULTS_LIMIT);
+		return count[0];
+	}
+
+}
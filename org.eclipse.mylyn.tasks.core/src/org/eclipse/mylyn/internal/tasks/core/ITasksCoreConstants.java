@@ -45,6 +45,18 @@ public interface ITasksCoreConstants {
 
 	public static final String DEFAULT_TASK_LIST_FILE = PREFIX_TASKS + FILE_EXTENSION;
 
+	/**
+	 * System property that enables journaling of task list changes. When enabled, changes are appended to a journal
+	 * next to the task list file and the task list file is only rewritten when the journal has grown large.
+	 */
+	public static final String PROPERTY_TASK_LIST_JOURNAL = "org.eclipse.mylyn.tasks.core.taskList.journal"; //$NON-NLS-1$
+
+	/**
+	 * System property that enables writing task data in a binary format instead of zipped XML. Existing files are read
+	 * in either format.
+	 */
+	public static final String PROPERTY_TASK_DATA_BINARY_FORMAT = "org.eclipse.mylyn.tasks.core.taskData.binary"; //$NON-NLS-1$
+
 	public static final String CONTEXTS_DIRECTORY = "contexts"; //$NON-NLS-1$
 
 	public static final ISchedulingRule ACTIVITY_SCHEDULING_RULE = new MutexSchedulingRule();
@@ -65,6 +77,13 @@ public interface ITasksCoreConstants {
 
 	public static final String ATTRIBUTE_TASK_SUPPRESS_INCOMING = "task.common.suppress.incoming"; //$NON-NLS-1$
 
+	/**
+	 * Summary of the incoming changes of a task that is computed when task data is received.
+	 *
+	 * @see org.eclipse.mylyn.internal.tasks.core.data.TaskDataDiffSummary
+	 */
+	public static final String ATTRIBUTE_TASK_DIFF_SUMMARY = "task.common.diff.summary"; //$NON-NLS-1$
+
 	public static final String ATTRIBUTE_ARTIFACT = "org.eclipse.mylyn.is.artifact"; //$NON-NLS-1$
 
 	public static final String ATTRIBUTE_PRIORITY_LABEL = "task.common.priority.label"; //$NON-NLS-1$
@@ -161,4 +180,33 @@ public interface ITasksCoreConstants {
 
 	public static final Object JOB_FAMILY_SYNCHRONIZATION = new Object();
 
+	/**
+	 * Repository property that specifies the maximum number of concurrent requests that are sent while synchronizing
+	 * tasks. Values less than 2 disable concurrent synchronization.
+	 */
+	public static final String PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REQUESTS = "org.eclipse.mylyn.tasks.core.synchronization.maxConcurrentRequests"; //$NON-NLS-1$
+
+	/**
+	 * Repository property that specifies the number of tasks that are retrieved per request when tasks are
+	 * synchronized concurrently.
+	 */
+	public static final String PROPERTY_SYNCHRONIZATION_BATCH_SIZE = "org.eclipse.mylyn.tasks.core.synchronization.batchSize"; //$NON-NLS-1$
+
+	/**
+	 * System property that specifies the maximum number of repositories that are synchronized concurrently. Values
+	 * less than 2 synchronize repositories one after another.
+	 */
+	public static final String PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REPOSITORIES = "org.eclipse.mylyn.tasks.core.synchronization.maxConcurrentRepositories"; //$NON-NLS-1$
+
+	/**
+	 * System property that specifies the maximum number of repositories on the same host that are synchronized
+	 * concurrently.
+	 */
+	public static final String PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REPOSITORIES_PER_HOST = "org.eclipse.mylyn.tasks.core.synchronization.maxConcurrentRepositoriesPerHost"; //$NON-NLS-1$
+
+	/**
+	 * System property that enables registration of synchronization metrics with the platform MBean server.
+	 */
+	public static final String PROPERTY_SYNCHRONIZATION_METRICS_JMX = "org.eclipse.mylyn.tasks.core.synchronization.metrics.jmx"; //$NON-NLS-1$
+
 }
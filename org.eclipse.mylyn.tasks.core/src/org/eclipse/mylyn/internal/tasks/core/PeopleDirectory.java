@@ -0,0 +1,457 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.mylyn.commons.core.StatusHandler;
+import org.eclipse.mylyn.internal.tasks.core.data.ITaskDataManagerListener;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManagerEvent;
+import org.eclipse.mylyn.tasks.core.IRepositoryPerson;
+import org.eclipse.mylyn.tasks.core.ITask;
+import org.eclipse.mylyn.tasks.core.data.TaskAttachmentMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+import org.eclipse.mylyn.tasks.core.data.TaskCommentMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+
+/**
+ * Maintains the people known for each repository, e.g. to propose people in content assist. People are collected from
+ * the owners of tasks in the task list and from the reporters, assignees, CC'd people and authors of comments and
+ * attachments in task data. The owners are collected with a single scan of the task list when the directory is first
+ * accessed. Afterwards the directory is updated from task list and task data changes. When the people of a repository
+ * are first requested a background job reads the people from the stored task data of that repository; until the job
+ * completes only the people known so far are returned. Jobs belong to the family of the directory instance.
+ * <p>
+ * Lookups by prefix are case insensitive and take O(log n + k) time for a repository with n people and k matches.
+ */
+public class PeopleDirectory implements ITaskListChangeListener, ITaskDataManagerListener {
+
+	private static class People {
+
+		// maps person ids to the number of tasks that reference the person
+		private final TreeMap<String, Integer> references = new TreeMap<String, Integer>(
+				String.CASE_INSENSITIVE_ORDER);
+
+		private final Map<String, String> names = new HashMap<String, String>();
+
+	}
+
+	private static class Contribution {
+
+		private final String repositoryUrl;
+
+		// maps person ids to names, names may be null
+		private Map<String, String> owners = Collections.emptyMap();
+
+		private Map<String, String> participants = Collections.emptyMap();
+
+		// set when participants were taken from a task data update which is more recent than the stored task data
+		private boolean participantsUpdated;
+
+		public Contribution(String repositoryUrl) {
+			this.repositoryUrl = repositoryUrl;
+		}
+
+		public Map<String, String> getPeople() {
+			Map<String, String> people = new HashMap<String, String>(participants);
+			for (Map.Entry<String, String> entry : owners.entrySet()) {
+				if (entry.getValue() != null || !people.containsKey(entry.getKey())) {
+					people.put(entry.getKey(), entry.getValue());
+				}
+			}
+			return people;
+		}
+
+	}
+
+	private final TaskList taskList;
+
+	private final TaskDataManager taskDataManager;
+
+	private final Map<String, People> peopleByRepositoryUrl = new HashMap<String, People>();
+
+	private final Map<String, Contribution> contributionByHandle = new HashMap<String, Contribution>();
+
+	// the urls of the repositories for which reading of the stored task data has been scheduled
+	private final Set<String> loadedRepositoryUrls = new HashSet<String>();
+
+	private boolean initialized;
+
+	private boolean loaded;
+
+	// incremented by clear() to discard the results of jobs that were scheduled before
+	private int generation;
+
+	public PeopleDirectory(TaskList taskList) {
+		this(taskList, null);
+	}
+
+	/**
+	 * Creates a directory that reads the people in the stored task data of <code>taskDataManager</code> in the
+	 * background on first access.
+	 */
+	public PeopleDirectory(TaskList taskList, TaskDataManager taskDataManager) {
+		this.taskList = taskList;
+		this.taskDataManager = taskDataManager;
+	}
+
+	/**
+	 * Returns the ids of the people of a repository that start with <code>prefix</code> sorted case insensitively.
+	 */
+	public synchronized List<String> getPeople(String repositoryUrl, String prefix) {
+		initialize(repositoryUrl);
+		People people = peopleByRepositoryUrl.get(repositoryUrl);
+		if (people == null) {
+			return Collections.emptyList();
+		}
+		List<String> result = new ArrayList<String>();
+		addRange(people, prefix, result);
+		return result;
+	}
+
+	/**
+	 * Returns the ids of the people of all repositories that start with <code>prefix</code> sorted case
+	 * insensitively.
+	 */
+	public synchronized List<String> getPeople(String prefix) {
+		initialize(null);
+		Set<String> result = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+		for (People people : peopleByRepositoryUrl.values()) {
+			addRange(people, prefix, result);
+		}
+		return new ArrayList<String>(result);
+	}
+
+	/**
+	 * Returns a map from the ids of the people of a repository to their names. Only people with a known name are
+	 * included.
+	 */
+	public synchronized Map<String, String> getNames(String repositoryUrl) {
+		initialize(repositoryUrl);
+		People people = peopleByRepositoryUrl.get(repositoryUrl);
+		if (people == null) {
+			return Collections.emptyMap();
+		}
+		return new HashMap<String, String>(people.names);
+	}
+
+	/**
+	 * Discards all people, e.g. after the task list was reloaded. The task list and the stored task data are read
+	 * again on next access.
+	 */
+	public synchronized void clear() {
+		peopleByRepositoryUrl.clear();
+		contributionByHandle.clear();
+		loadedRepositoryUrls.clear();
+		initialized = false;
+		loaded = false;
+		generation++;
+	}
+
+	private void addRange(People people, String prefix, Collection<String> result) {
+		if (prefix == null || prefix.length() == 0) {
+			result.addAll(people.references.keySet());
+			return;
+		}
+		// keys are sorted case insensitively, hence all keys that start with prefix follow each other
+		for (String personId : people.references.tailMap(prefix).keySet()) {
+			if (!personId.regionMatches(true, 0, prefix, 0, prefix.length())) {
+				break;
+			}
+			result.add(personId);
+		}
+	}
+
+	/**
+	 * Collects the owners of all tasks and schedules reading the people in the stored task data of the repository
+	 * with <code>repositoryUrl</code>, or of all repositories if <code>repositoryUrl</code> is <code>null</code>,
+	 * unless that has been done before.
+	 */
+	private void initialize(String repositoryUrl) {
+		if (!initialized) {
+			initialized = true;
+			for (AbstractTask task : taskList.getAllTasks()) {
+				updateOwners(task);
+			}
+		}
+		if (taskDataManager == null || loaded
+				|| (repositoryUrl != null && loadedRepositoryUrls.contains(repositoryUrl))) {
+			return;
+		}
+		Set<String> repositoryUrls = new HashSet<String>();
+		List<AbstractTask> tasks = new ArrayList<AbstractTask>();
+		for (AbstractTask task : taskList.getAllTasks()) {
+			String taskRepositoryUrl = task.getRepositoryUrl();
+			if ((repositoryUrl == null || repositoryUrl.equals(taskRepositoryUrl))
+					&& !loadedRepositoryUrls.contains(taskRepositoryUrl)) {
+				repositoryUrls.add(taskRepositoryUrl);
+				tasks.add(task);
+			}
+		}
+		loadedRepositoryUrls.addAll(repositoryUrls);
+		if (repositoryUrl != null) {
+			loadedRepositoryUrls.add(repositoryUrl);
+		} else {
+			loaded = true;
+		}
+		if (!tasks.isEmpty()) {
+			scheduleReadParticipants(tasks);
+		}
+	}
+
+	/**
+	 * Reads the people in the stored task data of <code>tasks</code> in a background job. Task data is read and
+	 * parsed without holding the lock of the directory.
+	 */
+	private void scheduleReadParticipants(final List<AbstractTask> tasks) {
+		final int jobGeneration = generation;
+		Job job = new Job("Reading people from task data") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				monitor.beginTask("", tasks.size()); //$NON-NLS-1$
+				try {
+					for (AbstractTask task : tasks) {
+						if (monitor.isCanceled()) {
+							return Status.CANCEL_STATUS;
+						}
+						Map<String, String> participants = readParticipants(task);
+						if (participants != null) {
+							synchronized (PeopleDirectory.this) {
+								if (generation != jobGeneration) {
+									return Status.OK_STATUS;
+								}
+								if (taskList.getTask(task.getHandleIdentifier()) != null) {
+									Contribution contribution = getContribution(task);
+									if (!contribution.participantsUpdated) {
+										update(contribution, contribution.owners, participants);
+									}
+								}
+							}
+						}
+						monitor.worked(1);
+					}
+					return Status.OK_STATUS;
+				} finally {
+					monitor.done();
+				}
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return family == PeopleDirectory.this;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	private Map<String, String> readParticipants(AbstractTask task) {
+		if (!taskDataManager.hasTaskData(task)) {
+			return null;
+		}
+		try {
+			TaskData taskData = taskDataManager.getTaskData(task);
+			if (taskData != null) {
+				Map<String, String> participants = new HashMap<String, String>();
+				addPeople(taskData, participants);
+				return participants;
+			}
+		} catch (CoreException e) {
+			StatusHandler.log(new Status(IStatus.WARNING, ITasksCoreConstants.ID_PLUGIN,
+					"Failed to read people from task data of " + task.getHandleIdentifier(), e)); //$NON-NLS-1$
+		}
+		return null;
+	}
+
+	public void containersChanged(Set<TaskContainerDelta> deltas) {
+		for (TaskContainerDelta delta : deltas) {
+			if (delta.getKind() == TaskContainerDelta.Kind.ROOT && delta.getElement() == null) {
+				invalidateOwners();
+			} else if (delta.getElement() instanceof ITask) {
+				ITask task = (ITask) delta.getElement();
+				if (delta.getKind() == TaskContainerDelta.Kind.DELETED
+						|| taskList.getTask(task.getHandleIdentifier()) == null) {
+					remove(task);
+				} else {
+					synchronized (this) {
+						if (initialized) {
+							updateOwners(task);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	public void taskDataUpdated(TaskDataManagerEvent event) {
+		TaskData taskData = event.getTaskData();
+		if (taskData != null && event.getTask() != null) {
+			Map<String, String> participants = new HashMap<String, String>();
+			addPeople(taskData, participants);
+			synchronized (this) {
+				Contribution contribution = getContribution(event.getTask());
+				contribution.participantsUpdated = true;
+				update(contribution, contribution.owners, participants);
+			}
+		}
+	}
+
+	public void editsDiscarded(TaskDataManagerEvent event) {
+		// ignore
+	}
+
+	private synchronized void invalidateOwners() {
+		if (initialized) {
+			initialized = false;
+			for (Contribution contribution : contributionByHandle.values()) {
+				update(contribution, Collections.<String, String> emptyMap(), contribution.participants);
+			}
+		}
+	}
+
+	private synchronized void remove(ITask task) {
+		Contribution contribution = contributionByHandle.remove(task.getHandleIdentifier());
+		if (contribution != null) {
+			update(contribution, Collections.<String, String> emptyMap(),
+					Collections.<String, String> emptyMap());
+		}
+	}
+
+	private void updateOwners(ITask task) {
+		Map<String, String> owners = new HashMap<String, String>(2);
+		String ownerId = task.getOwnerId();
+		String owner = task.getOwner();
+		if (ownerId != null && ownerId.trim().length() > 0) {
+			addPerson(owners, ownerId, owner);
+		} else {
+			addPerson(owners, owner, null);
+		}
+		Contribution contribution = getContribution(task);
+		update(contribution, owners, contribution.participants);
+	}
+
+	private Contribution getContribution(ITask task) {
+		Contribution contribution = contributionByHandle.get(task.getHandleIdentifier());
+		if (contribution != null && !contribution.repositoryUrl.equals(task.getRepositoryUrl())) {
+			// the repository url of the task has changed
+			update(contribution, Collections.<String, String> emptyMap(),
+					Collections.<String, String> emptyMap());
+			contribution = null;
+		}
+		if (contribution == null) {
+			contribution = new Contribution(task.getRepositoryUrl());
+			contributionByHandle.put(task.getHandleIdentifier(), contribution);
+		}
+		return contribution;
+	}
+
+	private void update(Contribution contribution, Map<String, String> owners, Map<String, String> participants) {
+		Map<String, String> oldPeople = contribution.getPeople();
+		contribution.owners = owners;
+		contribution.participants = participants;
+		Map<String, String> newPeople = contribution.getPeople();
+
+		People people = peopleByRepositoryUrl.get(contribution.repositoryUrl);
+		if (people == null) {
+			if (newPeople.isEmpty()) {
+				return;
+			}
+			people = new People();
+			peopleByRepositoryUrl.put(contribution.repositoryUrl, people);
+		}
+		for (String personId : oldPeople.keySet()) {
+			if (!newPeople.containsKey(personId)) {
+				Integer count = people.references.get(personId);
+				if (count == null || count <= 1) {
+					people.references.remove(personId);
+					people.names.remove(personId);
+				} else {
+					people.references.put(personId, count - 1);
+				}
+			}
+		}
+		for (Map.Entry<String, String> entry : newPeople.entrySet()) {
+			String personId = entry.getKey();
+			if (!oldPeople.containsKey(personId)) {
+				Integer count = people.references.get(personId);
+				people.references.put(personId, (count == null) ? 1 : count + 1);
+			}
+			if (entry.getValue() != null) {
+				people.names.put(personId, entry.getValue());
+			}
+		}
+		if (people.references.isEmpty()) {
+			peopleByRepositoryUrl.remove(contribution.repositoryUrl);
+		}
+	}
+
+	private void addPeople(TaskData data, Map<String, String> people) {
+		addPerson(data, people, data.getRoot().getMappedAttribute(TaskAttribute.USER_REPORTER));
+		addPerson(data, people, data.getRoot().getMappedAttribute(TaskAttribute.USER_ASSIGNED));
+		addPerson(data, people, data.getRoot().getMappedAttribute(TaskAttribute.USER_CC));
+		for (TaskAttribute attribute : data.getAttributeMapper().getAttributesByType(data,
+				TaskAttribute.TYPE_COMMENT)) {
+			addPerson(people, TaskCommentMapper.createFrom(attribute).getAuthor());
+		}
+		for (TaskAttribute attribute : data.getAttributeMapper().getAttributesByType(data,
+				TaskAttribute.TYPE_ATTACHMENT)) {
+			addPerson(people, TaskAttachmentMapper.createFrom(attribute).getAuthor());
+		}
+	}
+
+	private void addPerson(TaskData data, Map<String, String> people, TaskAttribute attribute) {
+		if (attribute == null) {
+			return;
+		}
+		if (TaskAttribute.TYPE_PERSON.equals(attribute.getMetaData().getType())) {
+			addPerson(people, data.getAttributeMapper().getRepositoryPerson(attribute));
+		} else {
+			for (String value : attribute.getValues()) {
+				addPerson(people, value, null);
+			}
+		}
+	}
+
+	private void addPerson(Map<String, String> people, IRepositoryPerson person) {
+		if (person != null) {
+			addPerson(people, person.getPersonId(), person.getName());
+		}
+	}
+
+	private void addPerson(Map<String, String> people, String personId, String name) {
+		if (personId != null && personId.trim().length() > 0) {
+			personId = personId.trim();
+			if (name != null && name.trim().length() > 0 && !name.equals(personId)) {
+				people.put(personId, name);
+			} else if (!people.containsKey(personId)) {
+				people.put(personId, null);
+			}
+		}
+	}
+
+}
@@ -77,7 +77,7 @@ public class ScheduledTaskContainer extends AbstractTaskContainer {
 
 	@Override
 	public Collection<ITask> getChildren() {
-		// TODO: Cache this information until the next modification to pertinent data
+		// computed on each call, the Scheduled presentation caches the result until the next modification to pertinent data
 		Calendar now = Calendar.getInstance();
 		// extend range to include tasks scheduled for this container in different time zones
 		// timezones range from UTC-12 to UTC+14, but we will ignore UTC+12 to +14 since we can't distinguish them from UTC-12 to -10
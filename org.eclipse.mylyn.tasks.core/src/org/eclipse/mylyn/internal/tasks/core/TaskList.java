@@ -64,6 +64,22 @@ public class TaskList implements ITaskList, ITransferList {
 
 	private Map<String, AbstractTask> tasks;
 
+	/**
+	 * Secondary index of {@link #tasks} by repository url.
+	 */
+	private Map<String, Set<AbstractTask>> tasksByRepositoryUrl;
+
+	/**
+	 * Secondary index of {@link #tasks} by repository url and task key. Multiple tasks may share a key, e.g. while
+	 * tasks are migrated between connectors.
+	 */
+	private Map<String, Map<String, Set<AbstractTask>>> tasksByKey;
+
+	/**
+	 * Maps task handles to the key that was used for {@link #tasksByKey} since keys may change after a task was added.
+	 */
+	private Map<String, String> indexedTaskKeys;
+
 	private Set<TaskContainerDelta> delta;
 
 	private int nextHandle = 1;
@@ -259,7 +275,9 @@ public class TaskList implements ITaskList, ITransferList {
 				addToUnmatched((AbstractTask) child, delta);
 			}
 
-			tasks.remove(task.getHandleIdentifier());
+			if (tasks.remove(task.getHandleIdentifier()) != null) {
+				removeFromIndex(task);
+			}
 			delta.add(new TaskContainerDelta(task, TaskContainerDelta.Kind.REMOVED));
 			delta.add(new TaskContainerDelta(task, TaskContainerDelta.Kind.DELETED));
 		} finally {
@@ -327,6 +345,7 @@ public class TaskList implements ITaskList, ITransferList {
 		if (task == null) {
 			tasks.put(taskListElement.getHandleIdentifier(), taskListElement);
 			task = taskListElement;
+			addToIndex(task);
 			if (task instanceof LocalTask) {
 				try {
 					int taskId = Integer.parseInt(task.getTaskId());
@@ -399,11 +418,19 @@ public class TaskList implements ITaskList, ITransferList {
 	}
 
 	public AbstractTask getTaskByKey(String repositoryUrl, String taskKey) {
-		for (AbstractTask task : tasks.values()) {
-			String currentTaskKey = task.getTaskKey();
-			if (currentTaskKey != null && currentTaskKey.equals(taskKey)
-					&& task.getRepositoryUrl().equals(repositoryUrl)) {
-				return task;
+		if (repositoryUrl == null || taskKey == null) {
+			return null;
+		}
+		Map<String, Set<AbstractTask>> repositoryTaskKeys = tasksByKey.get(repositoryUrl);
+		if (repositoryTaskKeys != null) {
+			Set<AbstractTask> candidates = repositoryTaskKeys.get(taskKey);
+			if (candidates != null) {
+				for (AbstractTask task : candidates) {
+					// the key may have changed since the task was indexed
+					if (taskKey.equals(task.getTaskKey()) && repositoryUrl.equals(task.getRepositoryUrl())) {
+						return task;
+					}
+				}
 			}
 		}
 		return null;
@@ -425,15 +452,109 @@ public class TaskList implements ITaskList, ITransferList {
 	public Set<ITask> getTasks(String repositoryUrl) {
 		Set<ITask> repositoryTasks = new HashSet<ITask>();
 		if (repositoryUrl != null) {
-			for (ITask task : tasks.values()) {
-				if (task.getRepositoryUrl().equals(repositoryUrl)) {
-					repositoryTasks.add(task);
-				}
+			Set<AbstractTask> indexedTasks = tasksByRepositoryUrl.get(repositoryUrl);
+			if (indexedTasks != null) {
+				repositoryTasks.addAll(indexedTasks);
 			}
 		}
 		return repositoryTasks;
 	}
 
+	/**
+	 * Adds <code>task</code> to the secondary indexes. Must be invoked while holding the task list lock.
+	 */
+	private void addToIndex(AbstractTask task) {
+		String repositoryUrl = task.getRepositoryUrl();
+		if (repositoryUrl == null) {
+			return;
+		}
+		Set<AbstractTask> repositoryTasks = tasksByRepositoryUrl.get(repositoryUrl);
+		if (repositoryTasks == null) {
+			repositoryTasks = createIndexSet();
+			tasksByRepositoryUrl.put(repositoryUrl, repositoryTasks);
+		}
+		repositoryTasks.add(task);
+
+		String taskKey = task.getTaskKey();
+		if (taskKey != null) {
+			Map<String, Set<AbstractTask>> repositoryTaskKeys = tasksByKey.get(repositoryUrl);
+			if (repositoryTaskKeys == null) {
+				repositoryTaskKeys = new ConcurrentHashMap<String, Set<AbstractTask>>();
+				tasksByKey.put(repositoryUrl, repositoryTaskKeys);
+			}
+			Set<AbstractTask> keyTasks = repositoryTaskKeys.get(taskKey);
+			if (keyTasks == null) {
+				keyTasks = createIndexSet();
+				repositoryTaskKeys.put(taskKey, keyTasks);
+			}
+			keyTasks.add(task);
+			indexedTaskKeys.put(task.getHandleIdentifier(), taskKey);
+		}
+	}
+
+	/**
+	 * Removes <code>task</code> from the secondary indexes. Must be invoked while holding the task list lock and before
+	 * the repository url or handle of <code>task</code> is changed.
+	 */
+	private void removeFromIndex(AbstractTask task) {
+		String repositoryUrl = task.getRepositoryUrl();
+		if (repositoryUrl == null) {
+			return;
+		}
+		Set<AbstractTask> repositoryTasks = tasksByRepositoryUrl.get(repositoryUrl);
+		if (repositoryTasks != null) {
+			repositoryTasks.remove(task);
+			if (repositoryTasks.isEmpty()) {
+				tasksByRepositoryUrl.remove(repositoryUrl);
+			}
+		}
+
+		String taskKey = indexedTaskKeys.remove(task.getHandleIdentifier());
+		if (taskKey != null) {
+			Map<String, Set<AbstractTask>> repositoryTaskKeys = tasksByKey.get(repositoryUrl);
+			if (repositoryTaskKeys != null) {
+				Set<AbstractTask> keyTasks = repositoryTaskKeys.get(taskKey);
+				if (keyTasks != null) {
+					keyTasks.remove(task);
+					if (keyTasks.isEmpty()) {
+						repositoryTaskKeys.remove(taskKey);
+					}
+				}
+				if (repositoryTaskKeys.isEmpty()) {
+					tasksByKey.remove(repositoryUrl);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Re-indexes tasks that changed their key since they were added to the task list.
+	 */
+	private void updateIndex(Set<? extends IRepositoryElement> elements) {
+		for (IRepositoryElement element : elements) {
+			if (element instanceof AbstractTask) {
+				AbstractTask task = (AbstractTask) element;
+				String taskKey = task.getTaskKey();
+				String indexedTaskKey = indexedTaskKeys.get(task.getHandleIdentifier());
+				if (taskKey != null && !taskKey.equals(indexedTaskKey)) {
+					try {
+						lock();
+						if (tasks.get(task.getHandleIdentifier()) == task) {
+							removeFromIndex(task);
+							addToIndex(task);
+						}
+					} finally {
+						unlock();
+					}
+				}
+			}
+		}
+	}
+
+	private static Set<AbstractTask> createIndexSet() {
+		return Collections.newSetFromMap(new ConcurrentHashMap<AbstractTask, Boolean>());
+	}
+
 	public AbstractTaskContainer getUnmatchedContainer(String repositoryUrl) {
 		if (LocalRepositoryConnector.REPOSITORY_URL.equals(repositoryUrl)) {
 			return defaultCategory;
@@ -487,6 +608,7 @@ public class TaskList implements ITaskList, ITransferList {
 		if (elements == null) {
 			deltas.add(new TaskContainerDelta(null, TaskContainerDelta.Kind.ROOT));
 		} else {
+			updateIndex(elements);
 			for (IRepositoryElement element : elements) {
 				deltas.add(new TaskContainerDelta(element, TaskContainerDelta.Kind.CONTENT));
 			}
@@ -525,8 +647,10 @@ public class TaskList implements ITaskList, ITransferList {
 			for (AbstractTask task : tasks.values()) {
 				if (oldRepositoryUrl.equals(RepositoryTaskHandleUtil.getRepositoryUrl(task.getHandleIdentifier()))) {
 					tasks.remove(task.getHandleIdentifier());
+					removeFromIndex(task);
 					task.setRepositoryUrl(newRepositoryUrl);
 					tasks.put(task.getHandleIdentifier(), task);
+					addToIndex(task);
 					String taskUrl = task.getUrl();
 					if (taskUrl != null && taskUrl.startsWith(oldRepositoryUrl)) {
 						task.setUrl(newRepositoryUrl + taskUrl.substring(oldRepositoryUrl.length()));
@@ -697,6 +821,9 @@ public class TaskList implements ITaskList, ITransferList {
 		try {
 			lock();
 			tasks = new ConcurrentHashMap<String, AbstractTask>();
+			tasksByRepositoryUrl = new ConcurrentHashMap<String, Set<AbstractTask>>();
+			tasksByKey = new ConcurrentHashMap<String, Map<String, Set<AbstractTask>>>();
+			indexedTaskKeys = new ConcurrentHashMap<String, String>();
 
 			unmatchedMap = new ConcurrentHashMap<String, UnmatchedTaskContainer>();
 			unsubmittedTasksMap = new ConcurrentHashMap<String, UnsubmittedTaskContainer>();
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.data;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
+import org.eclipse.mylyn.tasks.core.data.ITaskAttributeDiff;
+import org.eclipse.mylyn.tasks.core.data.ITaskDataDiff;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+
+/**
+ * A compact summary of a {@link TaskDataDiff} that is persisted with the task so that incoming changes can be
+ * inspected without reading task data.
+ *
+ * @see ITasksCoreConstants#ATTRIBUTE_TASK_DIFF_SUMMARY
+ */
+public class TaskDataDiffSummary {
+
+	private static final String ENCODING = "UTF-8"; //$NON-NLS-1$
+
+	private static final char FIELD_SEPARATOR = ';';
+
+	private static final char VALUE_SEPARATOR = ',';
+
+	private final List<String> changedAttributeIds;
+
+	private final int newCommentCount;
+
+	private final List<String> newAttachmentIds;
+
+	public TaskDataDiffSummary(List<String> changedAttributeIds, int newCommentCount, List<String> newAttachmentIds) {
+		Assert.isNotNull(changedAttributeIds);
+		Assert.isNotNull(newAttachmentIds);
+		this.changedAttributeIds = Collections.unmodifiableList(new ArrayList<String>(changedAttributeIds));
+		this.newCommentCount = newCommentCount;
+		this.newAttachmentIds = Collections.unmodifiableList(new ArrayList<String>(newAttachmentIds));
+	}
+
+	public static TaskDataDiffSummary createFrom(ITaskDataDiff diff) {
+		Assert.isNotNull(diff);
+		List<String> changedAttributeIds = new ArrayList<String>(diff.getChangedAttributes().size());
+		for (ITaskAttributeDiff attributeDiff : diff.getChangedAttributes()) {
+			changedAttributeIds.add(attributeDiff.getAttributeId());
+		}
+		List<String> newAttachmentIds = new ArrayList<String>(diff.getNewAttachments().size());
+		for (TaskAttribute attachment : diff.getNewAttachments()) {
+			newAttachmentIds.add(attachment.getId());
+		}
+		return new TaskDataDiffSummary(changedAttributeIds, diff.getNewComments().size(), newAttachmentIds);
+	}
+
+	/**
+	 * Parses a summary that was created by {@link #toString()}.
+	 *
+	 * @return the summary or null, if <code>value</code> is null or not a valid summary
+	 */
+	public static TaskDataDiffSummary parse(String value) {
+		if (value == null) {
+			return null;
+		}
+		String[] fields = value.split(String.valueOf(FIELD_SEPARATOR), -1);
+		if (fields.length != 3) {
+			return null;
+		}
+		try {
+			return new TaskDataDiffSummary(decode(fields[0]), Integer.parseInt(fields[1]), decode(fields[2]));
+		} catch (IllegalArgumentException e) {
+			// invalid count or malformed encoding
+			return null;
+		}
+	}
+
+	public List<String> getChangedAttributeIds() {
+		return changedAttributeIds;
+	}
+
+	public int getNewCommentCount() {
+		return newCommentCount;
+	}
+
+	public List<String> getNewAttachmentIds() {
+		return newAttachmentIds;
+	}
+
+	public boolean hasChanged() {
+		return !changedAttributeIds.isEmpty() || newCommentCount > 0 || !newAttachmentIds.isEmpty();
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + changedAttributeIds.hashCode();
+		result = prime * result + newAttachmentIds.hashCode();
+		result = prime * result + newCommentCount;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		TaskDataDiffSummary other = (TaskDataDiffSummary) obj;
+		return changedAttributeIds.equals(other.changedAttributeIds) && newCommentCount == other.newCommentCount
+				&& newAttachmentIds.equals(other.newAttachmentIds);
+	}
+
+	/**
+	 * Returns the persistent representation of this summary.
+	 *
+	 * @see #parse(String)
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		encode(sb, changedAttributeIds);
+		sb.append(FIELD_SEPARATOR);
+		sb.append(newCommentCount);
+		sb.append(FIELD_SEPARATOR);
+		encode(sb, newAttachmentIds);
+		return sb.toString();
+	}
+
+	private static void encode(StringBuilder sb, List<String> values) {
+		try {
+			for (int i = 0; i < values.size(); i++) {
+				if (i > 0) {
+					sb.append(VALUE_SEPARATOR);
+				}
+				sb.append(URLEncoder.encode(values.get(i), ENCODING));
+			}
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static List<String> decode(String value) {
+		if (value.length() == 0) {
+			return Collections.emptyList();
+		}
+		List<String> values = new ArrayList<String>();
+		try {
+			for (String encodedValue : value.split(String.valueOf(VALUE_SEPARATOR))) {
+				values.add(URLDecoder.decode(encodedValue, ENCODING));
+			}
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+		return values;
+	}
+
+}
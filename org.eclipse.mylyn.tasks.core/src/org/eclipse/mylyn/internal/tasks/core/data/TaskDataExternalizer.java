@@ -16,6 +16,7 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
@@ -188,6 +189,19 @@ public class TaskDataExternalizer {
 		return taskDataState;
 	}
 
+	/**
+	 * Reads task data in the binary format written by {@link #writeBinaryState(OutputStream, ITaskDataWorkingCopy)}.
+	 */
+	public TaskDataState readBinaryState(ByteBuffer buffer) throws IOException {
+		TaskDataState taskDataState = new TaskDataStateBinaryReader(taskRepositoryManager).read(buffer);
+		migrate(taskDataState);
+		return taskDataState;
+	}
+
+	public void writeBinaryState(OutputStream out, ITaskDataWorkingCopy state) throws IOException {
+		new TaskDataStateBinaryWriter().write(out, state);
+	}
+
 	public void writeState(OutputStream out, ITaskDataWorkingCopy state) throws IOException {
 		try {
 			SAXTransformerFactory transformerFactory = (SAXTransformerFactory) TransformerFactory.newInstance();
@@ -35,6 +35,9 @@ import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.TaskActivityManager;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Counter;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Timer;
 import org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector;
 import org.eclipse.mylyn.tasks.core.IRepositoryManager;
 import org.eclipse.mylyn.tasks.core.ITask;
@@ -80,6 +83,10 @@ public class TaskDataManager implements ITaskDataManager {
 
 	private final SynchronizationManger synchronizationManger;
 
+	private final TaskDataStateCache taskDataStateCache = new TaskDataStateCache();
+
+	private final SynchronizationMetrics synchronizationMetrics = new SynchronizationMetrics();
+
 	public TaskDataManager(TaskDataStore taskDataStore, IRepositoryManager repositoryManager, TaskList taskList,
 			TaskActivityManager taskActivityManager, SynchronizationManger synchronizationManger) {
 		this.taskDataStore = taskDataStore;
@@ -129,6 +136,7 @@ public class TaskDataManager implements ITaskDataManager {
 				}
 				if (task.isMarkReadPending()) {
 					state.setLastReadData(state.getRepositoryData());
+					task.setAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY, null);
 				}
 				state.init(TaskDataManager.this, task);
 				state.revert();
@@ -145,6 +153,7 @@ public class TaskDataManager implements ITaskDataManager {
 						break;
 					}
 					task.setMarkReadPending(true);
+					task.setAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY, null);
 				}
 				result[0] = state;
 			}
@@ -164,6 +173,7 @@ public class TaskDataManager implements ITaskDataManager {
 			public void execute(IProgressMonitor monitor) throws CoreException {
 				final File file = getFile(task, kind);
 				taskDataStore.putTaskData(ensurePathExists(file), state);
+				taskDataStateCache.invalidate(file);
 				switch (task.getSynchronizationState()) {
 				case SYNCHRONIZED:
 					task.setSynchronizationState(SynchronizationState.OUTGOING);
@@ -197,6 +207,8 @@ public class TaskDataManager implements ITaskDataManager {
 		final TaskRepository repository = repositoryManager.getRepository(task.getConnectorKind(),
 				task.getRepositoryUrl());
 		final boolean taskDataChanged = connector.hasTaskChanged(repository, task, taskData);
+		synchronizationMetrics.increment(task.getRepositoryUrl(),
+				(taskDataChanged) ? Counter.TASKS_CHANGED : Counter.TASKS_UNCHANGED, 1);
 		final TaskDataManagerEvent event = new TaskDataManagerEvent(this, itask, taskData, token);
 		event.setTaskDataChanged(taskDataChanged);
 		IDelegatingProgressMonitor delegatingMonitor = DelegatingProgressMonitor.getMonitorFrom(monitor);
@@ -210,8 +222,11 @@ public class TaskDataManager implements ITaskDataManager {
 					TaskDataState state = null;
 					if (!taskData.isPartial()) {
 						File file = getMigratedFile(task, task.getConnectorKind());
+						long startTime = SynchronizationMetrics.start();
 						state = taskDataStore.putTaskData(ensurePathExists(file), taskData, task.isMarkReadPending(),
 								user);
+						synchronizationMetrics.record(task.getRepositoryUrl(), Timer.TASK_DATA_WRITE, startTime);
+						taskDataStateCache.invalidate(file);
 						task.setMarkReadPending(false);
 						event.setTaskDataUpdated(true);
 					}
@@ -224,11 +239,19 @@ public class TaskDataManager implements ITaskDataManager {
 						// determine whether to show an incoming
 						if (state == null) {
 							File file = getMigratedFile(task, task.getConnectorKind());
+							long startTime = SynchronizationMetrics.start();
 							state = taskDataStore.getTaskDataState(ensurePathExists(file));
+							synchronizationMetrics.record(task.getRepositoryUrl(), Timer.TASK_DATA_READ, startTime);
 						}
 						TaskData lastReadData = (state != null) ? state.getLastReadData() : null;
+						long startTime = SynchronizationMetrics.start();
 						TaskDataDiff diff = synchronizationManger.createDiff(taskData, lastReadData, monitor);
+						synchronizationMetrics.record(task.getRepositoryUrl(), Timer.TASK_DATA_DIFF, startTime);
 						suppressIncoming = Boolean.toString(!diff.hasChanged());
+						event.setDiff(diff);
+						// persist a summary so that later queries do not need to read and compare task data
+						task.setAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY,
+								(diff.hasChanged()) ? TaskDataDiffSummary.createFrom(diff).toString() : null);
 
 						switch (task.getSynchronizationState()) {
 						case OUTGOING:
@@ -302,6 +325,7 @@ public class TaskDataManager implements ITaskDataManager {
 				TaskDataState state = taskDataStore.getTaskDataState(oldFile);
 				// save migrated task data right away
 				taskDataStore.putTaskData(ensurePathExists(file), state);
+				taskDataStateCache.invalidate(file);
 			}
 		}
 		return file;
@@ -317,7 +341,9 @@ public class TaskDataManager implements ITaskDataManager {
 				File dataFile = getFile(task, kind);
 				if (dataFile.exists()) {
 					taskDataStore.discardEdits(dataFile);
+					taskDataStateCache.invalidate(dataFile);
 				}
+				task.setAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY, null);
 				switch (task.getSynchronizationState()) {
 				case OUTGOING:
 					task.setSynchronizationState(SynchronizationState.SYNCHRONIZED);
@@ -378,30 +404,69 @@ public class TaskDataManager implements ITaskDataManager {
 	public TaskData getTaskData(ITask task) throws CoreException {
 		Assert.isNotNull(task);
 		final String kind = task.getConnectorKind();
-		TaskDataState state = taskDataStore.getTaskDataState(findFile(task, kind));
+		TaskDataState state = getCachedTaskDataState(findFile(task, kind));
 		if (state == null) {
 			return null;
 		}
-		return state.getRepositoryData();
+		return TaskDataState.createCopy(state.getRepositoryData());
 	}
 
 	public TaskDataState getTaskDataState(ITask task) throws CoreException {
 		Assert.isNotNull(task);
 		final String kind = task.getConnectorKind();
 		// TODO check that repository task data != null for returned task data state
-		return taskDataStore.getTaskDataState(findFile(task, kind));
+		TaskDataState state = getCachedTaskDataState(findFile(task, kind));
+		if (state == null) {
+			return null;
+		}
+		TaskDataState copy = new TaskDataState(state.getConnectorKind(), state.getRepositoryUrl(), state.getTaskId());
+		copy.setRepositoryData(TaskDataState.createCopy(state.getRepositoryData()));
+		copy.setLastReadData(TaskDataState.createCopy(state.getLastReadData()));
+		copy.setEditsData(TaskDataState.createCopy(state.getEditsData()));
+		return copy;
 	}
 
 	public TaskData getTaskData(TaskRepository taskRepository, String taskId) throws CoreException {
 		Assert.isNotNull(taskRepository);
 		Assert.isNotNull(taskId);
-		TaskDataState state = taskDataStore.getTaskDataState(
+		TaskDataState state = getCachedTaskDataState(
 				findFile(new TaskTask(taskRepository.getConnectorKind(), taskRepository.getRepositoryUrl(), taskId),
 						taskRepository.getConnectorKind()));
 		if (state == null) {
 			return null;
 		}
-		return state.getRepositoryData();
+		return TaskDataState.createCopy(state.getRepositoryData());
+	}
+
+	/**
+	 * Returns the state stored in <code>file</code> from the cache or reads it from disk. The returned state is shared
+	 * and must be copied before it is handed to clients.
+	 */
+	private TaskDataState getCachedTaskDataState(File file) throws CoreException {
+		TaskDataState state = taskDataStateCache.get(file);
+		if (state == null) {
+			long generation = taskDataStateCache.getGeneration();
+			state = taskDataStore.getTaskDataState(file);
+			if (state != null) {
+				taskDataStateCache.put(file, state, generation);
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Returns the cache of task data states read through {@link #getTaskData(ITask)},
+	 * {@link #getTaskData(TaskRepository, String)} and {@link #getTaskDataState(ITask)}.
+	 */
+	public TaskDataStateCache getTaskDataStateCache() {
+		return taskDataStateCache;
+	}
+
+	/**
+	 * Returns the metrics that are recorded by synchronizations and updates of task data.
+	 */
+	public SynchronizationMetrics getSynchronizationMetrics() {
+		return synchronizationMetrics;
 	}
 
 	public boolean hasTaskData(ITask task) {
@@ -426,6 +491,7 @@ public class TaskDataManager implements ITaskDataManager {
 				if (!taskData.isPartial()) {
 					File file = getMigratedFile(task, task.getConnectorKind());
 					taskDataStore.setTaskData(ensurePathExists(file), taskData);
+					taskDataStateCache.invalidate(file);
 					task.setMarkReadPending(false);
 					event.setTaskDataUpdated(true);
 				}
@@ -433,6 +499,8 @@ public class TaskDataManager implements ITaskDataManager {
 				boolean taskChanged = updateTaskFromTaskData(taskData, task, connector, repository);
 				event.setTaskChanged(taskChanged);
 
+				// the submitted data replaces the last read data
+				task.setAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY, null);
 				task.setSynchronizationState(SynchronizationState.SYNCHRONIZED);
 				task.setSynchronizing(false);
 			}
@@ -449,7 +517,9 @@ public class TaskDataManager implements ITaskDataManager {
 				File file = getFile(task, task.getConnectorKind());
 				if (file.exists()) {
 					taskDataStore.deleteTaskData(file);
+					taskDataStateCache.invalidate(file);
 					task.setSynchronizationState(SynchronizationState.SYNCHRONIZED);
+					task.setAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY, null);
 				}
 			}
 		});
@@ -458,6 +528,19 @@ public class TaskDataManager implements ITaskDataManager {
 
 	public void setDataPath(String dataPath) {
 		this.dataPath = dataPath;
+		taskDataStateCache.clear();
+	}
+
+	/**
+	 * Returns the summary of the incoming changes of <code>task</code> that was computed when task data was last
+	 * received.
+	 *
+	 * @return the summary or null, if no summary is available, e.g. because the task has been read since or the
+	 *         received task data did not differ from the last read task data
+	 */
+	public TaskDataDiffSummary getDiffSummary(ITask task) {
+		Assert.isNotNull(task);
+		return TaskDataDiffSummary.parse(task.getAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY));
 	}
 
 	/**
@@ -480,11 +563,13 @@ public class TaskDataManager implements ITaskDataManager {
 						case INCOMING_NEW:
 							task.setSynchronizationState(SynchronizationState.SYNCHRONIZED);
 							task.setMarkReadPending(true);
+							task.setAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY, null);
 							changed[0] = true;
 							break;
 						case CONFLICT:
 							task.setSynchronizationState(SynchronizationState.OUTGOING);
 							task.setMarkReadPending(true);
+							task.setAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_DIFF_SUMMARY, null);
 							changed[0] = true;
 							break;
 						}
@@ -520,7 +605,9 @@ public class TaskDataManager implements ITaskDataManager {
 		final boolean[] changed = new boolean[1];
 		taskList.run(new ITaskListRunnable() {
 			public void execute(IProgressMonitor monitor) throws CoreException {
-				taskDataStore.putEdits(getFile(task, kind), editsData);
+				File file = getFile(task, kind);
+				taskDataStore.putEdits(file, editsData);
+				taskDataStateCache.invalidate(file);
 				switch (task.getSynchronizationState()) {
 				case INCOMING:
 				case INCOMING_NEW:
@@ -594,6 +681,7 @@ public class TaskDataManager implements ITaskDataManager {
 								oldState.getTaskId());
 						newState.merge(oldState);
 						taskDataStore.putTaskData(ensurePathExists(newFile), newState);
+						taskDataStateCache.invalidate(newFile);
 					}
 				}
 			}
@@ -613,6 +701,7 @@ public class TaskDataManager implements ITaskDataManager {
 					if (state != null) {
 						state.changeAttributeValues(newValues);
 						taskDataStore.putTaskData(file, state);
+						taskDataStateCache.invalidate(file);
 					}
 				}
 			}
@@ -633,6 +722,8 @@ public class TaskDataManager implements ITaskDataManager {
 						newState.merge(oldState);
 						taskDataStore.putTaskData(ensurePathExists(newFile), newState);
 						taskDataStore.deleteTaskData(file);
+						taskDataStateCache.invalidate(newFile);
+						taskDataStateCache.invalidate(file);
 					}
 				}
 			}
@@ -652,6 +743,7 @@ public class TaskDataManager implements ITaskDataManager {
 					if (state != null) {
 						state.refactorAttribute(attribute);
 						taskDataStore.putTaskData(file, state);
+						taskDataStateCache.invalidate(file);
 					}
 				}
 			}
@@ -27,6 +27,8 @@ public class TaskDataManagerEvent extends EventObject {
 
 	private Object data;
 
+	private TaskDataDiff diff;
+
 	private final ITask task;
 
 	private boolean taskChanged;
@@ -60,6 +62,14 @@ public class TaskDataManagerEvent extends EventObject {
 		return data;
 	}
 
+	/**
+	 * Returns the diff between the received task data and the last read task data, if it was computed while the task
+	 * data was updated.
+	 */
+	public TaskDataDiff getDiff() {
+		return diff;
+	}
+
 	public ITask getTask() {
 		return task;
 	}
@@ -88,6 +98,10 @@ public class TaskDataManagerEvent extends EventObject {
 		this.data = data;
 	}
 
+	public void setDiff(TaskDataDiff diff) {
+		this.diff = diff;
+	}
+
 	public void setTaskChanged(boolean taskChanged) {
 		this.taskChanged = taskChanged;
 	}
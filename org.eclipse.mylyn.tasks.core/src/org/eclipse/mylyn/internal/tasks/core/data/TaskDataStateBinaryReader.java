@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.data;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.mylyn.tasks.core.IRepositoryManager;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads task data written by {@link TaskDataStateBinaryWriter} from a buffer, typically a memory-mapped file.
+ */
+public class TaskDataStateBinaryReader {
+
+	private final IRepositoryManager repositoryManager;
+
+	public TaskDataStateBinaryReader(IRepositoryManager repositoryManager) {
+		this.repositoryManager = repositoryManager;
+	}
+
+	/**
+	 * Returns true, if <code>buffer</code> starts with the header of the binary format. Does not change the position
+	 * of the buffer.
+	 */
+	public static boolean isBinaryFormat(ByteBuffer buffer) {
+		return buffer.remaining() >= 4 && buffer.getInt(buffer.position()) == TaskDataStateBinaryWriter.MAGIC;
+	}
+
+	public TaskDataState read(ByteBuffer buffer) throws IOException {
+		try {
+			if (buffer.getInt() != TaskDataStateBinaryWriter.MAGIC) {
+				throw new IOException("Task data is not in binary format"); //$NON-NLS-1$
+			}
+			int version = buffer.getInt();
+			if (version != TaskDataStateBinaryWriter.VERSION) {
+				throw new IOException("Unsupported version of binary task data: " + version); //$NON-NLS-1$
+			}
+			int count = buffer.getInt();
+			if (count < 0 || count > buffer.remaining() / 4) {
+				throw new BufferUnderflowException();
+			}
+			String[] strings = new String[count];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = readString(buffer);
+			}
+
+			String connectorKind = readString(buffer);
+			String repositoryUrl = readString(buffer);
+			String taskId = readString(buffer);
+			TaskAttributeMapper attributeMapper;
+			try {
+				attributeMapper = TaskDataStateReader.getAttributeMapper(repositoryManager, connectorKind,
+						repositoryUrl);
+			} catch (SAXException e) {
+				throw new IOException(e.getMessage(), e);
+			}
+
+			TaskDataState state = new TaskDataState(connectorKind, repositoryUrl, taskId);
+			TaskData taskData = readTaskData(buffer, strings, attributeMapper, state);
+			if (taskData != null) {
+				state.setRepositoryData(taskData);
+			}
+			taskData = readTaskData(buffer, strings, attributeMapper, state);
+			if (taskData != null) {
+				state.setLastReadData(taskData);
+			}
+			taskData = readTaskData(buffer, strings, attributeMapper, state);
+			if (taskData != null) {
+				state.setEditsData(taskData);
+			}
+			return state;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new IOException("Unexpected end of binary task data", e); //$NON-NLS-1$
+		}
+	}
+
+	private TaskData readTaskData(ByteBuffer buffer, String[] strings, TaskAttributeMapper attributeMapper,
+			TaskDataState state) {
+		if (buffer.get() == 0) {
+			return null;
+		}
+		TaskData taskData = new TaskData(attributeMapper, state.getConnectorKind(), state.getRepositoryUrl(),
+				state.getTaskId());
+		String version = readString(buffer);
+		if (version != null) {
+			taskData.setVersion(version);
+		}
+		// the root attribute is created by task data
+		buffer.getInt();
+		readTaskAttribute(buffer, strings, taskData.getRoot());
+		return taskData;
+	}
+
+	private void readTaskAttribute(ByteBuffer buffer, String[] strings, TaskAttribute attribute) {
+		int count = buffer.getInt();
+		for (int i = 0; i < count; i++) {
+			attribute.addValue(readString(buffer));
+		}
+
+		count = buffer.getInt();
+		for (int i = 0; i < count; i++) {
+			attribute.putOption(lookup(strings, buffer.getInt()), lookup(strings, buffer.getInt()));
+		}
+
+		count = buffer.getInt();
+		for (int i = 0; i < count; i++) {
+			attribute.getMetaData().putValue(lookup(strings, buffer.getInt()), lookup(strings, buffer.getInt()));
+		}
+
+		count = buffer.getInt();
+		for (int i = 0; i < count; i++) {
+			TaskAttribute child = attribute.createAttribute(lookup(strings, buffer.getInt()));
+			readTaskAttribute(buffer, strings, child);
+		}
+	}
+
+	private static String lookup(String[] strings, int index) {
+		return (index == -1) ? null : strings[index];
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length == -1) {
+			return null;
+		}
+		if (length < 0 || length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		if (buffer.hasArray()) {
+			String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+					StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + length);
+			return value;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
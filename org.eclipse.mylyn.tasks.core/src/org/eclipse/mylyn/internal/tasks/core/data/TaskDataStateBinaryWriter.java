@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.mylyn.tasks.core.data.ITaskDataWorkingCopy;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+
+/**
+ * Writes task data in a compact binary format. The file starts with a header that identifies the format and its
+ * version followed by a table of strings that are referenced by index for attribute ids, options and meta data. Values
+ * are stored inline.
+ *
+ * @see TaskDataStateBinaryReader
+ */
+public class TaskDataStateBinaryWriter {
+
+	static final int MAGIC = 0x4d544442;
+
+	static final int VERSION = 1;
+
+	private final Map<String, Integer> stringIndex = new HashMap<String, Integer>();
+
+	private final List<String> strings = new ArrayList<String>();
+
+	public void write(OutputStream out, ITaskDataWorkingCopy state) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		DataOutputStream bodyOut = new DataOutputStream(body);
+		writeString(bodyOut, state.getConnectorKind());
+		writeString(bodyOut, state.getRepositoryUrl());
+		writeString(bodyOut, state.getTaskId());
+		writeTaskData(bodyOut, state.getRepositoryData());
+		writeTaskData(bodyOut, state.getLastReadData());
+		writeTaskData(bodyOut, state.getEditsData());
+		bodyOut.flush();
+
+		DataOutputStream dataOut = new DataOutputStream(out);
+		dataOut.writeInt(MAGIC);
+		dataOut.writeInt(VERSION);
+		dataOut.writeInt(strings.size());
+		for (String value : strings) {
+			writeString(dataOut, value);
+		}
+		body.writeTo(dataOut);
+		dataOut.flush();
+	}
+
+	private void writeTaskData(DataOutputStream out, TaskData taskData) throws IOException {
+		if (taskData == null) {
+			out.writeBoolean(false);
+			return;
+		}
+		out.writeBoolean(true);
+		writeString(out, taskData.getVersion());
+		writeTaskAttribute(out, taskData.getRoot());
+	}
+
+	private void writeTaskAttribute(DataOutputStream out, TaskAttribute attribute) throws IOException {
+		out.writeInt(intern(attribute.getId()));
+
+		List<String> values = attribute.getValues();
+		out.writeInt(values.size());
+		for (String value : values) {
+			writeString(out, value);
+		}
+
+		writeMap(out, attribute.getOptions());
+		writeMap(out, attribute.getMetaData().getValues());
+
+		Map<String, TaskAttribute> children = attribute.getAttributes();
+		out.writeInt(children.size());
+		for (TaskAttribute child : children.values()) {
+			writeTaskAttribute(out, child);
+		}
+	}
+
+	private void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+		out.writeInt(map.size());
+		for (Entry<String, String> entry : map.entrySet()) {
+			out.writeInt(intern(entry.getKey()));
+			out.writeInt(intern(entry.getValue()));
+		}
+	}
+
+	private int intern(String value) {
+		if (value == null) {
+			return -1;
+		}
+		Integer index = stringIndex.get(value);
+		if (index == null) {
+			index = strings.size();
+			strings.add(value);
+			stringIndex.put(value, index);
+		}
+		return index;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+		} else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.data;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+
+/**
+ * A cache of recently read task data states that is bounded by the estimated memory consumption of the cached states.
+ * The least recently used states are evicted first.
+ * <p>
+ * To avoid caching states that were read before a concurrent write completed, clients obtain the current generation
+ * before reading a state from disk and pass it to {@link #put(File, TaskDataState, long)}. Each invalidation advances
+ * the generation which causes puts with an older generation to be ignored.
+ */
+public class TaskDataStateCache {
+
+	private static final long DEFAULT_MAXIMUM_SIZE = Math.min(Runtime.getRuntime().maxMemory() / 32,
+			64 * 1024 * 1024);
+
+	/**
+	 * Estimated memory consumption of an attribute excluding strings.
+	 */
+	private static final int ATTRIBUTE_OVERHEAD = 256;
+
+	private static class Entry {
+
+		private final TaskDataState state;
+
+		private final long size;
+
+		public Entry(TaskDataState state, long size) {
+			this.state = state;
+			this.size = size;
+		}
+
+	}
+
+	private final LinkedHashMap<File, Entry> entries = new LinkedHashMap<File, Entry>(16, 0.75f, true);
+
+	private final long maximumSize;
+
+	private long size;
+
+	private long generation;
+
+	private long hitCount;
+
+	private long missCount;
+
+	public TaskDataStateCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	public TaskDataStateCache(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Returns the cached state for <code>file</code> or <code>null</code>. The returned state is shared and must not
+	 * be modified.
+	 */
+	public synchronized TaskDataState get(File file) {
+		Entry entry = entries.get(file);
+		if (entry != null) {
+			hitCount++;
+			return entry.state;
+		}
+		missCount++;
+		return null;
+	}
+
+	public synchronized long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Caches <code>state</code> unless the cache was invalidated after <code>generation</code> was obtained.
+	 */
+	public synchronized void put(File file, TaskDataState state, long generation) {
+		if (generation != this.generation) {
+			return;
+		}
+		long stateSize = estimateSize(state);
+		if (stateSize > maximumSize) {
+			return;
+		}
+		Entry oldEntry = entries.put(file, new Entry(state, stateSize));
+		if (oldEntry != null) {
+			size -= oldEntry.size;
+		}
+		size += stateSize;
+		Iterator<Entry> it = entries.values().iterator();
+		while (size > maximumSize && it.hasNext()) {
+			size -= it.next().size;
+			it.remove();
+		}
+	}
+
+	public synchronized void invalidate(File file) {
+		generation++;
+		Entry entry = entries.remove(file);
+		if (entry != null) {
+			size -= entry.size;
+		}
+	}
+
+	public synchronized void clear() {
+		generation++;
+		entries.clear();
+		size = 0;
+	}
+
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns the number of cached states.
+	 */
+	public synchronized int getCount() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by cached states.
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	static long estimateSize(TaskDataState state) {
+		return estimateSize(state.getRepositoryData()) + estimateSize(state.getLastReadData())
+				+ estimateSize(state.getEditsData());
+	}
+
+	private static long estimateSize(TaskData taskData) {
+		return (taskData != null) ? estimateSize(taskData.getRoot()) : 0;
+	}
+
+	private static long estimateSize(TaskAttribute attribute) {
+		long size = ATTRIBUTE_OVERHEAD + estimateSize(attribute.getId());
+		for (String value : attribute.getValues()) {
+			size += estimateSize(value);
+		}
+		size += estimateSize(attribute.getOptions());
+		size += estimateSize(attribute.getMetaData().getValues());
+		for (TaskAttribute child : attribute.getAttributes().values()) {
+			size += estimateSize(child);
+		}
+		return size;
+	}
+
+	private static long estimateSize(Map<String, String> map) {
+		long size = 0;
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			size += estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+		}
+		return size;
+	}
+
+	private static long estimateSize(String value) {
+		return (value != null) ? 40 + 2 * value.length() : 0;
+	}
+
+}
@@ -587,6 +587,11 @@ public class TaskDataStateReader extends DefaultHandler {
 	}
 
 	private TaskAttributeMapper getAttributeMapper(String connectorKind, String repositoryUrl) throws SAXException {
+		return getAttributeMapper(repositoryManager, connectorKind, repositoryUrl);
+	}
+
+	static TaskAttributeMapper getAttributeMapper(IRepositoryManager repositoryManager, String connectorKind,
+			String repositoryUrl) throws SAXException {
 		AbstractRepositoryConnector connector = repositoryManager.getRepositoryConnector(connectorKind);
 		if (connector == null) {
 			throw new SAXException("No repository connector for kind \"" + connectorKind + "\" found"); //$NON-NLS-1$ //$NON-NLS-2$
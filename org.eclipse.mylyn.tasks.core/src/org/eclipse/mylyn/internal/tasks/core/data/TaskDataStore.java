@@ -17,6 +17,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Lock;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -24,6 +30,7 @@ import java.util.zip.ZipOutputStream;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataExternalizer.Xml11InputStream;
@@ -31,6 +38,8 @@ import org.eclipse.mylyn.tasks.core.IRepositoryManager;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
 import org.xml.sax.SAXException;
 
+import com.google.common.util.concurrent.Striped;
+
 /**
  * @author Steffen Pingel
  */
@@ -38,65 +47,122 @@ public class TaskDataStore {
 
 	private static final String FILE_NAME_INTERNAL = "data.xml"; //$NON-NLS-1$
 
+	/**
+	 * Files of at least this size are memory-mapped when reading the binary format.
+	 */
+	private static final long MAPPED_READ_THRESHOLD = 64 * 1024;
+
+	/**
+	 * Memory-mapped files can not be replaced on Windows until the mapping has been garbage collected.
+	 */
+	private static final boolean MAPPED_READ_SUPPORTED = !Platform.OS_WIN32.equals(Platform.getOS());
+
+	/**
+	 * Number of locks that guard access to task data files. Access to different files is serialized only if the files
+	 * map to the same lock.
+	 */
+	private static final int LOCK_STRIPES = 64;
+
 	private final TaskDataExternalizer externalizer;
 
+	private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+
+	private volatile boolean binaryFormatEnabled;
+
 	public TaskDataStore(IRepositoryManager taskRepositoryManager) {
 		this.externalizer = new TaskDataExternalizer(taskRepositoryManager);
+		this.binaryFormatEnabled = Boolean.getBoolean(ITasksCoreConstants.PROPERTY_TASK_DATA_BINARY_FORMAT);
+	}
+
+	public boolean isBinaryFormatEnabled() {
+		return binaryFormatEnabled;
 	}
 
-	public synchronized TaskDataState discardEdits(File file) throws CoreException {
-		TaskDataState state = readState(file);
-		if (state != null) {
-			state.setEditsData(null);
+	/**
+	 * If enabled, task data is written in a binary format. Task data is always read in the format it was written in,
+	 * files are migrated to the configured format the next time they are written.
+	 */
+	public void setBinaryFormatEnabled(boolean binaryFormatEnabled) {
+		this.binaryFormatEnabled = binaryFormatEnabled;
+	}
+
+	public TaskDataState discardEdits(File file) throws CoreException {
+		Lock lock = getLock(file);
+		lock.lock();
+		try {
+			TaskDataState state = readState(file);
+			if (state != null) {
+				state.setEditsData(null);
+			}
+			writeState(file, state);
+			return state;
+		} finally {
+			lock.unlock();
 		}
-		writeState(file, state);
-		return state;
 	}
 
-	public synchronized TaskDataState getTaskDataState(File file) throws CoreException {
-		return readState(file);
+	public TaskDataState getTaskDataState(File file) throws CoreException {
+		Lock lock = getLock(file);
+		lock.lock();
+		try {
+			return readState(file);
+		} finally {
+			lock.unlock();
+		}
 	}
 
-	public synchronized void putEdits(File file, TaskData data) throws CoreException {
+	public void putEdits(File file, TaskData data) throws CoreException {
 		Assert.isNotNull(file);
 		Assert.isNotNull(data);
-		TaskDataState state = readState(file);
-		if (state == null) {
-			state = new TaskDataState(data.getConnectorKind(), data.getRepositoryUrl(), data.getTaskId());
+		Lock lock = getLock(file);
+		lock.lock();
+		try {
+			TaskDataState state = readState(file);
+			if (state == null) {
+				state = new TaskDataState(data.getConnectorKind(), data.getRepositoryUrl(), data.getTaskId());
+			}
+			state.setEditsData(data);
+			writeState(file, state);
+		} finally {
+			lock.unlock();
 		}
-		state.setEditsData(data);
-		writeState(file, state);
 	}
 
-	public synchronized TaskDataState putTaskData(File file, TaskData data, boolean setLastRead, boolean user)
+	public TaskDataState putTaskData(File file, TaskData data, boolean setLastRead, boolean user)
 			throws CoreException {
 		Assert.isNotNull(file);
 		Assert.isNotNull(data);
-		TaskDataState state = null;
+		Lock lock = getLock(file);
+		lock.lock();
 		try {
-			state = readState(file);
-		} catch (CoreException e) {
-			if (!user) {
-				throw new CoreException(
-						new Status(
-								IStatus.ERROR,
-								ITasksCoreConstants.ID_PLUGIN,
-								"Reading of existing task data failed. Forcing synchronization will override outgoing changes.", //$NON-NLS-1$
-								e));
+			TaskDataState state = null;
+			try {
+				state = readState(file);
+			} catch (CoreException e) {
+				if (!user) {
+					throw new CoreException(
+							new Status(
+									IStatus.ERROR,
+									ITasksCoreConstants.ID_PLUGIN,
+									"Reading of existing task data failed. Forcing synchronization will override outgoing changes.", //$NON-NLS-1$
+									e));
+				}
 			}
+			if (state == null) {
+				state = new TaskDataState(data.getConnectorKind(), data.getRepositoryUrl(), data.getTaskId());
+			}
+			if (setLastRead) {
+				state.setLastReadData(state.getRepositoryData());
+			}
+			state.setRepositoryData(data);
+			writeState(file, state);
+			return state;
+		} finally {
+			lock.unlock();
 		}
-		if (state == null) {
-			state = new TaskDataState(data.getConnectorKind(), data.getRepositoryUrl(), data.getTaskId());
-		}
-		if (setLastRead) {
-			state.setLastReadData(state.getRepositoryData());
-		}
-		state.setRepositoryData(data);
-		writeState(file, state);
-		return state;
 	}
 
-	public synchronized TaskDataState setTaskData(File file, TaskData data) throws CoreException {
+	public TaskDataState setTaskData(File file, TaskData data) throws CoreException {
 		Assert.isNotNull(file);
 		Assert.isNotNull(data);
 
@@ -106,10 +172,23 @@ public class TaskDataStore {
 		state.setRepositoryData(data);
 		state.setEditsData(null);
 		state.setLastReadData(data);
-		writeState(file, state);
+		Lock lock = getLock(file);
+		lock.lock();
+		try {
+			writeState(file, state);
+		} finally {
+			lock.unlock();
+		}
 		return state;
 	}
 
+	/**
+	 * Returns the lock that guards reads and writes of <code>file</code>.
+	 */
+	private Lock getLock(File file) {
+		return locks.get(file.getAbsolutePath());
+	}
+
 	private TaskDataState readStateInternal(File file, boolean xml11) throws IOException, SAXException {
 		ZipInputStream in = new ZipInputStream(new BufferedInputStream(new FileInputStream(file)));
 		try {
@@ -131,6 +210,9 @@ public class TaskDataStore {
 	private TaskDataState readState(File file) throws CoreException {
 		try {
 			if (file.exists()) {
+				if (isBinaryFormat(file)) {
+					return readBinaryState(file);
+				}
 				try {
 					try {
 						return readStateInternal(file, false);
@@ -155,7 +237,43 @@ public class TaskDataStore {
 		}
 	}
 
+	private boolean isBinaryFormat(File file) throws IOException {
+		byte[] header = new byte[4];
+		try (InputStream in = new FileInputStream(file)) {
+			int read = 0;
+			while (read < header.length) {
+				int count = in.read(header, read, header.length - read);
+				if (count == -1) {
+					return false;
+				}
+				read += count;
+			}
+		}
+		return TaskDataStateBinaryReader.isBinaryFormat(ByteBuffer.wrap(header));
+	}
+
+	private TaskDataState readBinaryState(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			ByteBuffer buffer;
+			if (MAPPED_READ_SUPPORTED && size >= MAPPED_READ_THRESHOLD) {
+				buffer = channel.map(MapMode.READ_ONLY, 0, size);
+			} else {
+				buffer = ByteBuffer.allocate((int) size);
+				while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+					// read the complete file
+				}
+				buffer.flip();
+			}
+			return externalizer.readBinaryState(buffer);
+		}
+	}
+
 	private void writeState(File file, TaskDataState state) throws CoreException {
+		if (binaryFormatEnabled) {
+			writeBinaryState(file, state);
+			return;
+		}
 		try {
 			ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
 			try {
@@ -174,6 +292,20 @@ public class TaskDataStore {
 		}
 	}
 
+	private void writeBinaryState(File file, TaskDataState state) throws CoreException {
+		try {
+			BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+			try {
+				externalizer.writeBinaryState(out, state);
+			} finally {
+				out.close();
+			}
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN, "Error writing task data", //$NON-NLS-1$
+					e));
+		}
+	}
+
 //	public synchronized void putLastRead(File file, TaskData data) throws CoreException {
 //		Assert.isNotNull(file);
 //		Assert.isNotNull(data);
@@ -186,12 +318,24 @@ public class TaskDataStore {
 //		writeState(file, state);
 //	}
 
-	public synchronized void putTaskData(File file, TaskDataState state) throws CoreException {
-		writeState(file, state);
+	public void putTaskData(File file, TaskDataState state) throws CoreException {
+		Lock lock = getLock(file);
+		lock.lock();
+		try {
+			writeState(file, state);
+		} finally {
+			lock.unlock();
+		}
 	}
 
-	public synchronized boolean deleteTaskData(File file) {
-		return file.delete();
+	public boolean deleteTaskData(File file) {
+		Lock lock = getLock(file);
+		lock.lock();
+		try {
+			return file.delete();
+		} finally {
+			lock.unlock();
+		}
 	}
 
 }
@@ -12,23 +12,37 @@
 package org.eclipse.mylyn.internal.tasks.core.externalization;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.mylyn.commons.net.Policy;
+import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
+import org.eclipse.mylyn.internal.tasks.core.AbstractTaskCategory;
 import org.eclipse.mylyn.internal.tasks.core.ITaskListChangeListener;
 import org.eclipse.mylyn.internal.tasks.core.ITaskListRunnable;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.LocalRepositoryConnector;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
+import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.TaskContainerDelta;
+import org.eclipse.mylyn.internal.tasks.core.TaskContainerDelta.Kind;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
 import org.eclipse.mylyn.internal.tasks.core.UnmatchedTaskContainer;
+import org.eclipse.mylyn.tasks.core.IRepositoryElement;
 import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.ITaskActivationListener;
+import org.eclipse.mylyn.tasks.core.ITaskContainer;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.xml.sax.SAXException;
 
 /**
  * @author Rob Elves
@@ -38,6 +52,12 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 
 	private static final String DESCRIPTION = Messages.TaskListExternalizationParticipant_Task_List;
 
+	/**
+	 * The journal is compacted into the task list file when it exceeds this size or half the size of the task list
+	 * file, whichever is larger.
+	 */
+	private static final long MIN_JOURNAL_COMPACTION_SIZE = 512 * 1024;
+
 	private final ExternalizationManager manager;
 
 	private final TaskListExternalizer taskListWriter;
@@ -50,6 +70,23 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 
 	private final RepositoryModel repositoryModel;
 
+	private boolean journalEnabled;
+
+	/**
+	 * Handles of tasks, queries and categories that changed since the last save.
+	 */
+	private final Set<String> changedHandles = new LinkedHashSet<String>();
+
+	/**
+	 * Set if changes could not be tracked by handle and the task list file needs to be rewritten.
+	 */
+	private boolean fullSaveRequired = true;
+
+	/**
+	 * The task list file that the task list was last read from or written to.
+	 */
+	private File currentFile;
+
 	public TaskListExternalizationParticipant(RepositoryModel repositoryModel, TaskList taskList,
 			TaskListExternalizer taskListExternalizer, ExternalizationManager manager,
 			TaskRepositoryManager repositoryManager) {
@@ -58,6 +95,15 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 		this.taskList = taskList;
 		this.taskListWriter = taskListExternalizer;
 		this.taskRepositoryManager = repositoryManager;
+		this.journalEnabled = Boolean.getBoolean(ITasksCoreConstants.PROPERTY_TASK_LIST_JOURNAL);
+	}
+
+	public boolean isJournalEnabled() {
+		return journalEnabled;
+	}
+
+	public void setJournalEnabled(boolean journalEnabled) {
+		this.journalEnabled = journalEnabled;
 	}
 
 	@Override
@@ -75,13 +121,93 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 		ITaskListRunnable loadRunnable = new ITaskListRunnable() {
 			public void execute(IProgressMonitor monitor) throws CoreException {
 				resetTaskList();
-				taskListWriter.readTaskList(taskList, sourceFile);
+				taskListWriter.readTaskList(taskList, sourceFile, new TaskListJournal(sourceFile));
+				synchronized (TaskListExternalizationParticipant.this) {
+					changedHandles.clear();
+					fullSaveRequired = !journalEnabled;
+					currentFile = sourceFile;
+				}
 			}
 		};
 
 		taskList.run(loadRunnable, monitor);
 	}
 
+	@Override
+	public void execute(IExternalizationContext context, IProgressMonitor monitor) throws CoreException {
+		if (context.getKind() == IExternalizationContext.Kind.SAVE && journalEnabled) {
+			File dataFile = getFile(context.getRootPath());
+			if (canAppendToJournal(dataFile)) {
+				appendToJournal(dataFile, Policy.monitorFor(monitor));
+				return;
+			}
+		}
+		super.execute(context, monitor);
+	}
+
+	private synchronized boolean canAppendToJournal(File dataFile) {
+		if (fullSaveRequired || dataFile == null || !dataFile.equals(currentFile) || !dataFile.exists()) {
+			return false;
+		}
+		TaskListJournal journal = new TaskListJournal(dataFile);
+		return journal.length() < Math.max(MIN_JOURNAL_COMPACTION_SIZE, dataFile.length() / 2);
+	}
+
+	private void appendToJournal(final File dataFile, IProgressMonitor monitor) throws CoreException {
+		ITaskListRunnable saveRunnable = new ITaskListRunnable() {
+			public void execute(IProgressMonitor monitor) throws CoreException {
+				Set<String> handles;
+				synchronized (TaskListExternalizationParticipant.this) {
+					dirty = false;
+					handles = new LinkedHashSet<String>(changedHandles);
+					changedHandles.clear();
+				}
+				try {
+					Map<String, byte[]> records = new LinkedHashMap<String, byte[]>();
+					for (String handle : handles) {
+						records.put(handle, writeElement(handle));
+					}
+					new TaskListJournal(dataFile).append(records);
+				} catch (IOException | SAXException e) {
+					synchronized (TaskListExternalizationParticipant.this) {
+						dirty = true;
+						fullSaveRequired = true;
+					}
+					throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
+							"Saving Task List journal failed", e)); //$NON-NLS-1$
+				}
+			}
+		};
+
+		taskList.run(saveRunnable, monitor);
+	}
+
+	/**
+	 * Returns the serialized element for <code>handle</code> or <code>null</code>, if the element was removed from the
+	 * task list.
+	 */
+	private byte[] writeElement(String handle) throws SAXException {
+		TaskListJournal.Recorder recorder = new TaskListJournal.Recorder();
+		ContentHandlerWrapper handler = new ContentHandlerWrapper(recorder);
+		AbstractTask task = taskList.getTask(handle);
+		if (task != null) {
+			new SaxTaskWriter(handler).writeElement(task);
+			return recorder.toByteArray();
+		}
+		AbstractTaskCategory category = taskList.getContainerForHandle(handle);
+		if (category != null) {
+			new SaxCategoryWriter(handler).writeElement(category);
+			return recorder.toByteArray();
+		}
+		for (RepositoryQuery query : taskList.getQueries()) {
+			if (handle.equals(query.getHandleIdentifier())) {
+				new SaxQueryWriter(handler).writeElement(query);
+				return recorder.toByteArray();
+			}
+		}
+		return null;
+	}
+
 	@Override
 	protected boolean performLoad(File dataFile, IProgressMonitor monitor) throws CoreException {
 		if (super.performLoad(dataFile, monitor)) {
@@ -125,8 +251,12 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 			public void execute(IProgressMonitor monitor) throws CoreException {
 				synchronized (TaskListExternalizationParticipant.this) {
 					dirty = false;
+					changedHandles.clear();
+					fullSaveRequired = false;
+					currentFile = targetFile;
 				}
 				taskListWriter.writeTaskList(taskList, targetFile);
+				new TaskListJournal(targetFile).delete();
 			}
 		};
 
@@ -148,6 +278,11 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 			if (!taskContainerDelta.isTransient()) {
 				synchronized (TaskListExternalizationParticipant.this) {
 					dirty = true;
+					for (TaskContainerDelta delta : containers) {
+						if (!delta.isTransient()) {
+							recordChange(delta);
+						}
+					}
 				}
 				manager.requestSave();
 				return;
@@ -155,6 +290,25 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 		}
 	}
 
+	private void recordChange(TaskContainerDelta delta) {
+		if (delta.getKind() == Kind.ROOT || delta.getElement() == null) {
+			fullSaveRequired = true;
+			return;
+		}
+		recordChange(delta.getElement());
+		ITaskContainer parent = delta.getParent();
+		if (parent != null) {
+			recordChange(parent);
+		}
+	}
+
+	private void recordChange(Object element) {
+		if (element instanceof AbstractTask || element instanceof RepositoryQuery
+				|| element instanceof AbstractTaskCategory) {
+			changedHandles.add(((IRepositoryElement) element).getHandleIdentifier());
+		}
+	}
+
 	public void preTaskActivated(ITask task) {
 		// ignore
 
@@ -168,6 +322,7 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 	public void taskActivated(ITask task) {
 		synchronized (TaskListExternalizationParticipant.this) {
 			dirty = true;
+			recordChange(task);
 		}
 		manager.requestSave();
 		return;
@@ -176,6 +331,7 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 	public void taskDeactivated(ITask task) {
 		synchronized (TaskListExternalizationParticipant.this) {
 			dirty = true;
+			recordChange(task);
 		}
 		manager.requestSave();
 		return;
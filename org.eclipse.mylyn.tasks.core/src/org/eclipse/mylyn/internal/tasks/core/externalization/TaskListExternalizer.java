@@ -19,6 +19,8 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -26,15 +28,19 @@ import java.util.zip.ZipOutputStream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.mylyn.commons.core.StatusHandler;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.ITransferList;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
 import org.eclipse.mylyn.internal.tasks.core.XmlReaderUtil;
 import org.eclipse.mylyn.tasks.core.IRepositoryManager;
 import org.w3c.dom.Document;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * @author Mik Kersten
@@ -77,6 +83,16 @@ public class TaskListExternalizer {
 	}
 
 	public void readTaskList(ITransferList taskList, File inFile) throws CoreException {
+		readTaskList(taskList, inFile, null);
+	}
+
+	/**
+	 * Reads the task list from <code>inFile</code> and applies the changes recorded in <code>journal</code>.
+	 *
+	 * @param journal
+	 *            the journal of the task list file or <code>null</code>
+	 */
+	public void readTaskList(ITransferList taskList, File inFile, TaskListJournal journal) throws CoreException {
 		if (!inFile.exists()) {
 			throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
 					"Task list file not found \"" + inFile.getAbsolutePath() + "\"")); //$NON-NLS-1$ //$NON-NLS-2$
@@ -89,7 +105,12 @@ public class TaskListExternalizer {
 		try (InputStream taskListFile = openTaskList(inFile)) {
 			XMLReader reader = XmlReaderUtil.createXmlReader();
 			SaxTaskListHandler handler = new SaxTaskListHandler(taskList, repositoryModel, repositoryManager);
-			reader.setContentHandler(handler);
+			Map<String, byte[]> journalRecords = readJournal(journal);
+			if (journalRecords.isEmpty()) {
+				reader.setContentHandler(handler);
+			} else {
+				reader.setContentHandler(new JournalReplayHandler(handler, journalRecords));
+			}
 			reader.parse(new InputSource(taskListFile));
 			this.orphanDocument = handler.getOrphans();
 		} catch (SAXException | IOException e) {
@@ -97,6 +118,18 @@ public class TaskListExternalizer {
 		}
 	}
 
+	private Map<String, byte[]> readJournal(TaskListJournal journal) {
+		if (journal != null) {
+			try {
+				return journal.read();
+			} catch (IOException e) {
+				StatusHandler.log(new Status(IStatus.WARNING, ITasksCoreConstants.ID_PLUGIN,
+						"Failed to read task list journal \"" + journal.getFile().getAbsolutePath() + "\"", e)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Opens the specified XML file
 	 *
@@ -128,4 +161,71 @@ public class TaskListExternalizer {
 		}
 	}
 
+	/**
+	 * Skips top-level elements of the snapshot that have journal records and adds the journaled elements at the end of
+	 * the task list.
+	 */
+	private static class JournalReplayHandler extends DefaultHandler {
+
+		private final ContentHandler delegate;
+
+		private final Map<String, byte[]> records;
+
+		private int depth;
+
+		private boolean skipping;
+
+		public JournalReplayHandler(ContentHandler delegate, Map<String, byte[]> records) {
+			this.delegate = delegate;
+			this.records = records;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes)
+				throws SAXException {
+			depth++;
+			if (depth == 2) {
+				skipping = records.containsKey(attributes.getValue(TaskListExternalizationConstants.KEY_HANDLE));
+			}
+			if (!skipping) {
+				delegate.startElement(uri, localName, qName, attributes);
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) throws SAXException {
+			if (!skipping) {
+				delegate.characters(ch, start, length);
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			if (skipping) {
+				if (depth == 2) {
+					skipping = false;
+				}
+			} else {
+				if (depth == 1) {
+					replayRecords();
+				}
+				delegate.endElement(uri, localName, qName);
+			}
+			depth--;
+		}
+
+		private void replayRecords() throws SAXException {
+			for (byte[] data : records.values()) {
+				if (data != null) {
+					try {
+						TaskListJournal.replay(data, delegate);
+					} catch (IOException e) {
+						throw new SAXException(e);
+					}
+				}
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.externalization;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Append-only log of task list elements that changed since the task list snapshot was last written. Each record either
+ * replaces a top-level element of the snapshot (task, query or category) or removes it. Elements are stored as the
+ * SAX events produced by the task list element writers so that they can be replayed into a {@link SaxTaskListHandler}
+ * without parsing XML.
+ * <p>
+ * The journal header identifies the snapshot it applies to. A journal that does not match the snapshot, e.g. because
+ * the snapshot was replaced by a backup, is ignored.
+ */
+public class TaskListJournal {
+
+	public static final String FILE_SUFFIX = ".journal"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x4d544c4a;
+
+	private static final int VERSION = 1;
+
+	private static final byte RECORD_PUT = 1;
+
+	private static final byte RECORD_DELETE = 2;
+
+	private static final byte EVENT_START_ELEMENT = 1;
+
+	private static final byte EVENT_CHARACTERS = 2;
+
+	private static final byte EVENT_END_ELEMENT = 3;
+
+	private final File snapshotFile;
+
+	private final File file;
+
+	public TaskListJournal(File snapshotFile) {
+		this.snapshotFile = snapshotFile;
+		this.file = new File(snapshotFile.getPath() + FILE_SUFFIX);
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	public long length() {
+		return file.length();
+	}
+
+	/**
+	 * Returns true, if the journal exists and applies to the current snapshot.
+	 */
+	public boolean isValid() {
+		if (!file.exists() || !snapshotFile.exists()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			return readHeader(in);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Appends records to the journal. A new journal is started if the existing journal does not apply to the current
+	 * snapshot.
+	 *
+	 * @param records
+	 *            maps element handles to serialized elements, a <code>null</code> value records the removal of the
+	 *            element
+	 */
+	public void append(Map<String, byte[]> records) throws IOException {
+		boolean valid = isValid();
+		try (FileOutputStream fileOut = new FileOutputStream(file, valid)) {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut));
+			if (!valid) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(snapshotFile.length());
+				out.writeLong(snapshotFile.lastModified());
+			}
+			for (Entry<String, byte[]> entry : records.entrySet()) {
+				if (entry.getValue() != null) {
+					out.writeByte(RECORD_PUT);
+					writeString(out, entry.getKey());
+					out.writeInt(entry.getValue().length);
+					out.write(entry.getValue());
+				} else {
+					out.writeByte(RECORD_DELETE);
+					writeString(out, entry.getKey());
+				}
+			}
+			out.flush();
+			fileOut.getFD().sync();
+		}
+	}
+
+	/**
+	 * Returns the latest record for each element in the order the elements were last changed. Returns an empty map if
+	 * the journal does not apply to the current snapshot. An incomplete record at the end of the journal, e.g. from an
+	 * interrupted write, is ignored.
+	 */
+	public Map<String, byte[]> read() throws IOException {
+		Map<String, byte[]> records = new LinkedHashMap<String, byte[]>();
+		if (!file.exists() || !snapshotFile.exists()) {
+			return records;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (!readHeader(in)) {
+				return records;
+			}
+			while (true) {
+				int type = in.read();
+				if (type == -1) {
+					break;
+				}
+				String handle = readString(in);
+				byte[] data = null;
+				if (type == RECORD_PUT) {
+					data = new byte[in.readInt()];
+					in.readFully(data);
+				} else if (type != RECORD_DELETE) {
+					throw new IOException("Unexpected record type in task list journal: " + type); //$NON-NLS-1$
+				}
+				records.remove(handle);
+				records.put(handle, data);
+			}
+		} catch (EOFException e) {
+			// incomplete record
+		}
+		return records;
+	}
+
+	public void delete() {
+		file.delete();
+	}
+
+	private boolean readHeader(DataInputStream in) throws IOException {
+		try {
+			return in.readInt() == MAGIC && in.readInt() == VERSION && in.readLong() == snapshotFile.length()
+					&& in.readLong() == snapshotFile.lastModified();
+		} catch (EOFException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Sends the SAX events of a serialized element to <code>handler</code>.
+	 */
+	public static void replay(byte[] data, ContentHandler handler) throws IOException, SAXException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+		while (true) {
+			int event = in.read();
+			switch (event) {
+			case -1:
+				return;
+			case EVENT_START_ELEMENT:
+				String name = readString(in);
+				AttributesImpl attributes = new AttributesImpl();
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String key = readString(in);
+					attributes.addAttribute("", key, key, "", readString(in)); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				handler.startElement("", name, name, attributes); //$NON-NLS-1$
+				break;
+			case EVENT_CHARACTERS:
+				char[] chars = readString(in).toCharArray();
+				handler.characters(chars, 0, chars.length);
+				break;
+			case EVENT_END_ELEMENT:
+				name = readString(in);
+				handler.endElement("", name, name); //$NON-NLS-1$
+				break;
+			default:
+				throw new IOException("Unexpected event in task list journal: " + event); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Serializes the SAX events of task list elements for {@link TaskListJournal#append(Map)}.
+	 */
+	public static class Recorder extends DefaultHandler {
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		private final DataOutputStream out = new DataOutputStream(bytes);
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes)
+				throws SAXException {
+			try {
+				out.writeByte(EVENT_START_ELEMENT);
+				writeString(out, localName);
+				out.writeInt(attributes.getLength());
+				for (int i = 0; i < attributes.getLength(); i++) {
+					writeString(out, attributes.getLocalName(i));
+					writeString(out, attributes.getValue(i));
+				}
+			} catch (IOException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) throws SAXException {
+			try {
+				out.writeByte(EVENT_CHARACTERS);
+				writeString(out, new String(ch, start, length));
+			} catch (IOException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			try {
+				out.writeByte(EVENT_END_ELEMENT);
+				writeString(out, localName);
+			} catch (IOException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		public byte[] toByteArray() {
+			return bytes.toByteArray();
+		}
+
+	}
+
+}
@@ -59,6 +59,8 @@ public class Messages extends NLS {
 
 	public static String SynchronizeRepositoriesJob_Processing_;
 
+	public static String SynchronizeRepositoriesJob_Processing_X_of_X;
+
 	public static String SynchronizeRepositoriesJob_Synchronizing_Task_List;
 
 	public static String SynchronizeRepositoriesJob_Updating_repository_configuration_for_X;
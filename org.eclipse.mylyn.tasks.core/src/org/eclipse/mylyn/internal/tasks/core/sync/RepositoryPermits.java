@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.sync;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+
+/**
+ * Limits the number of concurrent requests that synchronization jobs send to a repository. Permits are shared by all
+ * jobs that synchronize the same repository. Permits for synchronizing repositories are shared by all repositories on
+ * the same host.
+ */
+public class RepositoryPermits {
+
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
+
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	public static final int DEFAULT_MAX_CONCURRENT_REPOSITORIES = 1;
+
+	public static final int DEFAULT_MAX_CONCURRENT_REPOSITORIES_PER_HOST = 2;
+
+	private static final Map<String, Semaphore> semaphoreByKey = new HashMap<String, Semaphore>();
+
+	private static final Map<String, Integer> permitsByKey = new HashMap<String, Integer>();
+
+	private RepositoryPermits() {
+	}
+
+	/**
+	 * Returns the semaphore that guards requests to <code>repository</code>. If the number of permits has changed
+	 * since the semaphore was created a new semaphore is returned.
+	 */
+	public static Semaphore getSemaphore(TaskRepository repository, int permits) {
+		Assert.isNotNull(repository);
+		return getSemaphore(repository.getConnectorKind() + "|" + repository.getRepositoryUrl(), permits); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the semaphore that guards synchronizations of repositories on the same host as <code>repository</code>.
+	 * If the number of permits has changed since the semaphore was created a new semaphore is returned.
+	 */
+	public static Semaphore getHostSemaphore(TaskRepository repository, int permits) {
+		Assert.isNotNull(repository);
+		return getSemaphore("@" + getHost(repository), permits); //$NON-NLS-1$
+	}
+
+	static String getHost(TaskRepository repository) {
+		try {
+			String host = new URL(repository.getRepositoryUrl()).getHost();
+			if (host != null && host.length() > 0) {
+				return host.toLowerCase();
+			}
+		} catch (MalformedURLException e) {
+			// fall back to the repository url
+		}
+		return repository.getRepositoryUrl();
+	}
+
+	static synchronized Semaphore getSemaphore(String key, int permits) {
+		Assert.isLegal(permits > 0);
+		Semaphore semaphore = semaphoreByKey.get(key);
+		Integer currentPermits = permitsByKey.get(key);
+		if (semaphore == null || currentPermits == null || currentPermits.intValue() != permits) {
+			semaphore = new Semaphore(permits, true);
+			semaphoreByKey.put(key, semaphore);
+			permitsByKey.put(key, permits);
+		}
+		return semaphore;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent requests configured for <code>repository</code>.
+	 *
+	 * @see ITasksCoreConstants#PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REQUESTS
+	 */
+	public static int getMaxConcurrentRequests(TaskRepository repository) {
+		return getIntProperty(repository, ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REQUESTS,
+				DEFAULT_MAX_CONCURRENT_REQUESTS);
+	}
+
+	/**
+	 * Returns the number of tasks that are retrieved per request for <code>repository</code>.
+	 *
+	 * @see ITasksCoreConstants#PROPERTY_SYNCHRONIZATION_BATCH_SIZE
+	 */
+	public static int getBatchSize(TaskRepository repository) {
+		return getIntProperty(repository, ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_BATCH_SIZE,
+				DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Returns the maximum number of repositories that are synchronized concurrently.
+	 *
+	 * @see ITasksCoreConstants#PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REPOSITORIES
+	 */
+	public static int getMaxConcurrentRepositories() {
+		return getIntProperty(
+				System.getProperty(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REPOSITORIES),
+				DEFAULT_MAX_CONCURRENT_REPOSITORIES);
+	}
+
+	/**
+	 * Returns the maximum number of repositories on the same host that are synchronized concurrently.
+	 *
+	 * @see ITasksCoreConstants#PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REPOSITORIES_PER_HOST
+	 */
+	public static int getMaxConcurrentRepositoriesPerHost() {
+		return getIntProperty(
+				System.getProperty(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REPOSITORIES_PER_HOST),
+				DEFAULT_MAX_CONCURRENT_REPOSITORIES_PER_HOST);
+	}
+
+	private static int getIntProperty(TaskRepository repository, String key, int defaultValue) {
+		if (repository != null) {
+			return getIntProperty(repository.getProperty(key), defaultValue);
+		}
+		return defaultValue;
+	}
+
+	private static int getIntProperty(String value, int defaultValue) {
+		if (value != null) {
+			try {
+				return Math.max(1, Integer.parseInt(value.trim()));
+			} catch (NumberFormatException e) {
+				// ignore
+			}
+		}
+		return defaultValue;
+	}
+
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.sync;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Counter;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Timer;
+
+/**
+ * Accumulated synchronization metrics of a single repository. All methods are thread safe.
+ */
+public class RepositorySynchronizationMetrics {
+
+	static final String ROUND_TRIPS = "ROUND_TRIPS"; //$NON-NLS-1$
+
+	private final String repositoryUrl;
+
+	private final AtomicLongArray counts = new AtomicLongArray(Counter.values().length);
+
+	private final AtomicLongArray invocations = new AtomicLongArray(Timer.values().length);
+
+	private final AtomicLongArray totalTimes = new AtomicLongArray(Timer.values().length);
+
+	private final AtomicLongArray maxTimes = new AtomicLongArray(Timer.values().length);
+
+	private final AtomicLong roundTrips = new AtomicLong();
+
+	RepositorySynchronizationMetrics(String repositoryUrl) {
+		this.repositoryUrl = repositoryUrl;
+	}
+
+	public String getRepositoryUrl() {
+		return repositoryUrl;
+	}
+
+	void increment(Counter counter, long delta) {
+		counts.addAndGet(counter.ordinal(), delta);
+	}
+
+	void record(Timer timer, long nanos) {
+		int i = timer.ordinal();
+		invocations.incrementAndGet(i);
+		totalTimes.addAndGet(i, nanos);
+		long max;
+		do {
+			max = maxTimes.get(i);
+		} while (nanos > max && !maxTimes.compareAndSet(i, max, nanos));
+		if (timer.isRoundTrip()) {
+			roundTrips.incrementAndGet();
+		}
+	}
+
+	public long getCount(Counter counter) {
+		return counts.get(counter.ordinal());
+	}
+
+	/**
+	 * Returns the number of requests that were sent to the repository.
+	 *
+	 * @see Timer#isRoundTrip()
+	 */
+	public long getRoundTrips() {
+		return roundTrips.get();
+	}
+
+	public long getInvocations(Timer timer) {
+		return invocations.get(timer.ordinal());
+	}
+
+	public long getTotalTime(Timer timer, TimeUnit unit) {
+		return unit.convert(totalTimes.get(timer.ordinal()), TimeUnit.NANOSECONDS);
+	}
+
+	public long getMaxTime(Timer timer, TimeUnit unit) {
+		return unit.convert(maxTimes.get(timer.ordinal()), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(repositoryUrl);
+		sb.append(": roundTrips="); //$NON-NLS-1$
+		sb.append(getRoundTrips());
+		for (Counter counter : Counter.values()) {
+			sb.append(", "); //$NON-NLS-1$
+			sb.append(counter.name().toLowerCase());
+			sb.append("="); //$NON-NLS-1$
+			sb.append(getCount(counter));
+		}
+		for (Timer timer : Timer.values()) {
+			if (getInvocations(timer) > 0) {
+				sb.append(", "); //$NON-NLS-1$
+				sb.append(timer.name().toLowerCase());
+				sb.append("="); //$NON-NLS-1$
+				sb.append(getTotalTime(timer, TimeUnit.MILLISECONDS));
+				sb.append("ms/"); //$NON-NLS-1$
+				sb.append(getInvocations(timer));
+			}
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.sync;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.mylyn.commons.core.StatusHandler;
+import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+
+/**
+ * Collects counters and timings of synchronizations per repository. Metrics are recorded by the synchronization jobs
+ * and the task data manager and accumulate until {@link #reset()} is invoked. If the system property
+ * {@link ITasksCoreConstants#PROPERTY_SYNCHRONIZATION_METRICS_JMX} is set the metrics are available through JMX.
+ * <p>
+ * Connectors that read responses themselves can report the number of bytes received and the time spent parsing
+ * through the static hooks {@link #recordBytesReceived(String, long)}, {@link #recordResponseParsing(String, long)}
+ * and {@link #countBytesReceived(String, InputStream)}. The hooks record into the {@link #getDefault() default}
+ * instance and do nothing if none is set.
+ *
+ * @see RepositorySynchronizationMetrics
+ */
+public class SynchronizationMetrics implements SynchronizationMetricsMXBean {
+
+	public static final String OBJECT_NAME = "org.eclipse.mylyn.tasks.core:type=SynchronizationMetrics"; //$NON-NLS-1$
+
+	public enum Counter {
+		/** Tasks that were returned by queries. */
+		QUERY_RESULTS,
+		/** Tasks that were marked stale and scheduled for retrieval of full task data. */
+		TASKS_MARKED_STALE,
+		/** Tasks for which full task data was retrieved. */
+		TASKS_RETRIEVED,
+		/** Updates of task data that changed the task. */
+		TASKS_CHANGED,
+		/** Updates of task data that did not change the task. */
+		TASKS_UNCHANGED,
+		/** Failed requests. */
+		FAILURES,
+		/** Bytes of responses that were read by connectors. */
+		BYTES_RECEIVED
+	}
+
+	public enum Timer {
+		/** Synchronization of queries and tasks. */
+		SYNCHRONIZATION(false),
+		/** Checking and updating of the repository configuration. */
+		CONFIGURATION_UPDATE(true),
+		/** {@link org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector#preSynchronization} */
+		PRE_SYNCHRONIZATION(true),
+		/** Query requests including processing of query results. */
+		QUERY(true),
+		/** Retrieval of full task data including parsing by the connector. */
+		TASK_RETRIEVAL(true),
+		/** {@link org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector#postSynchronization} */
+		POST_SYNCHRONIZATION(true),
+		/** Reading of stored task data to determine incoming changes. */
+		TASK_DATA_READ(false),
+		/** Comparing received task data with the last read task data. */
+		TASK_DATA_DIFF(false),
+		/** Writing received task data to the task data store. */
+		TASK_DATA_WRITE(false),
+		/** Parsing of responses by connectors, reported through {@link SynchronizationMetrics#recordResponseParsing}. */
+		RESPONSE_PARSING(false);
+
+		private final boolean roundTrip;
+
+		private Timer(boolean roundTrip) {
+			this.roundTrip = roundTrip;
+		}
+
+		/**
+		 * Returns true, if each invocation of the timer corresponds to a request to the repository.
+		 */
+		public boolean isRoundTrip() {
+			return roundTrip;
+		}
+
+	}
+
+	private static class CountingInputStream extends FilterInputStream {
+
+		private final String repositoryUrl;
+
+		private long count;
+
+		private boolean closed;
+
+		CountingInputStream(String repositoryUrl, InputStream in) {
+			super(in);
+			this.repositoryUrl = repositoryUrl;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				if (!closed) {
+					closed = true;
+					recordBytesReceived(repositoryUrl, count);
+				}
+			}
+		}
+
+	}
+
+	private static volatile SynchronizationMetrics defaultMetrics;
+
+	private final ConcurrentMap<String, RepositorySynchronizationMetrics> metricsByRepositoryUrl =
+			new ConcurrentHashMap<String, RepositorySynchronizationMetrics>();
+
+	private ObjectName objectName;
+
+	/**
+	 * Returns a time stamp that marks the start of an operation for {@link #record(TaskRepository, Timer, long)}.
+	 */
+	public static long start() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Returns the instance that receives metrics reported by connectors.
+	 *
+	 * @return the default instance or null, if metrics reported by connectors are discarded
+	 */
+	public static SynchronizationMetrics getDefault() {
+		return defaultMetrics;
+	}
+
+	/**
+	 * Sets the instance that receives metrics reported by connectors. Typically this is the instance of the task data
+	 * manager that is used by the synchronization jobs.
+	 *
+	 * @param metrics
+	 *            the default instance or null, to discard metrics reported by connectors
+	 */
+	public static void setDefault(SynchronizationMetrics metrics) {
+		defaultMetrics = metrics;
+	}
+
+	/**
+	 * Adds <code>bytes</code> to the {@link Counter#BYTES_RECEIVED} counter of the default instance.
+	 */
+	public static void recordBytesReceived(String repositoryUrl, long bytes) {
+		SynchronizationMetrics metrics = defaultMetrics;
+		if (metrics != null) {
+			metrics.increment(repositoryUrl, Counter.BYTES_RECEIVED, bytes);
+		}
+	}
+
+	/**
+	 * Records the time spent parsing a response since <code>startTime</code> which was obtained from {@link #start()}
+	 * in the {@link Timer#RESPONSE_PARSING} timer of the default instance.
+	 */
+	public static void recordResponseParsing(String repositoryUrl, long startTime) {
+		SynchronizationMetrics metrics = defaultMetrics;
+		if (metrics != null) {
+			metrics.record(repositoryUrl, Timer.RESPONSE_PARSING, startTime);
+		}
+	}
+
+	/**
+	 * Returns a stream that reports the number of bytes read from <code>in</code> through
+	 * {@link #recordBytesReceived(String, long)} when it is closed.
+	 */
+	public static InputStream countBytesReceived(String repositoryUrl, InputStream in) {
+		Assert.isNotNull(repositoryUrl);
+		Assert.isNotNull(in);
+		return new CountingInputStream(repositoryUrl, in);
+	}
+
+	public void increment(TaskRepository repository, Counter counter) {
+		increment(repository.getRepositoryUrl(), counter, 1);
+	}
+
+	public void increment(TaskRepository repository, Counter counter, long delta) {
+		increment(repository.getRepositoryUrl(), counter, delta);
+	}
+
+	public void increment(String repositoryUrl, Counter counter, long delta) {
+		Assert.isNotNull(counter);
+		getOrCreateMetrics(repositoryUrl).increment(counter, delta);
+	}
+
+	/**
+	 * Records the time that has elapsed since <code>startTime</code> which was obtained from {@link #start()}.
+	 */
+	public void record(TaskRepository repository, Timer timer, long startTime) {
+		record(repository.getRepositoryUrl(), timer, startTime);
+	}
+
+	public void record(String repositoryUrl, Timer timer, long startTime) {
+		Assert.isNotNull(timer);
+		getOrCreateMetrics(repositoryUrl).record(timer, System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Returns the metrics for <code>repositoryUrl</code>.
+	 *
+	 * @return the metrics or null, if no synchronization of the repository was recorded
+	 */
+	public RepositorySynchronizationMetrics getMetrics(String repositoryUrl) {
+		return metricsByRepositoryUrl.get(repositoryUrl);
+	}
+
+	public Collection<RepositorySynchronizationMetrics> getMetrics() {
+		return Collections.unmodifiableCollection(new ArrayList<RepositorySynchronizationMetrics>(
+				metricsByRepositoryUrl.values()));
+	}
+
+	public void reset() {
+		metricsByRepositoryUrl.clear();
+	}
+
+	/**
+	 * Registers this instance with the platform MBean server under {@link #OBJECT_NAME}.
+	 */
+	public synchronized void registerMBean() {
+		if (objectName != null) {
+			return;
+		}
+		try {
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			objectName = name;
+		} catch (JMException e) {
+			StatusHandler.log(new Status(IStatus.WARNING, ITasksCoreConstants.ID_PLUGIN,
+					"Failed to register synchronization metrics", e)); //$NON-NLS-1$
+		}
+	}
+
+	public synchronized void unregisterMBean() {
+		if (objectName == null) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (JMException e) {
+			// ignore
+		} finally {
+			objectName = null;
+		}
+	}
+
+	public List<String> getRepositoryUrls() {
+		List<String> repositoryUrls = new ArrayList<String>(metricsByRepositoryUrl.keySet());
+		Collections.sort(repositoryUrls);
+		return repositoryUrls;
+	}
+
+	public Map<String, Long> getCounts(String repositoryUrl) {
+		Map<String, Long> counts = new LinkedHashMap<String, Long>();
+		RepositorySynchronizationMetrics metrics = getMetrics(repositoryUrl);
+		if (metrics != null) {
+			counts.put(RepositorySynchronizationMetrics.ROUND_TRIPS, metrics.getRoundTrips());
+			for (Counter counter : Counter.values()) {
+				counts.put(counter.name(), metrics.getCount(counter));
+			}
+			for (Timer timer : Timer.values()) {
+				counts.put(timer.name(), metrics.getInvocations(timer));
+			}
+		}
+		return counts;
+	}
+
+	public Map<String, Long> getTimesMillis(String repositoryUrl) {
+		Map<String, Long> times = new LinkedHashMap<String, Long>();
+		RepositorySynchronizationMetrics metrics = getMetrics(repositoryUrl);
+		if (metrics != null) {
+			for (Timer timer : Timer.values()) {
+				times.put(timer.name(), metrics.getTotalTime(timer, TimeUnit.MILLISECONDS));
+			}
+		}
+		return times;
+	}
+
+	private RepositorySynchronizationMetrics getOrCreateMetrics(String repositoryUrl) {
+		Assert.isNotNull(repositoryUrl);
+		RepositorySynchronizationMetrics metrics = metricsByRepositoryUrl.get(repositoryUrl);
+		if (metrics == null) {
+			metrics = new RepositorySynchronizationMetrics(repositoryUrl);
+			RepositorySynchronizationMetrics existingMetrics = metricsByRepositoryUrl.putIfAbsent(repositoryUrl,
+					metrics);
+			if (existingMetrics != null) {
+				metrics = existingMetrics;
+			}
+		}
+		return metrics;
+	}
+
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.sync;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface of {@link SynchronizationMetrics}.
+ *
+ * @see SynchronizationMetrics#OBJECT_NAME
+ */
+public interface SynchronizationMetricsMXBean {
+
+	/**
+	 * Returns the URLs of repositories that have recorded metrics.
+	 */
+	List<String> getRepositoryUrls();
+
+	/**
+	 * Returns the round-trips, counters and the number of invocations of each timer for <code>repositoryUrl</code>.
+	 */
+	Map<String, Long> getCounts(String repositoryUrl);
+
+	/**
+	 * Returns the total time in milliseconds recorded by each timer for <code>repositoryUrl</code>.
+	 */
+	Map<String, Long> getTimesMillis(String repositoryUrl);
+
+	void reset();
+
+}
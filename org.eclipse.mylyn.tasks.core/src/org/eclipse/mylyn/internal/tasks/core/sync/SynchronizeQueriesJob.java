@@ -39,6 +39,8 @@ import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants.ObjectSchedulin
 import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Counter;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Timer;
 import org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector;
 import org.eclipse.mylyn.tasks.core.IRepositoryModel;
 import org.eclipse.mylyn.tasks.core.ITask;
@@ -149,6 +151,7 @@ public class SynchronizeQueriesJob extends SynchronizationJob {
 		try {
 			monitor.setCanceled(false);
 			monitor.attach(jobMonitor);
+			long startTime = SynchronizationMetrics.start();
 			try {
 				monitor.beginTask(Messages.SynchronizeQueriesJob_Processing, 20 + queries.size() * 20 + 40 + 10);
 
@@ -212,6 +215,7 @@ public class SynchronizeQueriesJob extends SynchronizationJob {
 						tasksToBeSynchronized.add(task);
 						((AbstractTask) task).setSynchronizing(true);
 					}
+					getMetrics().increment(repository, Counter.TASKS_MARKED_STALE, tasksToBeSynchronized.size());
 
 					// synchronize tasks that were marked by the connector
 					SynchronizeTasksJob job = new SynchronizeTasksJob(taskList, taskDataManager, tasksModel, connector,
@@ -252,6 +256,7 @@ public class SynchronizeQueriesJob extends SynchronizationJob {
 				StatusHandler.log(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
 						NLS.bind("Synchronization for connector ''{0}'' failed", connector.getConnectorKind()), e)); //$NON-NLS-1$
 			} finally {
+				getMetrics().record(repository, Timer.SYNCHRONIZATION, startTime);
 				monitor.done();
 			}
 		} finally {
@@ -260,6 +265,10 @@ public class SynchronizeQueriesJob extends SynchronizationJob {
 		return Status.OK_STATUS;
 	}
 
+	private SynchronizationMetrics getMetrics() {
+		return taskDataManager.getSynchronizationMetrics();
+	}
+
 	private void synchronizeQueries(IProgressMonitor monitor, SynchronizationSession session) {
 		for (RepositoryQuery repositoryQuery : queries) {
 			Policy.checkCanceled(monitor);
@@ -276,9 +285,15 @@ public class SynchronizeQueriesJob extends SynchronizationJob {
 			if (!isUser()) {
 				monitor = Policy.backgroundMonitorFor(monitor);
 			}
-			connector.postSynchronization(event, monitor);
+			long startTime = SynchronizationMetrics.start();
+			try {
+				connector.postSynchronization(event, monitor);
+			} finally {
+				getMetrics().record(repository, Timer.POST_SYNCHRONIZATION, startTime);
+			}
 			return true;
 		} catch (CoreException e) {
+			getMetrics().increment(repository, Counter.FAILURES);
 			updateQueryStatus(e.getStatus());
 			return false;
 		}
@@ -291,9 +306,15 @@ public class SynchronizeQueriesJob extends SynchronizationJob {
 			if (!isUser()) {
 				monitor = Policy.backgroundMonitorFor(monitor);
 			}
-			connector.preSynchronization(event, monitor);
+			long startTime = SynchronizationMetrics.start();
+			try {
+				connector.preSynchronization(event, monitor);
+			} finally {
+				getMetrics().record(repository, Timer.PRE_SYNCHRONIZATION, startTime);
+			}
 			return true;
 		} catch (CoreException e) {
+			getMetrics().increment(repository, Counter.FAILURES);
 			// synchronization is unlikely to succeed, inform user and exit
 			updateQueryStatus(e.getStatus());
 			statuses.add(e.getStatus());
@@ -308,7 +329,14 @@ public class SynchronizeQueriesJob extends SynchronizationJob {
 		if (!isUser()) {
 			monitor = Policy.backgroundMonitorFor(monitor);
 		}
-		IStatus result = connector.performQuery(repository, repositoryQuery, collector, event, monitor);
+		long startTime = SynchronizationMetrics.start();
+		IStatus result;
+		try {
+			result = connector.performQuery(repository, repositoryQuery, collector, event, monitor);
+		} finally {
+			getMetrics().record(repository, Timer.QUERY, startTime);
+			getMetrics().increment(repository, Counter.QUERY_RESULTS, collector.getResultCount());
+		}
 		if (result == null || result.isOK()) {
 			Set<ITask> removedChildren = collector.getRemovedChildren();
 			if (!removedChildren.isEmpty()) {
@@ -319,6 +347,7 @@ public class SynchronizeQueriesJob extends SynchronizationJob {
 		} else if (result.getSeverity() == IStatus.CANCEL) {
 			throw new OperationCanceledException();
 		} else {
+			getMetrics().increment(repository, Counter.FAILURES);
 			repositoryQuery.setStatus(result);
 			statuses.add(result);
 		}
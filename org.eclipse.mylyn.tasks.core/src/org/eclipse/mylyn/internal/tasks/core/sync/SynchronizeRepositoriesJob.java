@@ -12,17 +12,28 @@
 package org.eclipse.mylyn.internal.tasks.core.sync;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.QualifiedName;
@@ -35,6 +46,8 @@ import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Counter;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Timer;
 import org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector;
 import org.eclipse.mylyn.tasks.core.IRepositoryManager;
 import org.eclipse.mylyn.tasks.core.IRepositoryModel;
@@ -44,11 +57,59 @@ import org.eclipse.osgi.util.NLS;
 
 /**
  * Updates the task list.
+ * <p>
+ * If more than one repository may be synchronized concurrently, the repository configuration and queries of all
+ * repositories are updated in parallel, limited by the number of concurrent synchronizations per host. A failure of
+ * one repository does not affect the synchronization of others.
  * 
  * @author Steffen Pingel
+ * @see RepositoryPermits#getMaxConcurrentRepositories()
+ * @see RepositoryPermits#getMaxConcurrentRepositoriesPerHost()
  */
 public class SynchronizeRepositoriesJob extends SynchronizationJob {
 
+	private class RepositorySynchronizer implements Runnable {
+
+		private final TaskRepository repository;
+
+		private final IProgressMonitor monitor;
+
+		public RepositorySynchronizer(TaskRepository repository, IProgressMonitor monitor) {
+			this.repository = repository;
+			this.monitor = monitor;
+		}
+
+		public void run() {
+			Semaphore hostPermits = RepositoryPermits.getHostSemaphore(repository, maxConcurrentRepositoriesPerHost);
+			try {
+				hostPermits.acquire();
+				try {
+					if (!monitor.isCanceled()) {
+						synchronizeRepository(repository, monitor);
+					}
+				} finally {
+					hostPermits.release();
+				}
+			} catch (InterruptedException e) {
+				// canceled
+			} catch (OperationCanceledException e) {
+				// canceled
+			} catch (RuntimeException e) {
+				failed(e);
+			} catch (LinkageError e) {
+				failed(e);
+			}
+		}
+
+		private void failed(Throwable e) {
+			IStatus status = new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN, NLS.bind(
+					"Synchronization of ''{0}'' failed", repository.getRepositoryUrl()), e); //$NON-NLS-1$
+			StatusHandler.log(status);
+			statuses.add(status);
+		}
+
+	}
+
 	private static final boolean TRACE_ENABLED = Boolean.valueOf(Platform.getDebugOption("org.eclipse.mylyn.tasks.core/debug/synchronization")); //$NON-NLS-1$
 
 	private final TaskList taskList;
@@ -63,6 +124,12 @@ public class SynchronizeRepositoriesJob extends SynchronizationJob {
 
 	private final Map<QualifiedName, Object> properties = new ConcurrentHashMap<QualifiedName, Object>();
 
+	private final List<IStatus> statuses = Collections.synchronizedList(new ArrayList<IStatus>());
+
+	private int maxConcurrentRepositories;
+
+	private int maxConcurrentRepositoriesPerHost;
+
 	public SynchronizeRepositoriesJob(TaskList taskList, TaskDataManager taskDataManager, IRepositoryModel tasksModel,
 			IRepositoryManager repositoryManager) {
 		super(Messages.SynchronizeRepositoriesJob_Synchronizing_Task_List);
@@ -70,6 +137,8 @@ public class SynchronizeRepositoriesJob extends SynchronizationJob {
 		this.taskDataManager = taskDataManager;
 		this.tasksModel = tasksModel;
 		this.repositoryManager = repositoryManager;
+		this.maxConcurrentRepositories = RepositoryPermits.getMaxConcurrentRepositories();
+		this.maxConcurrentRepositoriesPerHost = RepositoryPermits.getMaxConcurrentRepositoriesPerHost();
 	}
 
 	public Collection<TaskRepository> getRepositories() {
@@ -84,11 +153,49 @@ public class SynchronizeRepositoriesJob extends SynchronizationJob {
 		}
 	}
 
+	public int getMaxConcurrentRepositories() {
+		return maxConcurrentRepositories;
+	}
+
+	/**
+	 * Sets the maximum number of repositories that are synchronized concurrently. Values less than 2 synchronize
+	 * repositories one after another.
+	 */
+	public void setMaxConcurrentRepositories(int maxConcurrentRepositories) {
+		this.maxConcurrentRepositories = maxConcurrentRepositories;
+	}
+
+	public int getMaxConcurrentRepositoriesPerHost() {
+		return maxConcurrentRepositoriesPerHost;
+	}
+
+	/**
+	 * Sets the maximum number of repositories on the same host that are synchronized concurrently.
+	 */
+	public void setMaxConcurrentRepositoriesPerHost(int maxConcurrentRepositoriesPerHost) {
+		this.maxConcurrentRepositoriesPerHost = Math.max(1, maxConcurrentRepositoriesPerHost);
+	}
+
+	/**
+	 * Returns the result of the last synchronization. If the synchronization of any repository failed, a multi status
+	 * that contains the failures is returned.
+	 */
+	public IStatus getStatus() {
+		synchronized (statuses) {
+			if (statuses.isEmpty()) {
+				return Status.OK_STATUS;
+			}
+			return new MultiStatus(ITasksCoreConstants.ID_PLUGIN, 0, statuses.toArray(new IStatus[0]),
+					"Synchronization of repositories failed", null); //$NON-NLS-1$
+		}
+	}
+
 	@Override
 	public IStatus run(IProgressMonitor jobMonitor) {
 		try {
 			monitor.setCanceled(false);
 			monitor.attach(jobMonitor);
+			statuses.clear();
 
 			// get the current list of repositories
 			Set<TaskRepository> repositories = this.repositories;
@@ -101,45 +208,18 @@ public class SynchronizeRepositoriesJob extends SynchronizationJob {
 				if (TRACE_ENABLED) {
 					trace("Starting repository synchronization"); //$NON-NLS-1$
 				}
-				for (TaskRepository repository : repositories) {
-					if (monitor.isCanceled()) {
-						return Status.CANCEL_STATUS;
-					}
-
-					if (repository.isOffline()) {
-						if (TRACE_ENABLED) {
-							trace("Skipping synchronization for " + repository.getRepositoryLabel()); //$NON-NLS-1$
+				if (maxConcurrentRepositories > 1 && repositories.size() > 1) {
+					synchronizeRepositoriesConcurrently(repositories);
+				} else {
+					for (TaskRepository repository : repositories) {
+						if (monitor.isCanceled()) {
+							return Status.CANCEL_STATUS;
 						}
-						monitor.worked(100);
-						continue;
-					}
 
-					monitor.setTaskName(MessageFormat.format(Messages.SynchronizeRepositoriesJob_Processing_,
-							repository.getRepositoryLabel()));
-
-					final AbstractRepositoryConnector connector = repositoryManager.getRepositoryConnector(repository.getConnectorKind());
-					Set<RepositoryQuery> queries = new HashSet<RepositoryQuery>(
-							taskList.getRepositoryQueries(repository.getRepositoryUrl()));
-					// remove queries that are not configured for auto update
-					if (!isUser()) {
-						for (Iterator<RepositoryQuery> it = queries.iterator(); it.hasNext();) {
-							if (!it.next().getAutoUpdate()) {
-								it.remove();
-							}
-						}
+						monitor.setTaskName(MessageFormat.format(Messages.SynchronizeRepositoriesJob_Processing_,
+								repository.getRepositoryLabel()));
+						synchronizeRepository(repository, monitor);
 					}
-
-					if (isUser() || queries.isEmpty()) {
-						monitor.worked(20);
-					} else {
-						// occasionally request update of repository configuration attributes as part of background synchronizations
-						updateRepositoryConfiguration(repository, connector, new SubProgressMonitor(monitor, 20));
-					}
-
-					if (TRACE_ENABLED) {
-						trace("Synchronizing queries for " + repository.getRepositoryLabel()); //$NON-NLS-1$
-					}
-					updateQueries(repository, connector, queries, monitor);
 				}
 				if (TRACE_ENABLED) {
 					trace("Completed repository synchronization"); //$NON-NLS-1$
@@ -159,6 +239,86 @@ public class SynchronizeRepositoriesJob extends SynchronizationJob {
 		return Status.OK_STATUS;
 	}
 
+	/**
+	 * Synchronizes <code>repositories</code> using up to {@link #getMaxConcurrentRepositories()} threads. Progress is
+	 * reported on the job thread as repositories complete.
+	 */
+	private void synchronizeRepositoriesConcurrently(Set<TaskRepository> repositories) {
+		IProgressMonitor repositoryMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrentRepositories,
+				repositories.size()));
+		CompletionService<TaskRepository> completionService = new ExecutorCompletionService<TaskRepository>(executor);
+		try {
+			for (TaskRepository repository : repositories) {
+				completionService.submit(new RepositorySynchronizer(repository, repositoryMonitor), repository);
+			}
+			int completed = 0;
+			while (completed < repositories.size()) {
+				Policy.checkCanceled(monitor);
+				Future<TaskRepository> future = completionService.poll(1, TimeUnit.SECONDS);
+				if (future != null) {
+					completed++;
+					monitor.setTaskName(MessageFormat.format(Messages.SynchronizeRepositoriesJob_Processing_X_of_X,
+							completed, repositories.size()));
+					monitor.worked(100);
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Updates the configuration and queries of <code>repository</code> consuming 100 ticks of <code>monitor</code>.
+	 */
+	private void synchronizeRepository(TaskRepository repository, IProgressMonitor monitor) {
+		if (repository.isOffline()) {
+			if (TRACE_ENABLED) {
+				trace("Skipping synchronization for " + repository.getRepositoryLabel()); //$NON-NLS-1$
+			}
+			monitor.worked(100);
+			return;
+		}
+
+		final AbstractRepositoryConnector connector = repositoryManager.getRepositoryConnector(repository.getConnectorKind());
+		Set<RepositoryQuery> queries = new HashSet<RepositoryQuery>(
+				taskList.getRepositoryQueries(repository.getRepositoryUrl()));
+		// remove queries that are not configured for auto update
+		if (!isUser()) {
+			for (Iterator<RepositoryQuery> it = queries.iterator(); it.hasNext();) {
+				if (!it.next().getAutoUpdate()) {
+					it.remove();
+				}
+			}
+		}
+
+		if (isUser() || queries.isEmpty()) {
+			monitor.worked(20);
+		} else {
+			// occasionally request update of repository configuration attributes as part of background synchronizations
+			updateRepositoryConfiguration(repository, connector, new SubProgressMonitor(monitor, 20));
+		}
+
+		if (TRACE_ENABLED) {
+			trace("Synchronizing queries for " + repository.getRepositoryLabel()); //$NON-NLS-1$
+		}
+		updateQueries(repository, connector, queries, monitor);
+		if (TRACE_ENABLED) {
+			RepositorySynchronizationMetrics metrics = taskDataManager.getSynchronizationMetrics()
+					.getMetrics(repository.getRepositoryUrl());
+			if (metrics != null) {
+				trace("Synchronization metrics for " + metrics); //$NON-NLS-1$
+			}
+		}
+	}
+
 	private void updateQueries(TaskRepository repository, final AbstractRepositoryConnector connector,
 			Set<RepositoryQuery> queries, IProgressMonitor monitor) {
 		if (isUser()) {
@@ -185,6 +345,7 @@ public class SynchronizeRepositoriesJob extends SynchronizationJob {
 			job.schedule();
 		} else {
 			job.run(new SubProgressMonitor(monitor, 80));
+			statuses.addAll(job.getStatuses());
 		}
 	}
 
@@ -214,21 +375,32 @@ public class SynchronizeRepositoriesJob extends SynchronizationJob {
 			monitor.beginTask(MessageFormat.format(
 					Messages.SynchronizeRepositoriesJob_Updating_repository_configuration_for_X,
 					repository.getRepositoryUrl()), 100);
-			if (connector.isRepositoryConfigurationStale(repository, monitor)) {
-				if (TRACE_ENABLED) {
-					trace("Updating configuration for " + repository.getRepositoryLabel()); //$NON-NLS-1$
+			long startTime = SynchronizationMetrics.start();
+			try {
+				if (connector.isRepositoryConfigurationStale(repository, monitor)) {
+					if (TRACE_ENABLED) {
+						trace("Updating configuration for " + repository.getRepositoryLabel()); //$NON-NLS-1$
+					}
+					connector.updateRepositoryConfiguration(repository, monitor);
+					repository.setConfigurationDate(new Date());
 				}
-				connector.updateRepositoryConfiguration(repository, monitor);
-				repository.setConfigurationDate(new Date());
+			} finally {
+				taskDataManager.getSynchronizationMetrics().record(repository, Timer.CONFIGURATION_UPDATE,
+						startTime);
 			}
 		} catch (OperationCanceledException e) {
 			throw e;
 		} catch (Exception e) {
-			repository.setStatus(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
-					"Updating of repository configuration failed", e)); //$NON-NLS-1$
+			taskDataManager.getSynchronizationMetrics().increment(repository, Counter.FAILURES);
+			IStatus status = new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
+					"Updating of repository configuration failed", e); //$NON-NLS-1$
+			repository.setStatus(status);
+			statuses.add(status);
 		} catch (LinkageError e) {
-			StatusHandler.log(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN, NLS.bind(
-					"Internal error while updating repository configuration for ''{0}''", repository.getUrl()), e)); //$NON-NLS-1$
+			IStatus status = new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN, NLS.bind(
+					"Internal error while updating repository configuration for ''{0}''", repository.getUrl()), e); //$NON-NLS-1$
+			StatusHandler.log(status);
+			statuses.add(status);
 		} finally {
 			monitor.done();
 		}
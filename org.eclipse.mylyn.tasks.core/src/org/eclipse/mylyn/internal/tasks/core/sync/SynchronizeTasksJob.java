@@ -20,10 +20,17 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
@@ -35,6 +42,8 @@ import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants.MutexSchedulingRule;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Counter;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Timer;
 import org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector;
 import org.eclipse.mylyn.tasks.core.IRepositoryManager;
 import org.eclipse.mylyn.tasks.core.IRepositoryModel;
@@ -49,6 +58,8 @@ import org.eclipse.mylyn.tasks.core.data.TaskRelation;
 import org.eclipse.mylyn.tasks.core.sync.SynchronizationJob;
 import org.eclipse.osgi.util.NLS;
 
+import com.google.common.collect.Lists;
+
 /**
  * @author Mik Kersten
  * @author Rob Elves
@@ -56,6 +67,158 @@ import org.eclipse.osgi.util.NLS;
  */
 public class SynchronizeTasksJob extends SynchronizationJob {
 
+	/**
+	 * The result of retrieving a single task or the completion of a batch when processing tasks concurrently.
+	 */
+	private static class TaskDataResult {
+
+		static final TaskDataResult BATCH_DONE = new TaskDataResult(null, null, null);
+
+		private final ITask task;
+
+		private final TaskData taskData;
+
+		private final IStatus status;
+
+		TaskDataResult(ITask task, TaskData taskData, IStatus status) {
+			this.task = task;
+			this.taskData = taskData;
+			this.status = status;
+		}
+
+	}
+
+	/**
+	 * Retrieves a batch of tasks and passes the results to the job thread which persists them.
+	 */
+	private class TaskDataFetcher implements Runnable {
+
+		private final List<ITask> batch;
+
+		private final Semaphore permits;
+
+		private final BlockingQueue<TaskDataResult> results;
+
+		private final IProgressMonitor monitor;
+
+		public TaskDataFetcher(List<ITask> batch, Semaphore permits, BlockingQueue<TaskDataResult> results,
+				IProgressMonitor monitor) {
+			this.batch = batch;
+			this.permits = permits;
+			this.results = results;
+			this.monitor = monitor;
+		}
+
+		public void run() {
+			try {
+				permits.acquire();
+				try {
+					if (monitor.isCanceled()) {
+						return;
+					}
+					if (canGetMultiTaskData(taskRepository)) {
+						fetchMultiTaskData();
+					} else {
+						fetchTaskData();
+					}
+				} finally {
+					permits.release();
+				}
+			} catch (InterruptedException e) {
+				// canceled
+			} finally {
+				try {
+					results.put(TaskDataResult.BATCH_DONE);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private void fetchMultiTaskData() throws InterruptedException {
+			final Map<String, ITask> idToTask = new HashMap<String, ITask>();
+			for (ITask task : batch) {
+				idToTask.put(task.getTaskId(), task);
+			}
+			final InterruptedException[] interrupted = new InterruptedException[1];
+			TaskDataCollector collector = new TaskDataCollector() {
+				@Override
+				public void accept(TaskData taskData) {
+					ITask task = idToTask.remove(taskData.getTaskId());
+					if (task != null) {
+						put(new TaskDataResult(task, taskData, null));
+					}
+				}
+
+				@Override
+				public void failed(String taskId, IStatus status) {
+					ITask task = idToTask.remove(taskId);
+					if (task != null) {
+						put(new TaskDataResult(task, null, status));
+					}
+				}
+
+				private void put(TaskDataResult result) {
+					try {
+						results.put(result);
+					} catch (InterruptedException e) {
+						interrupted[0] = e;
+						throw new OperationCanceledException();
+					}
+				}
+			};
+			Set<String> taskIds = Collections.unmodifiableSet(new HashSet<String>(idToTask.keySet()));
+			long startTime = SynchronizationMetrics.start();
+			try {
+				connector.getTaskDataHandler().getMultiTaskData(taskRepository, taskIds, collector, monitor);
+			} catch (OperationCanceledException e) {
+				if (interrupted[0] != null) {
+					throw interrupted[0];
+				}
+			} catch (CoreException e) {
+				for (ITask task : idToTask.values()) {
+					results.put(new TaskDataResult(task, null, e.getStatus()));
+				}
+			} catch (RuntimeException e) {
+				IStatus status = new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN, "Synchronization failed", e); //$NON-NLS-1$
+				for (ITask task : idToTask.values()) {
+					results.put(new TaskDataResult(task, null, status));
+				}
+			} finally {
+				getMetrics().record(taskRepository, Timer.TASK_RETRIEVAL, startTime);
+			}
+		}
+
+		private void fetchTaskData() throws InterruptedException {
+			for (ITask task : batch) {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				long startTime = SynchronizationMetrics.start();
+				try {
+					TaskData taskData = connector.getTaskData(taskRepository, task.getTaskId(), monitor);
+					if (taskData != null) {
+						results.put(new TaskDataResult(task, taskData, null));
+					} else {
+						results.put(new TaskDataResult(task, null, new Status(IStatus.ERROR,
+								ITasksCoreConstants.ID_PLUGIN, "Connector failed to return task data for task \"" //$NON-NLS-1$
+										+ task + "\""))); //$NON-NLS-1$
+					}
+				} catch (CoreException e) {
+					results.put(new TaskDataResult(task, null, e.getStatus()));
+				} catch (OperationCanceledException e) {
+					return;
+				} catch (RuntimeException e) {
+					results.put(new TaskDataResult(task, null, new Status(IStatus.ERROR,
+							ITasksCoreConstants.ID_PLUGIN, "Synchronization failed", e))); //$NON-NLS-1$
+				} finally {
+					getMetrics().record(taskRepository, Timer.TASK_RETRIEVAL, startTime);
+				}
+			}
+		}
+
+	}
+
 	private final AbstractRepositoryConnector connector;
 
 	private final TaskDataManager taskDataManager;
@@ -199,7 +362,14 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 		}
 		try {
 			monitor.beginTask(Messages.SynchronizeTasksJob_Processing, tasks.size() * 100);
-			if (canGetMultiTaskData(taskRepository)) {
+			int maxConcurrentRequests = RepositoryPermits.getMaxConcurrentRequests(taskRepository);
+			if (maxConcurrentRequests > 1 && tasks.size() > 1) {
+				for (ITask task : tasks) {
+					resetStatus(task);
+				}
+				synchronizeTasksConcurrently(new SubProgressMonitor(monitor, tasks.size() * 100), taskRepository,
+						tasks, maxConcurrentRequests);
+			} else if (canGetMultiTaskData(taskRepository)) {
 				try {
 					for (ITask task : tasks) {
 						resetStatus(task);
@@ -242,7 +412,7 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 			monitor = Policy.backgroundMonitorFor(monitor);
 		}
 		String taskId = task.getTaskId();
-		TaskData taskData = connector.getTaskData(taskRepository, taskId, monitor);
+		TaskData taskData = getTaskData(taskId, monitor);
 		if (taskData != null) {
 			updateFromTaskData(taskRepository, task, taskData, monitor);
 			return;
@@ -257,7 +427,7 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 			monitor = Policy.backgroundMonitorFor(monitor);
 		}
 
-		TaskData taskData = connector.getTaskData(taskRepository, taskId, monitor);
+		TaskData taskData = getTaskData(taskId, monitor);
 		if (taskData != null) {
 			return createFromTaskData(taskRepository, taskId, taskData, monitor);
 		}
@@ -266,6 +436,15 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 				"Connector failed to return task data for task \"" + taskId + "\"")); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	private TaskData getTaskData(String taskId, IProgressMonitor monitor) throws CoreException {
+		long startTime = SynchronizationMetrics.start();
+		try {
+			return connector.getTaskData(taskRepository, taskId, monitor);
+		} finally {
+			getMetrics().record(taskRepository, Timer.TASK_RETRIEVAL, startTime);
+		}
+	}
+
 	private void resetStatus(ITask task) {
 		if (((AbstractTask) task).getStatus() != null) {
 			((AbstractTask) task).setStatus(null);
@@ -302,13 +481,68 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 		};
 
 		Set<String> taskIds = Collections.unmodifiableSet(new HashSet<String>(idToTask.keySet()));
-		connector.getTaskDataHandler().getMultiTaskData(repository, taskIds, collector, monitor);
+		long startTime = SynchronizationMetrics.start();
+		try {
+			connector.getTaskDataHandler().getMultiTaskData(repository, taskIds, collector, monitor);
+		} finally {
+			getMetrics().record(repository, Timer.TASK_RETRIEVAL, startTime);
+		}
+	}
+
+	/**
+	 * Retrieves tasks in batches using up to <code>maxConcurrentRequests</code> concurrent requests. Retrieved task
+	 * data is persisted on the job thread while further batches are received.
+	 */
+	private void synchronizeTasksConcurrently(final IProgressMonitor monitor, final TaskRepository repository,
+			Set<ITask> tasks, int maxConcurrentRequests) {
+		monitor.beginTask(MessageFormat.format(Messages.SynchronizeTasksJob_Receiving_X_tasks_from_X, tasks.size(),
+				repository.getRepositoryLabel()), tasks.size() * 100);
+		int batchSize = RepositoryPermits.getBatchSize(repository);
+		List<List<ITask>> batches = Lists.partition(new ArrayList<ITask>(tasks), batchSize);
+		Semaphore permits = RepositoryPermits.getSemaphore(repository, maxConcurrentRequests);
+		// bound memory consumption in case persisting is slower than receiving task data
+		BlockingQueue<TaskDataResult> results = new ArrayBlockingQueue<TaskDataResult>(batchSize
+				* maxConcurrentRequests);
+		IProgressMonitor fetchMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrentRequests, batches.size()));
+		try {
+			for (List<ITask> batch : batches) {
+				executor.execute(new TaskDataFetcher(batch, permits, results, fetchMonitor));
+			}
+			int pendingBatches = batches.size();
+			while (pendingBatches > 0) {
+				Policy.checkCanceled(monitor);
+				TaskDataResult result = results.poll(1, TimeUnit.SECONDS);
+				if (result == null) {
+					continue;
+				}
+				if (result == TaskDataResult.BATCH_DONE) {
+					pendingBatches--;
+				} else if (result.taskData != null) {
+					updateFromTaskData(repository, result.task, result.taskData, monitor);
+					monitor.worked(100);
+				} else {
+					updateStatus(repository, result.task, result.status);
+					monitor.worked(100);
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} finally {
+			executor.shutdownNow();
+			monitor.done();
+		}
 	}
 
 	private void updateFromTaskData(TaskRepository taskRepository, ITask task, TaskData taskData,
 			IProgressMonitor monitor) {
+		getMetrics().increment(taskRepository, Counter.TASKS_RETRIEVED);
 		try {
-
 			taskDataManager.putUpdatedTaskData(task, taskData, isUser(), getSession(), monitor);
 			if (updateRelations) {
 				Collection<TaskRelation> relations = connector.getTaskRelations(taskData);
@@ -325,11 +559,13 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 			IProgressMonitor monitor) throws CoreException {
 		ITask task = tasksModel.createTask(taskRepository, taskData.getTaskId());
 		((AbstractTask) task).setSynchronizationState(SynchronizationState.INCOMING_NEW);
+		getMetrics().increment(taskRepository, Counter.TASKS_RETRIEVED);
 		taskDataManager.putUpdatedTaskData(task, taskData, isUser(), getSession(), monitor);
 		return task;
 	}
 
 	private void updateStatus(TaskRepository repository, ITask task, IStatus status) {
+		getMetrics().increment(repository, Counter.FAILURES);
 		statuses.add(status);
 		((AbstractTask) task).setStatus(status);
 		if (!isUser()) {
@@ -338,6 +574,10 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 		taskList.notifyElementChanged(task);
 	}
 
+	private SynchronizationMetrics getMetrics() {
+		return taskDataManager.getSynchronizationMetrics();
+	}
+
 	public SynchronizationSession getSession() {
 		return session;
 	}
@@ -23,11 +23,21 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -47,6 +57,7 @@ import org.apache.lucene.queryParser.QueryParser;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldCache;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
@@ -57,6 +68,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.LockObtainFailedException;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.ReaderUtil;
 import org.apache.lucene.util.Version;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -64,6 +76,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -240,25 +253,74 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 	private final Map<ITask, TaskData> reindexQueue = new HashMap<ITask, TaskData>();
 
 	/**
-	 * do not access directly, instead use {@link #getIndexReader()}. 'this' must be synchronized before accessing or
-	 * modifying
+	 * do not access directly, instead use {@link #acquireIndexReader()}. Searches hold a reference to the reader for
+	 * their duration such that the reader can be replaced while searches are in progress. 'this' must be synchronized
+	 * before accessing or modifying
 	 */
 	private IndexReader indexReader;
 
+	/**
+	 * Provides the task identifiers of documents by document number. The identifier field is indexed as a single term
+	 * which allows the field cache to load identifiers from the term index rather than reading stored documents.
+	 * Identifiers are loaded per segment since Lucene caches them for the lifetime of the segment: a near-real-time
+	 * reader only loads the identifiers of segments that were added since the previous reader.
+	 */
+	private static class TaskIdentifiers {
+
+		private final int[] docStarts;
+
+		private final String[][] identifiers;
+
+		public TaskIdentifiers(IndexReader indexReader) throws IOException {
+			List<IndexReader> subReaders = new ArrayList<IndexReader>();
+			ReaderUtil.gatherSubReaders(subReaders, indexReader);
+			docStarts = new int[subReaders.size()];
+			identifiers = new String[subReaders.size()][];
+			int docStart = 0;
+			for (int i = 0; i < subReaders.size(); i++) {
+				IndexReader subReader = subReaders.get(i);
+				docStarts[i] = docStart;
+				identifiers[i] = FieldCache.DEFAULT.getStrings(subReader, FIELD_IDENTIFIER.getIndexKey());
+				docStart += subReader.maxDoc();
+			}
+		}
+
+		public String get(int doc) {
+			int i = ReaderUtil.subIndex(doc, docStarts);
+			return identifiers[i][doc - docStarts[i]];
+		}
+
+	}
+
+	/**
+	 * the writer that is kept open between index maintenance passes, only used by the index maintenance job. 'this'
+	 * must be synchronized before accessing or modifying
+	 */
+	private IndexWriter indexWriter;
+
 	/**
 	 * indicate the need to rebuild the whole index
 	 */
 	private volatile boolean rebuildIndex = false;
 
 	/**
-	 * 'this' must be synchronized before accessing or modifying
+	 * the maximum number of pattern strings for which {@link #matches(ITask, String)} caches results
 	 */
-	private String lastPatternString;
+	private static final int MAX_CACHED_MATCH_RESULTS = 16;
 
 	/**
-	 * 'this' must be synchronized before accessing or modifying
+	 * maps pattern strings to the identifiers of matching tasks for the current {@link #indexReader}, cleared when the
+	 * reader is replaced. 'this' must be synchronized before accessing or modifying
 	 */
-	private Set<String> lastResults;
+	private final Map<String, Set<String>> matchResults = new LinkedHashMap<String, Set<String>>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+			return size() > MAX_CACHED_MATCH_RESULTS;
+		}
+	};
 
 	private AbstractTaskSchema.Field defaultField = FIELD_SUMMARY;
 
@@ -274,9 +336,12 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 
 	private int maxMatchSearchHits = 1500;
 
+	private int rebuildThreadCount = Math.max(1, Integer.getInteger(TasksIndexCore.PROPERTY_REBUILD_THREADS,
+			Runtime.getRuntime().availableProcessors()));
+
 	/**
 	 * must hold this lock as a read lock when accessing the index, and must hold this lock as a write lock when closing
-	 * or reassigning {@link #indexReader}.
+	 * or reassigning {@link #directory}.
 	 */
 	private final ReadWriteLock indexReaderLock = new ReentrantReadWriteLock(true);
 
@@ -421,14 +486,8 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		writeLock.lock();
 		try {
 			synchronized (this) {
-				if (indexReader != null) {
-					try {
-						indexReader.close();
-					} catch (IOException e) {
-						// ignore
-					}
-					indexReader = null;
-				}
+				closeIndexWriter();
+				releaseIndexReader();
 
 				if (indexLocation.exists() && indexLocation.isDirectory()) {
 					if (directory != null) {
@@ -472,7 +531,7 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		Assert.isTrue(indexedFields.contains(defaultField));
 		this.defaultField = defaultField;
 		synchronized (this) {
-			lastResults = null;
+			matchResults.clear();
 		}
 	}
 
@@ -495,6 +554,28 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 	 */
 	public void setMaxMatchSearchHits(int maxMatchSearchHits) {
 		this.maxMatchSearchHits = maxMatchSearchHits;
+		synchronized (this) {
+			matchResults.clear();
+		}
+	}
+
+	/**
+	 * the number of threads that load task data and create documents when the index is rebuilt completely
+	 */
+	public int getRebuildThreadCount() {
+		return rebuildThreadCount;
+	}
+
+	/**
+	 * the number of threads that load task data and create documents when the index is rebuilt completely
+	 *
+	 * @param rebuildThreadCount
+	 *            the number of threads, specify 1 to rebuild the index on the index maintenance thread
+	 * @see TasksIndexCore#PROPERTY_REBUILD_THREADS
+	 */
+	public void setRebuildThreadCount(int rebuildThreadCount) {
+		Assert.isTrue(rebuildThreadCount > 0);
+		this.rebuildThreadCount = rebuildThreadCount;
 	}
 
 	private void initialize() {
@@ -553,8 +634,8 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 	 * Indicates if the given task matches the given pattern string. Uses the backing index to detect a match by looking
 	 * for tasks that match the given pattern string. The results of the search are cached such that future calls to
 	 * this method using the same pattern string do not require use of the backing index, making this method very
-	 * efficient for multiple calls with the same pattern string. Cached results for a given pattern string are
-	 * discarded if this method is called with a different pattern string.
+	 * efficient for multiple calls with the same pattern string. Results are cached for the most recently used pattern
+	 * strings and discarded when the index changes.
 	 *
 	 * @param task
 	 *            the task to match
@@ -569,50 +650,46 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		readLock.lock();
 		try {
 
-			IndexReader indexReader = getIndexReader();
+			IndexReader indexReader = acquireIndexReader();
 			if (indexReader != null) {
-				Set<String> hits;
-
-				final boolean needIndexHit;
-				synchronized (this) {
-					needIndexHit = lastResults == null
-							|| (lastPatternString == null || !lastPatternString.equals(patternString));
-				}
-				if (needIndexHit) {
-					this.lastPatternString = patternString;
-
-					hits = new HashSet<String>();
+				try {
+					Set<String> hits;
+					synchronized (this) {
+						hits = matchResults.get(patternString);
+					}
+					if (hits == null) {
+						hits = new HashSet<String>();
 
-					IndexSearcher indexSearcher = new IndexSearcher(indexReader);
-					try {
-						Query query = computeQuery(patternString);
-						TopDocs results = indexSearcher.search(query, maxMatchSearchHits);
-						for (ScoreDoc scoreDoc : results.scoreDocs) {
-							Document document = indexReader.document(scoreDoc.doc);
-							hits.add(document.get(FIELD_IDENTIFIER.getIndexKey()));
-						}
-					} catch (IOException e) {
-						StatusHandler.log(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
-								"Unexpected failure within task list index", e)); //$NON-NLS-1$
-					} finally {
+						IndexSearcher indexSearcher = new IndexSearcher(indexReader);
 						try {
-							indexSearcher.close();
+							Query query = computeQuery(patternString);
+							TopDocs results = indexSearcher.search(query, maxMatchSearchHits);
+							TaskIdentifiers identifiers = new TaskIdentifiers(indexReader);
+							for (ScoreDoc scoreDoc : results.scoreDocs) {
+								hits.add(identifiers.get(scoreDoc.doc));
+							}
 						} catch (IOException e) {
-							// ignore
+							StatusHandler.log(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
+									"Unexpected failure within task list index", e)); //$NON-NLS-1$
+						} finally {
+							try {
+								indexSearcher.close();
+							} catch (IOException e) {
+								// ignore
+							}
 						}
-					}
 
-				} else {
-					hits = lastResults;
-				}
-				synchronized (this) {
-					if (this.indexReader == indexReader) {
-						this.lastPatternString = patternString;
-						this.lastResults = hits;
+						synchronized (this) {
+							if (this.indexReader == indexReader) {
+								matchResults.put(patternString, hits);
+							}
+						}
 					}
+					String taskIdentifier = task.getHandleIdentifier();
+					return hits != null && hits.contains(taskIdentifier);
+				} finally {
+					decRef(indexReader);
 				}
-				String taskIdentifier = task.getHandleIdentifier();
-				return hits != null && hits.contains(taskIdentifier);
 			}
 
 		} finally {
@@ -660,16 +737,15 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		Lock readLock = indexReaderLock.readLock();
 		readLock.lock();
 		try {
-			IndexReader indexReader = getIndexReader();
+			IndexReader indexReader = acquireIndexReader();
 			if (indexReader != null) {
 				IndexSearcher indexSearcher = new IndexSearcher(indexReader);
 				try {
 					Query query = computeQuery(patternString);
 					TopDocs results = indexSearcher.search(query, resultsLimit);
+					TaskIdentifiers identifiers = new TaskIdentifiers(indexReader);
 					for (ScoreDoc scoreDoc : results.scoreDocs) {
-						Document document = indexReader.document(scoreDoc.doc);
-						String taskIdentifier = document.get(FIELD_IDENTIFIER.getIndexKey());
-						AbstractTask task = taskList.getTask(taskIdentifier);
+						AbstractTask task = taskList.getTask(identifiers.get(scoreDoc.doc));
 						if (task != null) {
 							collector.collect(task);
 						}
@@ -683,6 +759,7 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 					} catch (IOException e) {
 						// ignore
 					}
+					decRef(indexReader);
 				}
 			}
 		} finally {
@@ -748,14 +825,8 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		writeLock.lock();
 		try {
 			synchronized (this) {
-				if (indexReader != null) {
-					try {
-						indexReader.close();
-					} catch (IOException e) {
-						// ignore
-					}
-					indexReader = null;
-				}
+				closeIndexWriter();
+				releaseIndexReader();
 			}
 			if (directory != null) {
 				try {
@@ -770,12 +841,36 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		}
 	}
 
+	/**
+	 * Returns the current reader with an additional reference that must be released by calling
+	 * {@link #decRef(IndexReader)} when the search is complete.
+	 */
+	private IndexReader acquireIndexReader() {
+		synchronized (this) {
+			IndexReader reader = getIndexReader();
+			if (reader != null) {
+				reader.incRef();
+			}
+			return reader;
+		}
+	}
+
+	private void decRef(IndexReader reader) {
+		try {
+			reader.decRef();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
 	private IndexReader getIndexReader() {
 		try {
 			synchronized (this) {
 				if (indexReader == null) {
-					indexReader = IndexReader.open(directory, true);
-					lastResults = null;
+					indexReader = (indexWriter != null)
+							? IndexReader.open(indexWriter, true)
+							: IndexReader.open(directory, true);
+					matchResults.clear();
 				}
 				return indexReader;
 			}
@@ -1072,7 +1167,7 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		SubMonitor monitor = SubMonitor.convert(m, 2 * WORK_PER_SEGMENT);
 		try {
 			try {
-				if (!rebuildIndex) {
+				if (!rebuildIndex && !hasIndexWriter()) {
 					try {
 						IndexReader reader = IndexReader.open(directory, false);
 						reader.close();
@@ -1097,8 +1192,8 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 				// index any tasks that have been changed
 				indexQueuedTasks(monitor.newChild(WORK_PER_SEGMENT));
 
-				// prevent new searches from reading the now-stale index
-				closeIndexReader();
+				// make changes visible to new searches, searches in progress continue on the previous reader
+				refreshIndexReader();
 			} catch (IOException e) {
 				throw new CoreException(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
 						"Unexpected exception: " + e.getMessage(), e)); //$NON-NLS-1$
@@ -1108,18 +1203,79 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		}
 	}
 
-	private void closeIndexReader() throws IOException {
-		Lock writeLock = indexReaderLock.writeLock();
-		writeLock.lock();
-		try {
-			synchronized (this) {
-				if (indexReader != null) {
-					indexReader.close();
-					indexReader = null;
-				}
+	/**
+	 * Replaces the current reader with a near-real-time reader from the index writer if the index has changed.
+	 * Unchanged segments are shared with the previous reader, which is closed once the last search that uses it has
+	 * completed.
+	 */
+	private void refreshIndexReader() throws IOException {
+		IndexWriter writer;
+		IndexReader oldReader;
+		synchronized (this) {
+			writer = indexWriter;
+			oldReader = indexReader;
+			if (writer == null || oldReader == null) {
+				// the next search opens a new reader
+				return;
 			}
+			oldReader.incRef();
+		}
+		IndexReader newReader;
+		try {
+			newReader = IndexReader.openIfChanged(oldReader, writer, true);
 		} finally {
-			writeLock.unlock();
+			decRef(oldReader);
+		}
+		if (newReader == null) {
+			return;
+		}
+		synchronized (this) {
+			if (indexWriter == writer && indexReader == oldReader) {
+				releaseIndexReader();
+				indexReader = newReader;
+				return;
+			}
+		}
+		// the writer was closed or the reader was replaced concurrently
+		newReader.close();
+	}
+
+	/**
+	 * Releases the reference of the index to the current reader, searches in progress continue to use the reader.
+	 * 'this' must be synchronized.
+	 */
+	private void releaseIndexReader() {
+		if (indexReader != null) {
+			decRef(indexReader);
+			indexReader = null;
+		}
+		matchResults.clear();
+	}
+
+	private synchronized boolean hasIndexWriter() {
+		return indexWriter != null;
+	}
+
+	private synchronized IndexWriter getIndexWriter()
+			throws CorruptIndexException, LockObtainFailedException, IOException {
+		if (indexWriter == null) {
+			indexWriter = createIndexWriter(false);
+		}
+		return indexWriter;
+	}
+
+	/**
+	 * 'this' must be synchronized.
+	 */
+	private void closeIndexWriter() {
+		if (indexWriter != null) {
+			try {
+				indexWriter.close();
+			} catch (IOException e) {
+				StatusHandler.log(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
+						"Cannot close index writer: " + e.getMessage(), e)); //$NON-NLS-1$
+			}
+			indexWriter = null;
 		}
 	}
 
@@ -1155,7 +1311,7 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 
 					if (writer == null) {
 						try {
-							writer = createIndexWriter(false);
+							writer = getIndexWriter();
 						} catch (CorruptIndexException e) {
 							rebuildIndex = true;
 							synchronized (reindexQueue) {
@@ -1181,7 +1337,7 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 				}
 			} finally {
 				if (writer != null) {
-					writer.close();
+					writer.commit();
 				}
 			}
 		} finally {
@@ -1216,6 +1372,10 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 
 		monitor.beginTask(Messages.TaskListIndex_task_rebuilding_index, taskListState.indexableTasks.size());
 		try {
+			// searches continue on the current reader until the new index is complete
+			synchronized (this) {
+				closeIndexWriter();
+			}
 			IndexWriter writer;
 			try {
 				writer = createIndexWriter(true);
@@ -1228,24 +1388,23 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 				}
 			}
 			try {
-
-				for (ITask task : taskListState.indexableTasks) {
-					if (taskIsIndexable(task, null)) {
-						try {
-							TaskData taskData = dataManager.getTaskData(task);
-							add(writer, task, taskData);
-						} catch (CoreException e) {
-							// an individual task data error should not prevent the index from updating
-							multiStatus.add(e.getStatus());
-						}
+				int threadCount = Math.min(rebuildThreadCount, taskListState.indexableTasks.size());
+				if (threadCount > 1) {
+					addInParallel(writer, taskListState.indexableTasks, threadCount, monitor, multiStatus);
+				} else {
+					for (ITask task : taskListState.indexableTasks) {
+						addTask(writer, task, multiStatus);
+						monitor.worked(1);
 					}
-					monitor.worked(1);
 				}
 				synchronized (this) {
 					rebuildIndex = false;
 				}
 			} finally {
-				writer.close();
+				synchronized (this) {
+					indexWriter = writer;
+				}
+				writer.commit();
 			}
 		} finally {
 			monitor.done();
@@ -1253,6 +1412,86 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		return multiStatus;
 	}
 
+	private void addTask(IndexWriter writer, ITask task, MultiStatus multiStatus)
+			throws CorruptIndexException, IOException {
+		if (taskIsIndexable(task, null)) {
+			try {
+				TaskData taskData = dataManager.getTaskData(task);
+				add(writer, task, taskData);
+			} catch (CoreException e) {
+				// an individual task data error should not prevent the index from updating
+				synchronized (multiStatus) {
+					multiStatus.add(e.getStatus());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Loads task data and adds documents for <code>tasks</code> on a pool of worker threads that share
+	 * <code>writer</code>. Each worker holds the task data of a single task at a time and the writer flushes buffered
+	 * documents to the directory as needed, which bounds memory consumption independent of the number of tasks.
+	 * Progress is reported on the calling thread since monitors are not thread safe.
+	 */
+	private void addInParallel(final IndexWriter writer, final List<ITask> tasks, int threadCount,
+			SubMonitor monitor, final MultiStatus multiStatus) throws CorruptIndexException, IOException {
+		final AtomicInteger nextTask = new AtomicInteger();
+		final AtomicInteger completedTasks = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "Task List Index Rebuild"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<Future<?>>(threadCount);
+			for (int i = 0; i < threadCount; i++) {
+				futures.add(executor.submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						for (int index = nextTask.getAndIncrement(); index < tasks.size(); index = nextTask
+								.getAndIncrement()) {
+							addTask(writer, tasks.get(index), multiStatus);
+							completedTasks.incrementAndGet();
+						}
+						return null;
+					}
+				}));
+			}
+
+			int reportedTasks = 0;
+			for (Future<?> future : futures) {
+				for (;;) {
+					try {
+						future.get(100, TimeUnit.MILLISECONDS);
+						break;
+					} catch (TimeoutException e) {
+						// report progress
+					} finally {
+						int completed = completedTasks.get();
+						monitor.worked(completed - reportedTasks);
+						reportedTasks = completed;
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private void cleanDirectory(File file) throws IOException {
 		if (file.exists()) {
 			File[] children = file.listFiles();
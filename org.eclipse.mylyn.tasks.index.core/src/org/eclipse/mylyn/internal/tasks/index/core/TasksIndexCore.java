@@ -19,4 +19,10 @@ public class TasksIndexCore {
 	 */
 	public static final String ID_PLUGIN = "org.eclipse.mylyn.tasks.index.core"; //$NON-NLS-1$
 
+	/**
+	 * System property that specifies the number of threads used to rebuild the task list index. Defaults to the number
+	 * of available processors.
+	 */
+	public static final String PROPERTY_REBUILD_THREADS = "org.eclipse.mylyn.tasks.index.rebuildThreads"; //$NON-NLS-1$
+
 }
@@ -22,6 +22,7 @@ import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -296,6 +297,44 @@ public class TaskListIndexTest extends AbstractTaskListIndexTest {
 		assertFalse(index.matches(task, "one AND four"));
 	}
 
+	@Test
+	public void testMatchesMultiplePatternsAfterTaskChanged() throws InterruptedException {
+		setupIndex();
+
+		ITask task1 = context.createLocalTask();
+		task1.setSummary("alpha beta");
+		ITask task2 = context.createLocalTask();
+		task2.setSummary("beta gamma");
+
+		context.getTaskList().notifyElementsChanged(new HashSet<ITask>(Arrays.asList(task1, task2)));
+
+		index.waitUntilIdle();
+
+		index.setDefaultField(FIELD_SUMMARY);
+
+		// alternate between patterns, results for each pattern are cached
+		for (int i = 0; i < 2; i++) {
+			assertTrue(index.matches(task1, "alpha"));
+			assertFalse(index.matches(task2, "alpha"));
+			assertTrue(index.matches(task1, "beta"));
+			assertTrue(index.matches(task2, "beta"));
+			assertFalse(index.matches(task1, "gamma"));
+			assertTrue(index.matches(task2, "gamma"));
+		}
+
+		task1.setSummary("gamma delta");
+		context.getTaskList().notifyElementsChanged(Collections.singleton(task1));
+
+		index.waitUntilIdle();
+
+		// cached results are discarded when the index changes
+		assertFalse(index.matches(task1, "alpha"));
+		assertFalse(index.matches(task1, "beta"));
+		assertTrue(index.matches(task2, "beta"));
+		assertTrue(index.matches(task1, "gamma"));
+		assertTrue(index.matches(task2, "gamma"));
+	}
+
 	@Test
 	public void testCharacterEscaping() {
 		setupIndex();
@@ -396,6 +435,73 @@ public class TaskListIndexTest extends AbstractTaskListIndexTest {
 		}
 	}
 
+	@Test
+	public void testRebuildIndexInParallel() throws InterruptedException {
+		setupIndex();
+		index.setRebuildThreadCount(4);
+
+		Set<ITask> tasks = new HashSet<ITask>();
+		for (int i = 0; i < 20; i++) {
+			ITask task = context.createLocalTask();
+			task.setSummary("rebuild " + i);
+			tasks.add(task);
+		}
+		context.getTaskList().notifyElementsChanged(tasks);
+
+		index.waitUntilIdle();
+
+		index.reindex();
+		index.waitUntilIdle();
+
+		index.setDefaultField(FIELD_SUMMARY);
+
+		TestTaskCollector collector = new TestTaskCollector();
+		index.find("rebuild", collector, 100);
+		assertEquals(tasks, new HashSet<ITask>(collector.getTasks()));
+	}
+
+	/**
+	 * Verify that the index can be updated while a search is in progress and that the search in progress is not
+	 * affected by the update.
+	 */
+	@Test
+	public void testUpdateIndexDuringFind() throws InterruptedException {
+		setupIndex();
+
+		final ITask task1 = context.createLocalTask();
+		task1.setSummary("alpha one");
+		final ITask task2 = context.createLocalTask();
+		task2.setSummary("alpha two");
+
+		context.getTaskList().notifyElementsChanged(new HashSet<ITask>(Arrays.asList(task1, task2)));
+
+		index.waitUntilIdle();
+		index.setDefaultField(FIELD_SUMMARY);
+
+		final List<ITask> hits = new ArrayList<ITask>();
+		index.find("alpha", new TaskCollector() {
+
+			@Override
+			public void collect(ITask task) {
+				if (hits.isEmpty()) {
+					task1.setSummary("beta one");
+					context.getTaskList().notifyElementsChanged(Collections.singleton(task1));
+					try {
+						index.waitUntilIdle();
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+					assertTrue(index.matches(task1, "beta"));
+				}
+				hits.add(task);
+			}
+		}, 100);
+
+		assertEquals(2, hits.size());
+		assertFalse(index.matches(task1, "alpha"));
+		assertTrue(index.matches(task2, "alpha"));
+	}
+
 	@Test
 	public void testRepositoryUrlChanged() throws InterruptedException, CoreException {
 		setupIndex();
@@ -13,17 +13,14 @@ package org.eclipse.mylyn.internal.tasks.index.ui;
 
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.regex.Pattern;
 
 import org.eclipse.jface.fieldassist.IContentProposal;
 import org.eclipse.jface.fieldassist.IContentProposalProvider;
-import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
+import org.eclipse.mylyn.internal.tasks.core.PeopleDirectory;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.index.core.TaskListIndex;
 import org.eclipse.mylyn.tasks.core.data.AbstractTaskSchema;
@@ -44,10 +41,18 @@ public class ContentProposalProvider implements IContentProposalProvider {
 
 	private final AbstractIndexReference reference;
 
-	private final TaskList taskList;
+	private final PeopleDirectory peopleDirectory;
 
+	/**
+	 * Creates a provider that proposes the people of <code>taskList</code>. The people are collected from the task
+	 * list when they are first needed and are not updated afterwards.
+	 */
 	public ContentProposalProvider(TaskList taskList, AbstractIndexReference reference) {
-		this.taskList = taskList;
+		this(new PeopleDirectory(taskList), reference);
+	}
+
+	public ContentProposalProvider(PeopleDirectory peopleDirectory, AbstractIndexReference reference) {
+		this.peopleDirectory = peopleDirectory;
 		this.reference = reference;
 	}
 
@@ -192,30 +197,14 @@ public class ContentProposalProvider implements IContentProposalProvider {
 	}
 
 	public void computePersonProposals(List<IContentProposal> proposals, ProposalContentState contentState) {
-		Set<String> addresses = new TreeSet<String>();
-
-		Collection<AbstractTask> allTasks = taskList.getAllTasks();
-		for (AbstractTask task : allTasks) {
-			addAddresses(addresses, task);
-		}
-
-		for (String address : addresses) {
-			if (address.startsWith(contentState.prefix)) {
-				String proposalContent = address;
-				proposalContent = PATTERN_SPECIAL_CHARACTERS.matcher(proposalContent).replaceAll("\\\\$1"); //$NON-NLS-1$
-				if (PATTERN_WHITESPACE.matcher(proposalContent).find()) {
-					proposalContent = "\"" + proposalContent + "\""; //$NON-NLS-1$//$NON-NLS-2$
-				}
-				proposals.add(new ContentProposal(contentState.beforePrefixContent + proposalContent,
-						contentState.suffix, address, null));
+		for (String address : peopleDirectory.getPeople(contentState.prefix)) {
+			String proposalContent = address;
+			proposalContent = PATTERN_SPECIAL_CHARACTERS.matcher(proposalContent).replaceAll("\\\\$1"); //$NON-NLS-1$
+			if (PATTERN_WHITESPACE.matcher(proposalContent).find()) {
+				proposalContent = "\"" + proposalContent + "\""; //$NON-NLS-1$//$NON-NLS-2$
 			}
-		}
-	}
-
-	private void addAddresses(Set<String> addresses, AbstractTask task) {
-		String name = task.getOwner();
-		if (name != null && name.trim().length() > 0) {
-			addresses.add(name.trim());
+			proposals.add(new ContentProposal(contentState.beforePrefixContent + proposalContent,
+					contentState.suffix, address, null));
 		}
 	}
 }
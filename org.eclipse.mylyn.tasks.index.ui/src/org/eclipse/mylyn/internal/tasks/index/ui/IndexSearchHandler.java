@@ -90,7 +90,8 @@ public class IndexSearchHandler extends AbstractSearchHandler {
 	}
 
 	private void adaptTextSearchControlInternal(Text textControl) {
-		IContentProposalProvider proposalProvider = new ContentProposalProvider(TasksUiPlugin.getTaskList(), reference);
+		IContentProposalProvider proposalProvider = new ContentProposalProvider(
+				TasksUiPlugin.getDefault().getPeopleDirectory(), reference);
 		final ContentAssistCommandAdapter adapter = new ContentAssistCommandAdapter(textControl,
 				new TextContentAdapter(), proposalProvider, null, new char[0], true);
 		adapter.setProposalAcceptanceStyle(ContentProposalAdapter.PROPOSAL_REPLACE);
@@ -20,6 +20,8 @@ import org.eclipse.mylyn.tasks.tests.core.ITasksCoreConstantsTest;
 import org.eclipse.mylyn.tasks.tests.core.PriorityLevelTest;
 import org.eclipse.mylyn.tasks.tests.core.RepositoryClientManagerTest;
 import org.eclipse.mylyn.tasks.tests.core.RepositoryConnectorContributorTest;
+import org.eclipse.mylyn.tasks.tests.core.SynchronizationMetricsTest;
+import org.eclipse.mylyn.tasks.tests.core.SynchronizeRepositoriesJobTest;
 import org.eclipse.mylyn.tasks.tests.core.SynchronizeTasksJobTest;
 import org.eclipse.mylyn.tasks.tests.core.TaskAttributeMetaDataTest;
 import org.eclipse.mylyn.tasks.tests.core.TaskInitializationDataTest;
@@ -30,6 +32,7 @@ import org.eclipse.mylyn.tasks.tests.core.TaskRepositoryTest;
 import org.eclipse.mylyn.tasks.tests.data.SynchronizationMangerTest;
 import org.eclipse.mylyn.tasks.tests.data.TaskAttributeMapperTest;
 import org.eclipse.mylyn.tasks.tests.data.TaskAttributeTest;
+import org.eclipse.mylyn.tasks.tests.data.TaskDataDiffSummaryTest;
 import org.eclipse.mylyn.tasks.tests.data.TaskDataDiffTest;
 import org.eclipse.mylyn.tasks.tests.data.TaskDataExternalizerTest;
 import org.eclipse.mylyn.tasks.tests.data.Xml11InputStreamTest;
@@ -95,6 +98,7 @@ public class AllTasksTests {
 		suite.addTestSuite(TaskRepositoryManagerTest.class);
 		suite.addTestSuite(TaskRepositoriesExternalizerTest.class);
 		suite.addTestSuite(TaskListContentProviderTest.class);
+		suite.addTestSuite(TaskListFilterEngineTest.class);
 		suite.addTestSuite(TaskListBackupManagerTest.class);
 		suite.addTestSuite(TaskListSorterTest.class);
 		suite.addTestSuite(TaskKeyComparatorTest.class);
@@ -109,6 +113,7 @@ public class AllTasksTests {
 		suite.addTestSuite(TaskDataStoreTest.class);
 		suite.addTestSuite(TaskExportImportTest.class);
 		suite.addTestSuite(PersonProposalProviderTest.class);
+		suite.addTestSuite(PeopleDirectoryTest.class);
 		suite.addTestSuite(OptionsProposalProviderTest.class);
 		suite.addTestSuite(TaskRepositoryLocationTest.class);
 		suite.addTestSuite(TaskRepositoryTest.class);
@@ -162,11 +167,14 @@ public class AllTasksTests {
 		suite.addTestSuite(RepositoryClientManagerTest.class);
 		suite.addTestSuite(AbstractRepositoryConnectorUiTest.class);
 		suite.addTestSuite(SynchronizeTasksJobTest.class);
+		suite.addTestSuite(SynchronizeRepositoriesJobTest.class);
+		suite.addTestSuite(SynchronizationMetricsTest.class);
 		suite.addTestSuite(TaskAttributeTest.class);
 		suite.addTestSuite(ScheduledTaskContainerTest.class);
 		suite.addTestSuite(RepositoryConnectorContributorTest.class);
 		suite.addTestSuite(TaskInitializationDataTest.class);
 		suite.addTestSuite(TaskDataDiffTest.class);
+		suite.addTestSuite(TaskDataDiffSummaryTest.class);
 		suite.addTestSuite(SynchronizationMangerTest.class);
 		suite.addTestSuite(TaskEditorExtensionsTest.class);
 		suite.addTestSuite(AbstractRepositoryConnectorTest.class);
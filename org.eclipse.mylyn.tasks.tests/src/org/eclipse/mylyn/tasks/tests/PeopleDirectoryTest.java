@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.tests;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.mylyn.internal.tasks.core.PeopleDirectory;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManagerEvent;
+import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.tests.connector.MockRepositoryConnector;
+import org.eclipse.mylyn.tasks.ui.TasksUi;
+
+public class PeopleDirectoryTest extends TestCase {
+
+	private TaskList taskList;
+
+	private PeopleDirectory directory;
+
+	@Override
+	protected void setUp() throws Exception {
+		taskList = new TaskList();
+		directory = new PeopleDirectory(taskList);
+		taskList.addChangeListener(directory);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		taskList.removeChangeListener(directory);
+	}
+
+	public void testOwners() {
+		TaskTask task1 = TaskTestUtil.createMockTask("1");
+		task1.setOwner("Joel User");
+		task1.setOwnerId("joel@example.com");
+		taskList.addTask(task1);
+		TaskTask task2 = TaskTestUtil.createMockTask("2");
+		task2.setOwner("jane@example.com");
+		taskList.addTask(task2);
+
+		assertEquals(Arrays.asList("jane@example.com", "joel@example.com"),
+				directory.getPeople(MockRepositoryConnector.REPOSITORY_URL, "J"));
+		assertEquals(Arrays.asList("joel@example.com"),
+				directory.getPeople(MockRepositoryConnector.REPOSITORY_URL, "jo"));
+		assertEquals(Collections.singletonMap("joel@example.com", "Joel User"),
+				directory.getNames(MockRepositoryConnector.REPOSITORY_URL));
+		assertEquals(Collections.emptyList(), directory.getPeople("http://unknown", ""));
+	}
+
+	public void testOwnerChanged() {
+		TaskTask task = TaskTestUtil.createMockTask("1");
+		task.setOwner("joel@example.com");
+		taskList.addTask(task);
+		assertEquals(Arrays.asList("joel@example.com"), directory.getPeople(""));
+
+		task.setOwner("jane@example.com");
+		taskList.notifyElementChanged(task);
+		assertEquals(Arrays.asList("jane@example.com"), directory.getPeople(""));
+
+		taskList.deleteTask(task);
+		assertEquals(Collections.emptyList(), directory.getPeople(""));
+	}
+
+	public void testTaskDataPeople() {
+		TaskTask task = TaskTestUtil.createMockTask("1");
+		task.setOwner("owner@example.com");
+		taskList.addTask(task);
+
+		TaskData taskData = new TaskData(new TaskAttributeMapper(TaskTestUtil.createMockRepository()),
+				MockRepositoryConnector.CONNECTOR_KIND, MockRepositoryConnector.REPOSITORY_URL, "1");
+		TaskAttribute reporter = taskData.getRoot().createMappedAttribute(TaskAttribute.USER_REPORTER);
+		reporter.getMetaData().setType(TaskAttribute.TYPE_PERSON);
+		reporter.setValue("reporter@example.com");
+		taskData.getRoot().createMappedAttribute(TaskAttribute.USER_CC).setValues(
+				Arrays.asList("cc1@example.com", "owner@example.com"));
+		directory.taskDataUpdated(new TaskDataManagerEvent(TasksUiPlugin.getTaskDataManager(), task, taskData, null));
+
+		assertEquals(Arrays.asList("cc1@example.com", "owner@example.com", "reporter@example.com"),
+				directory.getPeople(MockRepositoryConnector.REPOSITORY_URL, ""));
+
+		// people seen in task data remain when the owner changes
+		task.setOwner("cc1@example.com");
+		taskList.notifyElementChanged(task);
+		assertEquals(Arrays.asList("cc1@example.com", "owner@example.com", "reporter@example.com"),
+				directory.getPeople(MockRepositoryConnector.REPOSITORY_URL, ""));
+
+		taskList.deleteTask(task);
+		assertEquals(Collections.emptyList(), directory.getPeople(MockRepositoryConnector.REPOSITORY_URL, ""));
+	}
+
+	public void testPrefix() {
+		for (String owner : new String[] { "jo", "Joe", "joel", "jOhn", "jp", "j", "alice" }) {
+			TaskTask task = TaskTestUtil.createMockTask(owner);
+			task.setOwner(owner);
+			taskList.addTask(task);
+		}
+
+		assertEquals(Arrays.asList("jo", "Joe", "joel", "jOhn"), directory.getPeople("JO"));
+		assertEquals(Arrays.asList("joel"), directory.getPeople(MockRepositoryConnector.REPOSITORY_URL, "joe"));
+		assertEquals(Arrays.asList("j", "jo", "Joe", "joel", "jOhn", "jp"), directory.getPeople("j"));
+		assertEquals(Collections.emptyList(), directory.getPeople("jox"));
+	}
+
+	public void testReadStoredTaskData() throws Exception {
+		TaskRepository repository = TaskTestUtil.createMockRepository();
+		TasksUi.getRepositoryManager().addRepository(repository);
+		TaskTask task = TaskTestUtil.createMockTask("testReadStoredTaskData");
+		task.setOwner("owner@example.com");
+		taskList.addTask(task);
+		TaskData taskData = TaskTestUtil.createTaskData(repository, task.getTaskId());
+		TaskAttribute reporter = taskData.getRoot().createMappedAttribute(TaskAttribute.USER_REPORTER);
+		reporter.getMetaData().setType(TaskAttribute.TYPE_PERSON);
+		reporter.setValue("reporter@example.com");
+		taskData.getRoot().createMappedAttribute(TaskAttribute.USER_CC).setValue("cc@example.com");
+		try {
+			TasksUiPlugin.getTaskDataManager().putUpdatedTaskData(task, taskData, true);
+
+			// simulate a restart
+			directory = new PeopleDirectory(taskList, TasksUiPlugin.getTaskDataManager());
+			// owners are available immediately, the stored task data is read in the background
+			assertTrue(directory.getPeople(MockRepositoryConnector.REPOSITORY_URL, "").contains("owner@example.com"));
+			Job.getJobManager().join(directory, null);
+			assertEquals(Arrays.asList("cc@example.com", "owner@example.com", "reporter@example.com"),
+					directory.getPeople(MockRepositoryConnector.REPOSITORY_URL, ""));
+
+			directory.clear();
+			directory.getPeople("");
+			Job.getJobManager().join(directory, null);
+			assertEquals(Arrays.asList("cc@example.com", "owner@example.com", "reporter@example.com"),
+					directory.getPeople(""));
+		} finally {
+			TasksUiPlugin.getTaskDataManager().deleteTaskData(task);
+			((TaskRepositoryManager) TasksUi.getRepositoryManager()).removeRepository(repository);
+		}
+	}
+
+	public void testTaskDataUpdateNotOverwrittenByStoredTaskData() throws Exception {
+		TaskRepository repository = TaskTestUtil.createMockRepository();
+		TasksUi.getRepositoryManager().addRepository(repository);
+		TaskTask task = TaskTestUtil.createMockTask("testTaskDataUpdateNotOverwritten");
+		taskList.addTask(task);
+		TaskData storedTaskData = TaskTestUtil.createTaskData(repository, task.getTaskId());
+		storedTaskData.getRoot().createMappedAttribute(TaskAttribute.USER_CC).setValue("old@example.com");
+		try {
+			TasksUiPlugin.getTaskDataManager().putUpdatedTaskData(task, storedTaskData, true);
+			directory = new PeopleDirectory(taskList, TasksUiPlugin.getTaskDataManager());
+
+			TaskData taskData = TaskTestUtil.createTaskData(repository, task.getTaskId());
+			taskData.getRoot().createMappedAttribute(TaskAttribute.USER_CC).setValue("new@example.com");
+			synchronized (directory) {
+				directory.getPeople("");
+				// the update arrives before the job has read the stored task data
+				directory.taskDataUpdated(new TaskDataManagerEvent(TasksUiPlugin.getTaskDataManager(), task,
+						taskData, null));
+			}
+			Job.getJobManager().join(directory, null);
+			assertEquals(Arrays.asList("new@example.com"), directory.getPeople(""));
+		} finally {
+			TasksUiPlugin.getTaskDataManager().deleteTaskData(task);
+			((TaskRepositoryManager) TasksUi.getRepositoryManager()).removeRepository(repository);
+		}
+	}
+
+	public void testClear() {
+		TaskTask task = TaskTestUtil.createMockTask("1");
+		task.setOwner("joel@example.com");
+		taskList.addTask(task);
+		assertEquals(1, directory.getPeople("").size());
+
+		taskList.reset();
+		directory.clear();
+		assertEquals(0, directory.getPeople("").size());
+	}
+
+}
@@ -352,6 +352,7 @@ public class PersonProposalProviderTest extends TestCase {
 		assertEquals("Joel User", result[0].getContent());
 
 		task.setOwnerId("joel.user@mylyn.org");
+		TasksUiPlugin.getTaskList().notifyElementChanged(task);
 		provider = new PersonProposalProvider(MockRepositoryConnector.REPOSITORY_URL,
 				MockRepositoryConnector.CONNECTOR_KIND);
 		result = provider.getProposals("joel", 1);
@@ -361,6 +362,7 @@ public class PersonProposalProviderTest extends TestCase {
 
 		task.setOwnerId("");
 		task.setOwner("");
+		TasksUiPlugin.getTaskList().notifyElementChanged(task);
 		provider = new PersonProposalProvider(MockRepositoryConnector.REPOSITORY_URL,
 				MockRepositoryConnector.CONNECTOR_KIND);
 		result = provider.getProposals("joel", 1);
@@ -173,6 +173,47 @@ public class ScheduledPresentationTest extends TestCase {
 		assertFalse("Next Week".equals(results.get(mockTask).getSummary()));
 	}
 
+	public void testStateContainersUpdatedOnChange() {
+		AbstractTask task1 = new LocalTask("task 1", "Task 1");
+		TasksUiPlugin.getTaskList().addTask(task1);
+		AbstractTask completedTask = new LocalTask("task 3", "Task 3");
+		completedTask.setCompletionDate(new Date());
+		TasksUiPlugin.getTaskList().addTask(completedTask);
+
+		TaskScheduleContentProvider provider = new TaskScheduleContentProvider(TaskListView.getFromActivePerspective());
+		try {
+			ScheduledTaskContainer unscheduled = getContainer(provider, "Unscheduled");
+			ScheduledTaskContainer completed = getContainer(provider, "Completed");
+			assertTrue(unscheduled.getChildren().contains(task1));
+			assertFalse(completed.getChildren().contains(task1));
+			assertTrue(completed.getChildren().contains(completedTask));
+
+			AbstractTask task2 = new LocalTask("task 2", "Task 2");
+			TasksUiPlugin.getTaskList().addTask(task2);
+			assertTrue(unscheduled.getChildren().contains(task2));
+
+			task1.setCompletionDate(new Date());
+			TasksUiPlugin.getTaskList().notifyElementChanged(task1);
+			assertFalse(unscheduled.getChildren().contains(task1));
+			assertTrue(completed.getChildren().contains(task1));
+
+			TasksUiPlugin.getTaskList().deleteTask(task1);
+			assertFalse(completed.getChildren().contains(task1));
+		} finally {
+			provider.dispose();
+		}
+	}
+
+	private ScheduledTaskContainer getContainer(TaskScheduleContentProvider provider, String summary) {
+		for (Object object : provider.getElements(TaskListView.getFromActivePerspective().getViewSite())) {
+			if (summary.equals(((ScheduledTaskContainer) object).getSummary())) {
+				return (ScheduledTaskContainer) object;
+			}
+		}
+		fail("Expected container " + summary);
+		return null;
+	}
+
 	private void populateResults(Map<ITask, ScheduledTaskContainer> results, boolean focused) {
 		TaskListView.getFromActivePerspective().setFocusedMode(focused);
 		TaskScheduleContentProvider provider = new TaskScheduleContentProvider(TaskListView.getFromActivePerspective());
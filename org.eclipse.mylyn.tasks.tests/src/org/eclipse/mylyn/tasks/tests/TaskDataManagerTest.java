@@ -19,6 +19,7 @@ import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
 import org.eclipse.mylyn.internal.tasks.core.TaskTask;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataStateCache;
 import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
 import org.eclipse.mylyn.tasks.core.ITask.SynchronizationState;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
@@ -83,6 +84,34 @@ public class TaskDataManagerTest extends TestCase {
 		taskDataManger.putUpdatedTaskData(task, taskData, true, null);
 		assertEquals(SynchronizationState.INCOMING, task.getSynchronizationState());
 		assertEquals("true", task.getAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_SUPPRESS_INCOMING));
+		assertNull(taskDataManger.getDiffSummary(task));
+	}
+
+	public void testDiffSummary() throws Exception {
+		TaskTask task = TaskTestUtil.createMockTask("testDiffSummary");
+		task.setSynchronizationState(SynchronizationState.SYNCHRONIZED);
+		assertNull(taskDataManger.getDiffSummary(task));
+
+		TaskData taskData = TaskTestUtil.createTaskData(taskRepository, "testDiffSummary");
+		taskData.getRoot().createAttribute(TaskAttribute.SUMMARY).setValue("my Task");
+		taskDataManger.putUpdatedTaskData(task, taskData, true, null);
+		assertEquals(SynchronizationState.INCOMING, task.getSynchronizationState());
+		assertNotNull(taskDataManger.getDiffSummary(task));
+
+		taskDataManger.setTaskRead(task, true);
+		assertNull(taskDataManger.getDiffSummary(task));
+	}
+
+	public void testDiffSummarySubmitted() throws Exception {
+		TaskTask task = TaskTestUtil.createMockTask("testDiffSummarySubmitted");
+		task.setSynchronizationState(SynchronizationState.SYNCHRONIZED);
+		TaskData taskData = TaskTestUtil.createTaskData(taskRepository, "testDiffSummarySubmitted");
+		taskData.getRoot().createAttribute(TaskAttribute.SUMMARY).setValue("my Task");
+		taskDataManger.putUpdatedTaskData(task, taskData, true, null);
+		assertNotNull(taskDataManger.getDiffSummary(task));
+
+		taskDataManger.putSubmittedTaskData(task, taskData, new DelegatingProgressMonitor());
+		assertNull(taskDataManger.getDiffSummary(task));
 	}
 
 	public void testIncomingSupressedWithSave() throws Exception {
@@ -107,6 +136,46 @@ public class TaskDataManagerTest extends TestCase {
 		assertNull(task.getAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_SUPPRESS_INCOMING));
 	}
 
+	public void testGetTaskDataCached() throws Exception {
+		TaskTask task = TaskTestUtil.createMockTask("testGetTaskDataCached");
+		TaskData taskData = TaskTestUtil.createTaskData(taskRepository, "testGetTaskDataCached");
+		taskData.getRoot().createAttribute(TaskAttribute.SUMMARY).setValue("summary");
+		taskDataManger.putUpdatedTaskData(task, taskData, true, null);
+
+		TaskDataStateCache cache = taskDataManger.getTaskDataStateCache();
+		long hitCount = cache.getHitCount();
+		long missCount = cache.getMissCount();
+		TaskData taskData1 = taskDataManger.getTaskData(task);
+		assertEquals(missCount + 1, cache.getMissCount());
+		TaskData taskData2 = taskDataManger.getTaskData(task);
+		assertEquals(hitCount + 1, cache.getHitCount());
+		assertNotSame(taskData1, taskData2);
+		assertEquals("summary", taskData2.getRoot().getAttribute(TaskAttribute.SUMMARY).getValue());
+
+		// modifications of returned task data do not affect the cache
+		taskData2.getRoot().getAttribute(TaskAttribute.SUMMARY).setValue("changed");
+		assertEquals("summary",
+				taskDataManger.getTaskData(task).getRoot().getAttribute(TaskAttribute.SUMMARY).getValue());
+	}
+
+	public void testGetTaskDataCacheInvalidated() throws Exception {
+		TaskTask task = TaskTestUtil.createMockTask("testGetTaskDataCacheInvalidated");
+		TaskData taskData = TaskTestUtil.createTaskData(taskRepository, "testGetTaskDataCacheInvalidated");
+		taskData.getRoot().createAttribute(TaskAttribute.SUMMARY).setValue("summary");
+		taskDataManger.putUpdatedTaskData(task, taskData, true, null);
+		assertEquals("summary",
+				taskDataManger.getTaskData(task).getRoot().getAttribute(TaskAttribute.SUMMARY).getValue());
+
+		taskData = TaskTestUtil.createTaskData(taskRepository, "testGetTaskDataCacheInvalidated");
+		taskData.getRoot().createAttribute(TaskAttribute.SUMMARY).setValue("changed");
+		taskDataManger.putUpdatedTaskData(task, taskData, true, null);
+		assertEquals("changed",
+				taskDataManger.getTaskData(task).getRoot().getAttribute(TaskAttribute.SUMMARY).getValue());
+
+		taskDataManger.deleteTaskData(task);
+		assertNull(taskDataManger.getTaskData(task));
+	}
+
 	public void testIncomingSupressedWithRead() throws Exception {
 		TasksUi.getRepositoryManager().addRepository(taskRepository);
 		TaskTask task = TaskTestUtil.createMockTask("1");
@@ -12,7 +12,16 @@
 package org.eclipse.mylyn.tasks.tests;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipInputStream;
 
 import junit.framework.TestCase;
 
@@ -340,6 +349,99 @@ public class TaskDataStoreTest extends TestCase {
 		assertEquals(expectedValue, actualValue);
 	}
 
+	public void testRandomDataBinary() throws Exception {
+		storage.setBinaryFormatEnabled(true);
+		randomData(0, Integer.MAX_VALUE);
+	}
+
+	public void testBinaryFormat() throws Exception {
+		storage.setBinaryFormatEnabled(true);
+		setupData();
+		TaskAttribute attribute = data.getRoot().createAttribute("testId");
+		attribute.getMetaData().setLabel("testName").setReadOnly(true);
+		attribute.putOption("Option Name 1", "Option Value 1");
+		attribute.addValue("Value 1");
+		attribute.addValue("\u0000\u0001\u007F\u0080");
+		attribute.createAttribute("child").getMetaData().putValue("MetaKey1", "MetaValue1");
+		data.setVersion("version");
+		state.setLastReadData(data);
+
+		assertData(1);
+		assertEquals("version", state.getRepositoryData().getVersion());
+		assertEquals(data.getRoot().toString(), state.getLastReadData().getRoot().toString());
+		assertNull(state.getEditsData());
+		assertFalse(isZipFile(file));
+	}
+
+	public void testBinaryFormatMigration() throws Exception {
+		setupData();
+		data.getRoot().createAttribute("attribute").setValue("value");
+		storage.putTaskData(file, state);
+		assertTrue(isZipFile(file));
+
+		storage.setBinaryFormatEnabled(true);
+		state = storage.getTaskDataState(file);
+		assertEquals(data.getRoot().toString(), state.getRepositoryData().getRoot().toString());
+
+		storage.putEdits(file, data);
+		assertFalse(isZipFile(file));
+		state = storage.getTaskDataState(file);
+		assertEquals(data.getRoot().toString(), state.getRepositoryData().getRoot().toString());
+		assertEquals(data.getRoot().toString(), state.getEditsData().getRoot().toString());
+
+		// binary files are read regardless of the configured format
+		storage.setBinaryFormatEnabled(false);
+		state = storage.getTaskDataState(file);
+		assertEquals(data.getRoot().toString(), state.getRepositoryData().getRoot().toString());
+	}
+
+	public void testConcurrentAccess() throws Exception {
+		final File[] files = new File[4];
+		for (int i = 0; i < files.length; i++) {
+			files[i] = File.createTempFile("mylyn", null);
+			files[i].deleteOnExit();
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(files.length * 2);
+		try {
+			List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (int i = 0; i < files.length * 2; i++) {
+				final File file = files[i % files.length];
+				final String taskId = Integer.toString(i % files.length);
+				futures.add(executor.submit(new Callable<Void>() {
+					public Void call() throws Exception {
+						for (int j = 0; j < 20; j++) {
+							TaskData data = new TaskData(new TaskAttributeMapper(taskRepository),
+									MockRepositoryConnector.CONNECTOR_KIND, MockRepositoryConnector.REPOSITORY_URL,
+									taskId);
+							data.getRoot().createAttribute("attribute").setValue(taskId);
+							storage.putTaskData(file, data, true, false);
+							TaskDataState state = storage.getTaskDataState(file);
+							assertEquals(taskId, state.getRepositoryData()
+									.getRoot()
+									.getAttribute("attribute")
+									.getValue());
+						}
+						return null;
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	private boolean isZipFile(File file) throws IOException {
+		try (ZipInputStream in = new ZipInputStream(new FileInputStream(file))) {
+			return in.getNextEntry() != null;
+		}
+	}
+
 	/**
 	 * Returns a random string that doesn't contain "key" or "val".
 	 */
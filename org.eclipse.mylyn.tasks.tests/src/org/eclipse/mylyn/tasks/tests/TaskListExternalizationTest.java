@@ -11,6 +11,7 @@
 
 package org.eclipse.mylyn.tasks.tests;
 
+import java.io.File;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
@@ -31,6 +32,8 @@ import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.TaskCategory;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListExternalizationParticipant;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListJournal;
 import org.eclipse.mylyn.internal.tasks.ui.ITasksUiPreferenceConstants;
 import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
 import org.eclipse.mylyn.internal.tasks.ui.util.TasksUiInternal;
@@ -702,4 +705,47 @@ public class TaskListExternalizationTest extends TestCase {
 		assertEquals(1, TasksUiPlugin.getTaskList().getQueries().size());
 	}
 
+	public void testJournal() throws Exception {
+		TaskListExternalizationParticipant participant = TasksUiPlugin.getTaskListExternalizationParticipant();
+		participant.setJournalEnabled(true);
+		try {
+			LocalTask task1 = TasksUiInternal.createNewLocalTask("task 1");
+			LocalTask task2 = TasksUiInternal.createNewLocalTask("task 2");
+			TaskCategory category = new TaskCategory("category");
+			taskList.addCategory(category);
+			TaskTestUtil.saveAndReadTasklist();
+
+			File taskListFile = participant.getFile(TasksUiPlugin.getDefault().getDataDirectory());
+			TaskListJournal journal = new TaskListJournal(taskListFile);
+			assertFalse(journal.getFile().exists());
+
+			task1 = (LocalTask) taskList.getTask(task1.getHandleIdentifier());
+			task1.setSummary("changed");
+			taskList.notifyElementChanged(task1);
+			taskList.deleteTask(taskList.getTask(task2.getHandleIdentifier()));
+			LocalTask task3 = TasksUiInternal.createNewLocalTask("task 3");
+			taskList.addTask(task3, taskList.getContainerForHandle(category.getHandleIdentifier()));
+			TaskTestUtil.saveNow();
+			assertTrue(journal.isValid());
+
+			TaskTestUtil.resetTaskList();
+			TasksUiPlugin.getDefault().initializeDataSources();
+
+			assertEquals("changed", taskList.getTask(task1.getHandleIdentifier()).getSummary());
+			assertNull(taskList.getTask(task2.getHandleIdentifier()));
+			ITask readTask3 = taskList.getTask(task3.getHandleIdentifier());
+			assertNotNull(readTask3);
+			assertTrue(taskList.getContainerForHandle(category.getHandleIdentifier())
+					.contains(readTask3.getHandleIdentifier()));
+
+			// a full save compacts the journal
+			TaskTestUtil.saveAndReadTasklist();
+			assertFalse(journal.getFile().exists());
+			assertEquals("changed", taskList.getTask(task1.getHandleIdentifier()).getSummary());
+			assertNull(taskList.getTask(task2.getHandleIdentifier()));
+		} finally {
+			participant.setJournalEnabled(false);
+		}
+	}
+
 }
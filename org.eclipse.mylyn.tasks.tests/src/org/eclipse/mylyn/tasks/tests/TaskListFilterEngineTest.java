@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.eclipse.mylyn.internal.tasks.core.LocalTask;
+import org.eclipse.mylyn.internal.tasks.core.TaskCategory;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.ui.AbstractTaskListFilter;
+import org.eclipse.mylyn.internal.tasks.ui.views.TaskListFilterEngine;
+
+public class TaskListFilterEngineTest extends TestCase {
+
+	private class RecordingFilter extends AbstractTaskListFilter {
+
+		private final String name;
+
+		private final int cost;
+
+		private boolean select;
+
+		private final boolean applyToFilteredText;
+
+		private boolean timeDependent;
+
+		public RecordingFilter(String name, int cost, boolean select, boolean applyToFilteredText) {
+			this.name = name;
+			this.cost = cost;
+			this.select = select;
+			this.applyToFilteredText = applyToFilteredText;
+		}
+
+		@Override
+		public boolean select(Object parent, Object element) {
+			invocations.add(name);
+			return select;
+		}
+
+		@Override
+		public int getCost() {
+			return cost;
+		}
+
+		@Override
+		public boolean applyToFilteredText() {
+			return applyToFilteredText;
+		}
+
+		@Override
+		public boolean isTimeDependent() {
+			return timeDependent;
+		}
+
+		public void setSelect(boolean select) {
+			this.select = select;
+			settingsChanged();
+		}
+
+	}
+
+	private final List<String> invocations = new ArrayList<String>();
+
+	private TaskListFilterEngine engine;
+
+	@Override
+	protected void setUp() throws Exception {
+		engine = new TaskListFilterEngine();
+	}
+
+	public void testOrderByCost() {
+		RecordingFilter high = new RecordingFilter("high", AbstractTaskListFilter.COST_HIGH, true, false);
+		RecordingFilter low = new RecordingFilter("low", AbstractTaskListFilter.COST_LOW, true, false);
+		RecordingFilter rejecting = new RecordingFilter("rejecting", AbstractTaskListFilter.COST_DEFAULT, false,
+				false);
+		engine.compile(Arrays.<AbstractTaskListFilter> asList(high, low, rejecting), false);
+		assertTrue(engine.isFiltered(null, new LocalTask("1", "summary")));
+		assertEquals(Arrays.asList("low", "rejecting"), invocations);
+	}
+
+	public void testOrderBySelectivity() {
+		RecordingFilter selecting = new RecordingFilter("selecting", AbstractTaskListFilter.COST_LOW, true, false);
+		RecordingFilter rejecting = new RecordingFilter("rejecting", AbstractTaskListFilter.COST_LOW, false, false);
+		List<AbstractTaskListFilter> filters = Arrays.<AbstractTaskListFilter> asList(selecting, rejecting);
+		engine.compile(filters, false);
+		engine.isFiltered(null, new LocalTask("1", "summary"));
+
+		engine.compile(filters, false);
+		invocations.clear();
+		assertTrue(engine.isFiltered(null, new LocalTask("2", "summary")));
+		assertEquals(Arrays.asList("rejecting"), invocations);
+	}
+
+	public void testSearching() {
+		RecordingFilter filter = new RecordingFilter("filter", AbstractTaskListFilter.COST_LOW, false, false);
+		RecordingFilter textFilter = new RecordingFilter("text", AbstractTaskListFilter.COST_LOW, true, true);
+		engine.compile(Arrays.<AbstractTaskListFilter> asList(filter, textFilter), true);
+		assertFalse(engine.isFiltered(null, new LocalTask("1", "summary")));
+		assertEquals(Arrays.asList("text"), invocations);
+		assertTrue(engine.isCompiled(new HashSet<AbstractTaskListFilter>(Arrays.asList(textFilter, filter))));
+		assertFalse(engine.isCompiled(new HashSet<AbstractTaskListFilter>(Arrays.asList(textFilter))));
+	}
+
+	public void testMemoize() {
+		RecordingFilter filter = new RecordingFilter("filter", AbstractTaskListFilter.COST_LOW, true, false);
+		engine.compile(Arrays.<AbstractTaskListFilter> asList(filter), false);
+		LocalTask task = new LocalTask("1", "summary");
+		TaskCategory category = new TaskCategory("category");
+		TaskList taskList = new TaskList();
+		taskList.addCategory(category);
+		taskList.addTask(task, category);
+		engine.isFiltered(category, task);
+		engine.isFiltered(null, category);
+		engine.isFiltered(category, task);
+		engine.isFiltered(null, category);
+		assertEquals(2, invocations.size());
+
+		// parent is part of the key
+		engine.isFiltered(null, task);
+		assertEquals(3, invocations.size());
+
+		// invalidating a task invalidates its containers
+		invocations.clear();
+		engine.invalidate(task);
+		engine.isFiltered(category, task);
+		engine.isFiltered(null, category);
+		assertEquals(2, invocations.size());
+
+		invocations.clear();
+		engine.clear();
+		engine.isFiltered(category, task);
+		assertEquals(1, invocations.size());
+	}
+
+	public void testSettingsChanged() {
+		RecordingFilter filter = new RecordingFilter("filter", AbstractTaskListFilter.COST_LOW, true, false);
+		engine.compile(Arrays.<AbstractTaskListFilter> asList(filter), false);
+		LocalTask task = new LocalTask("1", "summary");
+		assertFalse(engine.isFiltered(null, task));
+		assertFalse(engine.isFiltered(null, task));
+		assertEquals(1, invocations.size());
+
+		filter.setSelect(false);
+		assertTrue(engine.isFiltered(null, task));
+		assertTrue(engine.isFiltered(null, task));
+		assertEquals(2, invocations.size());
+	}
+
+	public void testTimeDependentNotMemoized() {
+		RecordingFilter rejecting = new RecordingFilter("rejecting", AbstractTaskListFilter.COST_LOW, false, false);
+		RecordingFilter timeDependent = new RecordingFilter("timeDependent", AbstractTaskListFilter.COST_HIGH, true,
+				false);
+		timeDependent.timeDependent = true;
+		engine.compile(Arrays.<AbstractTaskListFilter> asList(timeDependent), false);
+		LocalTask task = new LocalTask("1", "summary");
+		engine.isFiltered(null, task);
+		engine.isFiltered(null, task);
+		assertEquals(Arrays.asList("timeDependent", "timeDependent"), invocations);
+
+		// results that are decided before a time dependent filter is applied are memoized
+		engine.compile(Arrays.<AbstractTaskListFilter> asList(timeDependent, rejecting), false);
+		invocations.clear();
+		assertTrue(engine.isFiltered(null, task));
+		assertTrue(engine.isFiltered(null, task));
+		assertEquals(Arrays.asList("rejecting"), invocations);
+	}
+
+}
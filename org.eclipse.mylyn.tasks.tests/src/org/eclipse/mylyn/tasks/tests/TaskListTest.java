@@ -647,4 +647,97 @@ public class TaskListTest extends TestCase {
 		assertTrue(tasksReturned.contains(task1));
 	}
 
+	public void testGetRepositoryTasksAfterDelete() {
+		String repositoryUrl = "https://bugs.eclipse.org/bugs";
+		MockTask task1 = new MockTask(repositoryUrl, "1");
+		MockTask task2 = new MockTask(repositoryUrl, "2");
+		taskList.addTask(task1);
+		taskList.addTask(task2);
+		assertEquals(2, taskList.getTasks(repositoryUrl).size());
+
+		taskList.deleteTask(task1);
+		Set<ITask> tasksReturned = taskList.getTasks(repositoryUrl);
+		assertEquals(1, tasksReturned.size());
+		assertTrue(tasksReturned.contains(task2));
+
+		taskList.deleteTask(task2);
+		assertEquals(0, taskList.getTasks(repositoryUrl).size());
+	}
+
+	public void testGetRepositoryTasksAfterRefactorRepositoryUrl() {
+		String oldRepositoryUrl = "http://old";
+		String newRepositoryUrl = "http://new";
+		MockTask task = new MockTask(oldRepositoryUrl, "1");
+		task.setTaskKey("KEY-1");
+		taskList.addTask(task);
+
+		taskList.refactorRepositoryUrl(oldRepositoryUrl, newRepositoryUrl);
+		assertEquals(0, taskList.getTasks(oldRepositoryUrl).size());
+		assertEquals(1, taskList.getTasks(newRepositoryUrl).size());
+		assertNull(taskList.getTaskByKey(oldRepositoryUrl, "KEY-1"));
+		assertEquals(task, taskList.getTaskByKey(newRepositoryUrl, "KEY-1"));
+	}
+
+	public void testGetTaskByKey() {
+		String repositoryUrl = "http://somewhere.com";
+		MockTask task1 = new MockTask(repositoryUrl, "1");
+		task1.setTaskKey("KEY-1");
+		MockTask task2 = new MockTask("http://elsewhere.com", "1");
+		task2.setTaskKey("KEY-1");
+		taskList.addTask(task1);
+		taskList.addTask(task2);
+
+		assertSame(task1, taskList.getTaskByKey(repositoryUrl, "KEY-1"));
+		assertSame(task2, taskList.getTaskByKey("http://elsewhere.com", "KEY-1"));
+		assertNull(taskList.getTaskByKey(repositoryUrl, "KEY-2"));
+
+		taskList.deleteTask(task1);
+		assertNull(taskList.getTaskByKey(repositoryUrl, "KEY-1"));
+	}
+
+	public void testGetTaskByKeyDefaultsToTaskId() {
+		String repositoryUrl = "http://somewhere.com";
+		MockTask task = new MockTask(repositoryUrl, "123");
+		taskList.addTask(task);
+		assertSame(task, taskList.getTaskByKey(repositoryUrl, "123"));
+	}
+
+	public void testGetTaskByKeyAfterKeyChanged() {
+		String repositoryUrl = "http://somewhere.com";
+		MockTask task = new MockTask(repositoryUrl, "1");
+		task.setTaskKey("KEY-1");
+		taskList.addTask(task);
+
+		task.setTaskKey("KEY-2");
+		assertNull(taskList.getTaskByKey(repositoryUrl, "KEY-1"));
+		taskList.notifyElementChanged(task);
+		assertSame(task, taskList.getTaskByKey(repositoryUrl, "KEY-2"));
+		assertNull(taskList.getTaskByKey(repositoryUrl, "KEY-1"));
+	}
+
+	public void testGetTaskByKeyWithDuplicateKeys() {
+		String repositoryUrl = "http://somewhere.com";
+		MockTask task1 = new MockTask(repositoryUrl, "1");
+		task1.setTaskKey("KEY-1");
+		MockTask task2 = new MockTask(repositoryUrl, "2");
+		task2.setTaskKey("KEY-1");
+		taskList.addTask(task1);
+		taskList.addTask(task2);
+
+		taskList.deleteTask(task1);
+		assertSame(task2, taskList.getTaskByKey(repositoryUrl, "KEY-1"));
+	}
+
+	public void testGetTaskByKeyAfterRefactorTaskId() {
+		String repositoryUrl = "http://somewhere.com";
+		MockTask task = new MockTask(repositoryUrl, "1");
+		task.setTaskKey("KEY-1");
+		taskList.addTask(task);
+
+		AbstractTask refactoredTask = taskList.refactorTaskId(task, "2");
+		assertEquals(refactoredTask, taskList.getTaskByKey(repositoryUrl, "KEY-1"));
+		assertEquals(1, taskList.getTasks(repositoryUrl).size());
+		assertTrue(taskList.getTasks(repositoryUrl).contains(refactoredTask));
+	}
+
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.tests.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.eclipse.mylyn.internal.tasks.core.sync.RepositorySynchronizationMetrics;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Counter;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Timer;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+
+public class SynchronizationMetricsTest extends TestCase {
+
+	private SynchronizationMetrics metrics;
+
+	private TaskRepository repository;
+
+	@Override
+	protected void setUp() throws Exception {
+		metrics = new SynchronizationMetrics();
+		repository = new TaskRepository("kind", "http://repository");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		SynchronizationMetrics.setDefault(null);
+	}
+
+	public void testIncrement() {
+		assertNull(metrics.getMetrics(repository.getRepositoryUrl()));
+
+		metrics.increment(repository, Counter.TASKS_MARKED_STALE, 3);
+		metrics.increment(repository, Counter.TASKS_MARKED_STALE);
+		RepositorySynchronizationMetrics repositoryMetrics = metrics.getMetrics(repository.getRepositoryUrl());
+		assertEquals(4, repositoryMetrics.getCount(Counter.TASKS_MARKED_STALE));
+		assertEquals(0, repositoryMetrics.getCount(Counter.TASKS_CHANGED));
+		assertEquals(0, repositoryMetrics.getRoundTrips());
+	}
+
+	public void testRecord() {
+		long startTime = SynchronizationMetrics.start() - TimeUnit.MILLISECONDS.toNanos(10);
+		metrics.record(repository, Timer.QUERY, startTime);
+		metrics.record(repository, Timer.TASK_DATA_WRITE, SynchronizationMetrics.start());
+		RepositorySynchronizationMetrics repositoryMetrics = metrics.getMetrics(repository.getRepositoryUrl());
+		assertEquals(1, repositoryMetrics.getInvocations(Timer.QUERY));
+		assertTrue(repositoryMetrics.getTotalTime(Timer.QUERY, TimeUnit.MILLISECONDS) >= 10);
+		assertEquals(repositoryMetrics.getTotalTime(Timer.QUERY, TimeUnit.NANOSECONDS),
+				repositoryMetrics.getMaxTime(Timer.QUERY, TimeUnit.NANOSECONDS));
+		assertEquals(1, repositoryMetrics.getInvocations(Timer.TASK_DATA_WRITE));
+		// only requests to the repository count as round-trips
+		assertEquals(1, repositoryMetrics.getRoundTrips());
+	}
+
+	public void testMXBean() {
+		assertEquals(Collections.emptyList(), metrics.getRepositoryUrls());
+		assertEquals(Collections.emptyMap(), metrics.getCounts(repository.getRepositoryUrl()));
+
+		metrics.increment(repository, Counter.QUERY_RESULTS, 5);
+		metrics.record(repository, Timer.PRE_SYNCHRONIZATION, SynchronizationMetrics.start());
+		assertEquals(Collections.singletonList(repository.getRepositoryUrl()), metrics.getRepositoryUrls());
+		assertEquals(Long.valueOf(5), metrics.getCounts(repository.getRepositoryUrl()).get("QUERY_RESULTS"));
+		assertEquals(Long.valueOf(1), metrics.getCounts(repository.getRepositoryUrl()).get("PRE_SYNCHRONIZATION"));
+		assertEquals(Long.valueOf(1), metrics.getCounts(repository.getRepositoryUrl()).get("ROUND_TRIPS"));
+		assertTrue(metrics.getTimesMillis(repository.getRepositoryUrl()).containsKey("PRE_SYNCHRONIZATION"));
+	}
+
+	public void testConnectorHooks() throws Exception {
+		SynchronizationMetrics.recordBytesReceived(repository.getRepositoryUrl(), 10);
+		assertNull(metrics.getMetrics(repository.getRepositoryUrl()));
+
+		SynchronizationMetrics.setDefault(metrics);
+		SynchronizationMetrics.recordBytesReceived(repository.getRepositoryUrl(), 10);
+		SynchronizationMetrics.recordResponseParsing(repository.getRepositoryUrl(), SynchronizationMetrics.start());
+		RepositorySynchronizationMetrics repositoryMetrics = metrics.getMetrics(repository.getRepositoryUrl());
+		assertEquals(10, repositoryMetrics.getCount(Counter.BYTES_RECEIVED));
+		assertEquals(1, repositoryMetrics.getInvocations(Timer.RESPONSE_PARSING));
+		assertEquals(0, repositoryMetrics.getRoundTrips());
+	}
+
+	public void testCountBytesReceived() throws Exception {
+		SynchronizationMetrics.setDefault(metrics);
+		InputStream in = SynchronizationMetrics.countBytesReceived(repository.getRepositoryUrl(),
+				new ByteArrayInputStream(new byte[100]));
+		assertEquals(0, in.read());
+		assertEquals(50, in.read(new byte[50]));
+		assertEquals(9, in.skip(9));
+		in.close();
+		in.close();
+		assertEquals(60, metrics.getMetrics(repository.getRepositoryUrl()).getCount(Counter.BYTES_RECEIVED));
+	}
+
+	public void testReset() {
+		metrics.increment(repository, Counter.FAILURES);
+		metrics.reset();
+		assertNull(metrics.getMetrics(repository.getRepositoryUrl()));
+		assertTrue(metrics.getMetrics().isEmpty());
+	}
+
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.tests.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizeRepositoriesJob;
+import org.eclipse.mylyn.internal.tasks.ui.util.TasksUiInternal;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.tests.connector.MockRepositoryConnector;
+import org.eclipse.mylyn.tasks.tests.connector.MockRepositoryQuery;
+import org.eclipse.mylyn.tasks.ui.TasksUi;
+import org.eclipse.mylyn.tests.util.TestFixture;
+
+public class SynchronizeRepositoriesJobTest extends TestCase {
+
+	private TaskList taskList;
+
+	private TaskRepositoryManager repositoryManager;
+
+	private List<TaskRepository> repositories;
+
+	@Override
+	protected void setUp() throws Exception {
+		taskList = (TaskList) TasksUiInternal.getTaskList();
+		repositoryManager = new TaskRepositoryManager();
+		repositories = new ArrayList<TaskRepository>();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		TestFixture.resetTaskList();
+	}
+
+	public void testConfigurationUpdatedConcurrently() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(2);
+		final AtomicInteger concurrentUpdates = new AtomicInteger();
+		repositoryManager.addRepositoryConnector(new MockRepositoryConnector() {
+			@Override
+			public boolean isRepositoryConfigurationStale(TaskRepository repository, IProgressMonitor monitor)
+					throws CoreException {
+				latch.countDown();
+				try {
+					if (latch.await(10, TimeUnit.SECONDS)) {
+						concurrentUpdates.incrementAndGet();
+					}
+				} catch (InterruptedException e) {
+					// ignore
+				}
+				return true;
+			}
+		});
+		createRepository("http://host1/repository");
+		createRepository("http://host2/repository");
+
+		SynchronizeRepositoriesJob job = createSyncJob();
+		job.setMaxConcurrentRepositories(2);
+		assertEquals(Status.OK_STATUS, job.run(new NullProgressMonitor()));
+		assertEquals(2, concurrentUpdates.get());
+		assertTrue(job.getStatus().isOK());
+		for (TaskRepository repository : repositories) {
+			assertNotNull(repository.getConfigurationDate());
+		}
+	}
+
+	public void testMaxConcurrentRepositoriesPerHost() throws Exception {
+		final AtomicInteger activeUpdates = new AtomicInteger();
+		final AtomicInteger maxActiveUpdates = new AtomicInteger();
+		repositoryManager.addRepositoryConnector(new MockRepositoryConnector() {
+			@Override
+			public boolean isRepositoryConfigurationStale(TaskRepository repository, IProgressMonitor monitor)
+					throws CoreException {
+				int active = activeUpdates.incrementAndGet();
+				synchronized (maxActiveUpdates) {
+					maxActiveUpdates.set(Math.max(maxActiveUpdates.get(), active));
+				}
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					// ignore
+				}
+				activeUpdates.decrementAndGet();
+				return false;
+			}
+		});
+		createRepository("http://host/repository1");
+		createRepository("http://host/repository2");
+		createRepository("http://host/repository3");
+
+		SynchronizeRepositoriesJob job = createSyncJob();
+		job.setMaxConcurrentRepositories(3);
+		job.setMaxConcurrentRepositoriesPerHost(1);
+		assertEquals(Status.OK_STATUS, job.run(new NullProgressMonitor()));
+		assertEquals(1, maxActiveUpdates.get());
+	}
+
+	public void testFailureIsolatedToRepository() throws Exception {
+		repositoryManager.addRepositoryConnector(new MockRepositoryConnector() {
+			@Override
+			public void updateRepositoryConfiguration(TaskRepository repository, IProgressMonitor monitor)
+					throws CoreException {
+				if (repository.getRepositoryUrl().startsWith("http://failing")) {
+					throw new CoreException(new Status(IStatus.ERROR, "bundle", "failed"));
+				}
+			}
+		});
+		TaskRepository failingRepository = createRepository("http://failing/repository");
+		TaskRepository repository = createRepository("http://host/repository");
+
+		SynchronizeRepositoriesJob job = createSyncJob();
+		job.setMaxConcurrentRepositories(2);
+		assertEquals(Status.OK_STATUS, job.run(new NullProgressMonitor()));
+		assertNull(failingRepository.getConfigurationDate());
+		assertEquals(IStatus.ERROR, failingRepository.getStatus().getSeverity());
+		assertNotNull(repository.getConfigurationDate());
+
+		IStatus status = job.getStatus();
+		assertEquals(IStatus.ERROR, status.getSeverity());
+		assertEquals(1, status.getChildren().length);
+	}
+
+	private TaskRepository createRepository(String url) {
+		TaskRepository repository = new TaskRepository(MockRepositoryConnector.CONNECTOR_KIND, url);
+		repositories.add(repository);
+		MockRepositoryQuery query = new MockRepositoryQuery(url + " query", url + "/query");
+		query.setRepositoryUrl(url);
+		taskList.addQuery(query);
+		return repository;
+	}
+
+	private SynchronizeRepositoriesJob createSyncJob() {
+		SynchronizeRepositoriesJob job = new SynchronizeRepositoriesJob(taskList,
+				(TaskDataManager) TasksUi.getTaskDataManager(), TasksUi.getRepositoryModel(), repositoryManager);
+		job.setRepositories(repositories);
+		return job;
+	}
+
+}
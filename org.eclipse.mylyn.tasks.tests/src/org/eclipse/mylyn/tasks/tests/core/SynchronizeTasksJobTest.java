@@ -46,6 +46,9 @@ import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
 import org.eclipse.mylyn.internal.tasks.core.data.SynchronizationManger;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataStore;
+import org.eclipse.mylyn.internal.tasks.core.sync.RepositorySynchronizationMetrics;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Counter;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics.Timer;
 import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationSession;
 import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizeTasksJob;
 import org.eclipse.mylyn.internal.tasks.ui.util.TasksUiInternal;
@@ -324,6 +327,39 @@ public class SynchronizeTasksJobTest extends TestCase {
 		assertTrue(putTaskData.get());
 	}
 
+	public void testMetrics() throws Exception {
+		AbstractRepositoryConnector connector = new MockRepositoryConnector() {
+			@Override
+			public TaskData getTaskData(TaskRepository taskRepository, String taskId, IProgressMonitor monitor)
+					throws CoreException {
+				if ("2".equals(taskId)) {
+					throw new CoreException(new Status(IStatus.ERROR, "bundle", "error"));
+				}
+				return createTaskData(taskId);
+			}
+		};
+		TaskDataManager customTaskDataManager = new TaskDataManager(taskDataStore, TasksUi.getRepositoryManager(),
+				taskList, (TaskActivityManager) TasksUi.getTaskActivityManager(), new SynchronizationManger(
+						(RepositoryModel) TasksUi.getRepositoryModel())) {
+			@Override
+			public void putUpdatedTaskData(ITask itask, TaskData taskData, boolean user, Object token,
+					IProgressMonitor monitor) throws CoreException {
+			}
+		};
+		Set<ITask> tasks = new HashSet<ITask>();
+		tasks.add(new MockTask("1"));
+		tasks.add(new MockTask("2"));
+		SynchronizeTasksJob job = createSyncJobWithManager(connector, tasks, customTaskDataManager);
+		job.run(new NullProgressMonitor());
+
+		RepositorySynchronizationMetrics metrics = customTaskDataManager.getSynchronizationMetrics().getMetrics(
+				repository.getRepositoryUrl());
+		assertEquals(2, metrics.getInvocations(Timer.TASK_RETRIEVAL));
+		assertEquals(2, metrics.getRoundTrips());
+		assertEquals(1, metrics.getCount(Counter.TASKS_RETRIEVED));
+		assertEquals(1, metrics.getCount(Counter.FAILURES));
+	}
+
 	public void testGetSingleTaskDataPutFails() throws Exception {
 		AbstractRepositoryConnector connector = new MockRepositoryConnectorWithTaskDataHandler() {
 			@Override
@@ -690,6 +726,129 @@ public class SynchronizeTasksJobTest extends TestCase {
 		((TaskRepositoryManager) TasksUi.getRepositoryManager()).removeRepository(firstRepository);
 	}
 
+	public void testGetMultiTaskDataConcurrently() throws Exception {
+		repository.setProperty(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REQUESTS, "3");
+		repository.setProperty(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_BATCH_SIZE, "2");
+		final List<Set<String>> requestedBatches = Collections.synchronizedList(new ArrayList<Set<String>>());
+		final MockRepositoryConnector connector = new MockRepositoryConnectorWithTaskDataHandler() {
+
+			@Override
+			public AbstractTaskDataHandler getTaskDataHandler() {
+				return new MockTaskDataHandler(this) {
+					@Override
+					public boolean canGetMultiTaskData(TaskRepository repository) {
+						return true;
+					}
+
+					@Override
+					public void getMultiTaskData(TaskRepository repository, Set<String> taskIds,
+							TaskDataCollector collector, IProgressMonitor monitor) throws CoreException {
+						requestedBatches.add(taskIds);
+						for (String taskId : taskIds) {
+							if (taskId.equals("5")) {
+								collector.failed(taskId, new Status(IStatus.ERROR, "bundle", "error"));
+							} else {
+								collector.accept(createTaskData(taskId));
+							}
+						}
+					}
+				};
+			}
+		};
+		Set<ITask> tasks = new HashSet<ITask>();
+		for (int i = 1; i <= 5; i++) {
+			tasks.add(new MockTask(Integer.toString(i)));
+		}
+
+		final Set<ITask> taskDataPut = Collections.synchronizedSet(new HashSet<ITask>());
+		TaskDataManager customTaskDataManager = new TaskDataManager(taskDataStore, TasksUi.getRepositoryManager(),
+				taskList, (TaskActivityManager) TasksUi.getTaskActivityManager(), new SynchronizationManger(
+						(RepositoryModel) TasksUi.getRepositoryModel())) {
+			@Override
+			public void putUpdatedTaskData(ITask itask, TaskData taskData, boolean user, Object token,
+					IProgressMonitor monitor) throws CoreException {
+				assertEquals(itask.getTaskId(), taskData.getTaskId());
+				taskDataPut.add(itask);
+			}
+		};
+		SynchronizeTasksJob job = createSyncJobWithManager(connector, tasks, customTaskDataManager);
+		job.run(new NullProgressMonitor());
+		assertEquals(3, requestedBatches.size());
+		assertEquals(4, taskDataPut.size());
+		assertEquals(1, job.getStatuses().size());
+		for (ITask task : tasks) {
+			if (task.getTaskId().equals("5")) {
+				assertEquals("error", ((AbstractTask) task).getStatus().getMessage());
+			} else {
+				assertTrue(taskDataPut.contains(task));
+			}
+		}
+	}
+
+	public void testGetMultiTaskDataConcurrentlyFails() throws Exception {
+		repository.setProperty(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REQUESTS, "2");
+		repository.setProperty(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_BATCH_SIZE, "1");
+		final Status errorStatus = new Status(IStatus.ERROR, "bundle", "error");
+		AbstractRepositoryConnector connector = new MockRepositoryConnectorWithTaskDataHandler() {
+			@Override
+			public AbstractTaskDataHandler getTaskDataHandler() {
+				return new MockTaskDataHandler(this) {
+					@Override
+					public boolean canGetMultiTaskData(TaskRepository repository) {
+						return true;
+					}
+
+					@Override
+					public void getMultiTaskData(TaskRepository repository, Set<String> taskIds,
+							TaskDataCollector collector, IProgressMonitor monitor) throws CoreException {
+						throw new CoreException(errorStatus);
+					}
+				};
+			}
+		};
+		final ITask task = new MockTask("1");
+		final ITask task2 = new MockTask("2");
+		HashSet<ITask> tasks = new HashSet<ITask>();
+		tasks.add(task);
+		tasks.add(task2);
+		SynchronizeTasksJob job = createSyncJob(connector, tasks);
+		job.run(new NullProgressMonitor());
+		assertEquals(errorStatus, ((AbstractTask) task).getStatus());
+		assertEquals(errorStatus, ((AbstractTask) task2).getStatus());
+	}
+
+	public void testGetSingleTaskDataConcurrently() throws Exception {
+		repository.setProperty(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_MAX_CONCURRENT_REQUESTS, "2");
+		repository.setProperty(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_BATCH_SIZE, "1");
+		final IStatus status = new Status(IStatus.WARNING, "bundle", "error");
+		final Set<String> requestingThreads = Collections.synchronizedSet(new HashSet<String>());
+		AbstractRepositoryConnector connector = new MockRepositoryConnectorWithTaskDataHandler() {
+			@Override
+			public TaskData getTaskData(TaskRepository taskRepository, String taskId, IProgressMonitor monitor)
+					throws CoreException {
+				requestingThreads.add(Thread.currentThread().getName());
+				if (taskId.equals("3")) {
+					throw new CoreException(status);
+				}
+				return createTaskData(taskId);
+			}
+		};
+		ITask task = new MockTask("1");
+		ITask task2 = new MockTask("2");
+		ITask task3 = new MockTask("3");
+		HashSet<ITask> tasks = new HashSet<ITask>();
+		tasks.add(task);
+		tasks.add(task2);
+		tasks.add(task3);
+		SynchronizeTasksJob job = createSyncJob(connector, tasks);
+		job.run(new NullProgressMonitor());
+		assertFalse(requestingThreads.contains(Thread.currentThread().getName()));
+		assertNull(((AbstractTask) task).getStatus());
+		assertNull(((AbstractTask) task2).getStatus());
+		assertEquals(status, ((AbstractTask) task3).getStatus());
+		assertEquals(1, job.getStatuses().size());
+	}
+
 	private SynchronizeTasksJob createSyncJob(AbstractRepositoryConnector connector, Set<ITask> tasks) {
 		return new SynchronizeTasksJob(taskList, taskDataManager, tasksModel, connector, repository, tasks);
 	}
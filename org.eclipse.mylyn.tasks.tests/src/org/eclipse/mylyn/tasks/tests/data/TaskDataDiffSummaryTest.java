@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.tests.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataDiff;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataDiffSummary;
+import org.eclipse.mylyn.tasks.core.IRepositoryManager;
+import org.eclipse.mylyn.tasks.core.ITask;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+
+public class TaskDataDiffSummaryTest extends TestCase {
+
+	private RepositoryModel model;
+
+	private TaskData newData;
+
+	private TaskData oldData;
+
+	@Override
+	protected void setUp() throws Exception {
+		ITask task = new TaskTask("kind", "url", "1");
+		TaskRepository repository = new TaskRepository(task.getConnectorKind(), task.getRepositoryUrl());
+		TaskAttributeMapper mapper = new TaskAttributeMapper(repository);
+		IRepositoryManager repositoryManager = new TaskRepositoryManager();
+		repositoryManager.addRepository(repository);
+		TaskList taskList = new TaskList();
+		taskList.addTask(task);
+		model = new RepositoryModel(taskList, repositoryManager);
+
+		newData = new TaskData(mapper, repository.getConnectorKind(), repository.getUrl(), "1");
+		oldData = new TaskData(mapper, repository.getConnectorKind(), repository.getUrl(), "1");
+	}
+
+	public void testCreateFromUnchanged() {
+		TaskDataDiffSummary summary = TaskDataDiffSummary.createFrom(new TaskDataDiff(model, newData, oldData));
+		assertFalse(summary.hasChanged());
+		assertEquals(Collections.emptyList(), summary.getChangedAttributeIds());
+		assertEquals(0, summary.getNewCommentCount());
+		assertEquals(Collections.emptyList(), summary.getNewAttachmentIds());
+	}
+
+	public void testCreateFrom() {
+		newData.getRoot().createAttribute(TaskAttribute.SUMMARY).setValue("summary");
+		TaskAttribute comment = newData.getRoot().createAttribute(TaskAttribute.PREFIX_COMMENT + "1");
+		comment.getMetaData().setType(TaskAttribute.TYPE_COMMENT);
+		TaskAttribute attachment = newData.getRoot().createAttribute(TaskAttribute.PREFIX_ATTACHMENT + "1");
+		attachment.getMetaData().setType(TaskAttribute.TYPE_ATTACHMENT);
+
+		TaskDataDiffSummary summary = TaskDataDiffSummary.createFrom(new TaskDataDiff(model, newData, oldData));
+		assertTrue(summary.hasChanged());
+		assertEquals(Collections.singletonList(TaskAttribute.SUMMARY), summary.getChangedAttributeIds());
+		assertEquals(1, summary.getNewCommentCount());
+		assertEquals(Collections.singletonList(TaskAttribute.PREFIX_ATTACHMENT + "1"), summary.getNewAttachmentIds());
+	}
+
+	public void testParse() {
+		TaskDataDiffSummary summary = new TaskDataDiffSummary(Arrays.asList("a", "b;c", "d,e", "f%g"), 3,
+				Arrays.asList("attachment-1", "attachment 2"));
+		assertEquals(summary, TaskDataDiffSummary.parse(summary.toString()));
+
+		summary = new TaskDataDiffSummary(Collections.<String> emptyList(), 0, Collections.<String> emptyList());
+		assertEquals(summary, TaskDataDiffSummary.parse(summary.toString()));
+	}
+
+	public void testParseInvalid() {
+		assertNull(TaskDataDiffSummary.parse(null));
+		assertNull(TaskDataDiffSummary.parse(""));
+		assertNull(TaskDataDiffSummary.parse("a;b"));
+		assertNull(TaskDataDiffSummary.parse("a;x;b"));
+		assertNull(TaskDataDiffSummary.parse("a%;1;b"));
+	}
+
+}
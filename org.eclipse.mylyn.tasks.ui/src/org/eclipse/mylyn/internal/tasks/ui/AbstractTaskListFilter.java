@@ -27,6 +27,20 @@ import org.eclipse.mylyn.tasks.core.ITaskContainer;
 // XXX duplicate implementation in hasDescendantIncoming/hasIncompleteDescendant: consider replacing this by a visitor
 public abstract class AbstractTaskListFilter {
 
+	/**
+	 * Cost of filters that only inspect attributes of the element.
+	 */
+	public static final int COST_LOW = 10;
+
+	public static final int COST_DEFAULT = 50;
+
+	/**
+	 * Cost of filters that inspect descendants or the activity of elements.
+	 */
+	public static final int COST_HIGH = 100;
+
+	private volatile int modificationCount;
+
 	/**
 	 * Given an element in the task list to filter against, determines whether or not it should be filtered away or if
 	 * it should be kept within view.
@@ -47,6 +61,42 @@ public abstract class AbstractTaskListFilter {
 		return false;
 	}
 
+	/**
+	 * Returns an estimate of the cost of {@link #select(Object, Object)} relative to other filters. Filters with a lower
+	 * cost are applied first so that expensive filters are skipped for elements that are already filtered.
+	 *
+	 * @return one of {@link #COST_LOW}, {@link #COST_DEFAULT} or {@link #COST_HIGH}
+	 */
+	public int getCost() {
+		return COST_DEFAULT;
+	}
+
+	/**
+	 * Returns true, if the result of {@link #select(Object, Object)} depends on the current time, e.g. on whether a
+	 * task is scheduled for today. Results of such filters are not memoized.
+	 */
+	public boolean isTimeDependent() {
+		return false;
+	}
+
+	/**
+	 * Returns a counter that is incremented whenever a setting of the filter changes the result of
+	 * {@link #select(Object, Object)}.
+	 *
+	 * @see #settingsChanged()
+	 */
+	public int getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Needs to be invoked by subclasses when a setting changes that affects the result of
+	 * {@link #select(Object, Object)}.
+	 */
+	protected void settingsChanged() {
+		modificationCount++;
+	}
+
 	/**
 	 * NOTE: performance implication of looking down children TODO: Move to an internal utility class
 	 */
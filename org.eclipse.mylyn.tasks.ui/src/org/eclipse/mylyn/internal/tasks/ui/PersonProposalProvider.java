@@ -13,9 +13,7 @@
 package org.eclipse.mylyn.internal.tasks.ui;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +26,7 @@ import org.eclipse.jface.fieldassist.IContentProposalProvider;
 import org.eclipse.mylyn.commons.net.AuthenticationCredentials;
 import org.eclipse.mylyn.commons.net.AuthenticationType;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
+import org.eclipse.mylyn.internal.tasks.core.PeopleDirectory;
 import org.eclipse.mylyn.tasks.core.IRepositoryPerson;
 import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
@@ -234,9 +233,8 @@ public class PersonProposalProvider implements IContentProposalProvider {
 		}
 
 		if (repositoryUrl != null && connectorKind != null) {
-			Set<AbstractTask> tasks = new HashSet<AbstractTask>();
 			if (currentTask != null) {
-				tasks.add(currentTask);
+				addAddresses(currentTask, addressSet);
 			}
 
 			currentUser = getCurrentUser(repositoryUrl, connectorKind);
@@ -244,16 +242,13 @@ public class PersonProposalProvider implements IContentProposalProvider {
 				addressSet.add(currentUser);
 			}
 
-			Collection<AbstractTask> allTasks = TasksUiPlugin.getTaskList().getAllTasks();
-			for (AbstractTask task : allTasks) {
-				if (repositoryUrl.equals(task.getRepositoryUrl())) {
-					tasks.add(task);
+			PeopleDirectory peopleDirectory = TasksUiPlugin.getDefault().getPeopleDirectory();
+			addressSet.addAll(peopleDirectory.getPeople(repositoryUrl, "")); //$NON-NLS-1$
+			for (Map.Entry<String, String> entry : peopleDirectory.getNames(repositoryUrl).entrySet()) {
+				if (!proposals.containsKey(entry.getKey())) {
+					proposals.put(entry.getKey(), entry.getValue());
 				}
 			}
-
-			for (ITask task : tasks) {
-				addAddresses(task, addressSet);
-			}
 		}
 
 		return addressSet;
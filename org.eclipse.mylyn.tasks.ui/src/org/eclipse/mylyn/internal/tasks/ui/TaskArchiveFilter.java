@@ -20,6 +20,11 @@ import org.eclipse.mylyn.internal.tasks.core.UnsubmittedTaskContainer;
  */
 public class TaskArchiveFilter extends AbstractTaskListFilter {
 
+	@Override
+	public int getCost() {
+		return COST_LOW;
+	}
+
 	@Override
 	public boolean select(Object parent, Object element) {
 		if (element instanceof UnmatchedTaskContainer) {
@@ -23,6 +23,11 @@ import org.eclipse.mylyn.tasks.core.ITask;
  */
 public class TaskCompletionFilter extends AbstractTaskListFilter {
 
+	@Override
+	public int getCost() {
+		return COST_LOW;
+	}
+
 	@Override
 	public boolean select(Object parent, Object element) {
 		if (element instanceof AbstractTask) {
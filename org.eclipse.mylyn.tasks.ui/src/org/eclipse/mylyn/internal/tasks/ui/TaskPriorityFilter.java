@@ -31,7 +31,15 @@ public class TaskPriorityFilter extends AbstractTaskListFilter {
 	}
 
 	public void displayPrioritiesAbove(String level) {
-		priorityLevel = level;
+		if (!level.equals(priorityLevel)) {
+			priorityLevel = level;
+			settingsChanged();
+		}
+	}
+
+	@Override
+	public int getCost() {
+		return COST_LOW;
 	}
 
 	@Override
@@ -22,6 +22,11 @@ import org.eclipse.mylyn.tasks.core.ITask;
  * @author Vaughan Hilts
  */
 public class TaskReviewArtifactFilter extends AbstractTaskListFilter {
+	@Override
+	public int getCost() {
+		return COST_LOW;
+	}
+
 	@Override
 	public boolean select(Object parent, Object element) {
 		if (element instanceof ITask) {
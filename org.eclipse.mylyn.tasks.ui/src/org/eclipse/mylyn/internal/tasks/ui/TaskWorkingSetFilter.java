@@ -126,6 +126,7 @@ public class TaskWorkingSetFilter extends AbstractTaskListFilter {
 		IAdaptable[] newElements = currentWorkingSet.getElements();
 		if (!Arrays.equals(this.elements, newElements)) {
 			this.elements = newElements;
+			settingsChanged();
 			return true;
 		}
 		return false;
@@ -69,6 +69,7 @@ import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.IRepositoryModelListener;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.LocalRepositoryConnector;
+import org.eclipse.mylyn.internal.tasks.core.PeopleDirectory;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryExternalizationParticipant;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryTemplateManager;
@@ -86,6 +87,7 @@ import org.eclipse.mylyn.internal.tasks.core.externalization.IExternalizationPar
 import org.eclipse.mylyn.internal.tasks.core.externalization.TaskActivationExternalizationParticipant;
 import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListExternalizationParticipant;
 import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListExternalizer;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationMetrics;
 import org.eclipse.mylyn.internal.tasks.core.util.RepositoryConnectorLoader;
 import org.eclipse.mylyn.internal.tasks.core.util.TaskRepositoryKeyringMigrator;
 import org.eclipse.mylyn.internal.tasks.core.util.TaskRepositorySecureStoreMigrator;
@@ -325,6 +327,8 @@ public class TasksUiPlugin extends AbstractUIPlugin {
 
 	private SynchronizationManger synchronizationManger;
 
+	private PeopleDirectory peopleDirectory;
+
 	private RepositoryConnectorLoader connectorLoader;
 
 	private TaskListScheduledSynchronizationManager synchronizationManager;
@@ -559,6 +563,14 @@ public class TasksUiPlugin extends AbstractUIPlugin {
 			synchronizationManger = new SynchronizationManger(repositoryModel);
 			taskDataManager = new TaskDataManager(taskDataStore, repositoryManager, taskList, taskActivityManager,
 					synchronizationManger);
+			SynchronizationMetrics.setDefault(taskDataManager.getSynchronizationMetrics());
+			if (Boolean.getBoolean(ITasksCoreConstants.PROPERTY_SYNCHRONIZATION_METRICS_JMX)) {
+				taskDataManager.getSynchronizationMetrics().registerMBean();
+			}
+
+			peopleDirectory = new PeopleDirectory(taskList, taskDataManager);
+			taskList.addChangeListener(peopleDirectory);
+			taskDataManager.addListener(peopleDirectory);
 
 			taskJobFactory = new TaskJobFactory(taskList, taskDataManager, repositoryManager, repositoryModel);
 
@@ -780,6 +792,10 @@ public class TasksUiPlugin extends AbstractUIPlugin {
 			if (taskActivityMonitor != null) {
 				taskActivityMonitor.stop();
 			}
+			if (taskDataManager != null) {
+				taskDataManager.getSynchronizationMetrics().unregisterMBean();
+				SynchronizationMetrics.setDefault(null);
+			}
 
 			if (ResourcesPlugin.getWorkspace() != null) {
 				ResourcesPlugin.getWorkspace().removeSaveParticipant(this);
@@ -908,6 +924,7 @@ public class TasksUiPlugin extends AbstractUIPlugin {
 		getContextStore().setDirectory(new File(getDataDirectory(), "tasks")); //$NON-NLS-1$
 
 		externalizationManager.load();
+		peopleDirectory.clear();
 		// TODO: Move management of template repositories to TaskRepositoryManager
 		loadTemplateRepositories();
 
@@ -1438,6 +1455,10 @@ public class TasksUiPlugin extends AbstractUIPlugin {
 		return synchronizationManger;
 	}
 
+	public PeopleDirectory getPeopleDirectory() {
+		return peopleDirectory;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked", "restriction" })
 	public IIdentityService getIdentityService() {
 		if (identityServiceTracker == null) {
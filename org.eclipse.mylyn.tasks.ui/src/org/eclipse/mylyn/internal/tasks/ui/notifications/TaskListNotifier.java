@@ -23,9 +23,11 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.commons.core.StatusHandler;
 import org.eclipse.mylyn.commons.notifications.ui.AbstractUiNotification;
+import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.data.ITaskDataManagerListener;
 import org.eclipse.mylyn.internal.tasks.core.data.SynchronizationManger;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataDiff;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataDiffSummary;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
 import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManagerEvent;
 import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizeTasksJob;
@@ -77,6 +79,10 @@ public class TaskListNotifier implements ITaskDataManagerListener, ITaskListNoti
 
 	}
 
+	/**
+	 * Computes the diff between the repository data and the last read data of <code>task</code>. This requires
+	 * reading the task data of <code>task</code>.
+	 */
 	public TaskDataDiff getDiff(ITask task) {
 		ITaskDataWorkingCopy workingCopy;
 		try {
@@ -113,13 +119,32 @@ public class TaskListNotifier implements ITaskDataManagerListener, ITaskListNoti
 		SynchronizationState state = task.getSynchronizationState();
 		String notificationText = null;
 		if (state.isIncoming()) {
-			notificationText = computeNotificationText(task);
+			// use the diff that was computed while task data was updated to avoid reading task data again
+			TaskDataDiff diff = event.getDiff();
+			if (diff != null) {
+				notificationText = computeNotificationText(diff);
+			} else {
+				notificationText = computeNotificationText(task);
+			}
 		}
 		task.setAttribute(KEY_INCOMING_NOTIFICATION_TEXT, notificationText);
 	}
 
 	public String computeNotificationText(ITask task) {
-		TaskDataDiff diff = getDiff(task);
+		TaskDataDiffSummary summary = taskDataManager.getDiffSummary(task);
+		if (summary != null && !summary.hasChanged()) {
+			// no need to read task data
+			return null;
+		}
+		if (summary == null
+				&& Boolean.parseBoolean(task.getAttribute(ITasksCoreConstants.ATTRIBUTE_TASK_SUPPRESS_INCOMING))) {
+			// the last received task data did not differ from the last read task data
+			return null;
+		}
+		return computeNotificationText(getDiff(task));
+	}
+
+	private String computeNotificationText(TaskDataDiff diff) {
 		if (diff != null && diff.hasChanged()) {
 			return TaskDiffUtil.toString(diff, true);
 		}
@@ -53,6 +53,11 @@ public class PresentationFilter extends AbstractTaskListFilter {
 		return filterNonMatching;
 	}
 
+	@Override
+	public int getCost() {
+		return COST_LOW;
+	}
+
 	@Override
 	public boolean select(Object parent, Object element) {
 		if (element instanceof IRepositoryQuery) {
@@ -89,11 +94,17 @@ public class PresentationFilter extends AbstractTaskListFilter {
 	}
 
 	public void setFilterHiddenQueries(boolean enabled) {
-		this.filterHiddenQueries = enabled;
+		if (this.filterHiddenQueries != enabled) {
+			this.filterHiddenQueries = enabled;
+			settingsChanged();
+		}
 	}
 
 	public void setFilterNonMatching(boolean filterSubtasks) {
-		this.filterNonMatching = filterSubtasks;
+		if (this.filterNonMatching != filterSubtasks) {
+			this.filterNonMatching = filterSubtasks;
+			settingsChanged();
+		}
 	}
 
 	public void updateSettings() {
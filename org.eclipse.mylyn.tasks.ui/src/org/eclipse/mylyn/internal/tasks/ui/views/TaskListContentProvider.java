@@ -24,15 +24,20 @@ import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTaskCategory;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTaskContainer;
+import org.eclipse.mylyn.internal.tasks.core.ITaskListChangeListener;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.TaskCategory;
+import org.eclipse.mylyn.internal.tasks.core.TaskContainerDelta;
 import org.eclipse.mylyn.internal.tasks.core.UnmatchedTaskContainer;
 import org.eclipse.mylyn.internal.tasks.ui.AbstractTaskListFilter;
 import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
+import org.eclipse.mylyn.internal.tasks.ui.editors.TaskListChangeAdapter;
 import org.eclipse.mylyn.tasks.core.IRepositoryElement;
 import org.eclipse.mylyn.tasks.core.IRepositoryQuery;
 import org.eclipse.mylyn.tasks.core.ITask;
+import org.eclipse.mylyn.tasks.core.ITaskActivationListener;
 import org.eclipse.mylyn.tasks.core.ITaskContainer;
+import org.eclipse.mylyn.tasks.core.TaskActivationAdapter;
 
 /**
  * Provides custom content for the task list, e.g. guaranteed visibility of some elements, ability to suppress
@@ -45,8 +50,38 @@ public class TaskListContentProvider extends AbstractTaskListContentProvider {
 
 	protected static Object[] EMPTY_ARRRY = new Object[0];
 
+	private final TaskListFilterEngine filterEngine = new TaskListFilterEngine();
+
+	private final ITaskListChangeListener taskListListener = new TaskListChangeAdapter() {
+		@Override
+		public void containersChanged(Set<TaskContainerDelta> deltas) {
+			for (TaskContainerDelta delta : deltas) {
+				if (delta.getKind() == TaskContainerDelta.Kind.ROOT) {
+					filterEngine.clear();
+				} else {
+					filterEngine.invalidate(delta.getElement());
+					filterEngine.invalidate(delta.getParent());
+				}
+			}
+		}
+	};
+
+	private final ITaskActivationListener taskActivationListener = new TaskActivationAdapter() {
+		@Override
+		public void taskActivated(ITask task) {
+			filterEngine.invalidate(task);
+		}
+
+		@Override
+		public void taskDeactivated(ITask task) {
+			filterEngine.invalidate(task);
+		}
+	};
+
 	public TaskListContentProvider(AbstractTaskListView taskListView) {
 		super(taskListView);
+		TasksUiPlugin.getTaskList().addChangeListener(taskListListener);
+		TasksUiPlugin.getTaskActivityManager().addActivationListener(taskActivationListener);
 	}
 
 	public void inputChanged(Viewer v, Object oldInput, Object newInput) {
@@ -54,10 +89,13 @@ public class TaskListContentProvider extends AbstractTaskListContentProvider {
 	}
 
 	public void dispose() {
+		TasksUiPlugin.getTaskList().removeChangeListener(taskListListener);
+		TasksUiPlugin.getTaskActivityManager().removeActivationListener(taskActivationListener);
 	}
 
 	public Object[] getElements(Object parent) {
 		if (parent.equals(this.taskListView.getViewSite())) {
+			compileFilters();
 			return applyFilter(TasksUiPlugin.getTaskList().getRootElements()).toArray();
 		}
 		return getChildren(parent);
@@ -192,16 +230,19 @@ public class TaskListContentProvider extends AbstractTaskListContentProvider {
 		return result;
 	}
 
+	/**
+	 * Compiles the filters of the view and discards the results of previous evaluations. Invoked when the viewer is
+	 * refreshed from the root since filter settings or the filter text may have changed.
+	 */
+	protected void compileFilters() {
+		filterEngine.compile(this.taskListView.getFilters(), isSearching());
+	}
+
 	protected boolean filter(Object parent, Object object) {
-		boolean notSearching = containsNoFilterText(this.taskListView.getFilteredTree().getFilterString());
-		for (AbstractTaskListFilter filter : this.taskListView.getFilters()) {
-			if (notSearching || filter.applyToFilteredText()) {
-				if (!filter.select(parent, object)) {
-					return true;
-				}
-			}
+		if (!filterEngine.isCompiled(this.taskListView.getFilters())) {
+			compileFilters();
 		}
-		return false;
+		return filterEngine.isFiltered(parent, object);
 	}
 
 	protected boolean filter(TreePath path, Object parent, Object object) {
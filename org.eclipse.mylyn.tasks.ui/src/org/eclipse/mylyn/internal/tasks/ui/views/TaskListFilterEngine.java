@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.ui.views;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
+import org.eclipse.mylyn.internal.tasks.core.AbstractTaskContainer;
+import org.eclipse.mylyn.internal.tasks.ui.AbstractTaskListFilter;
+
+/**
+ * Evaluates the filters of a task list as a single predicate. The filters that apply are compiled into a pipeline
+ * that runs cheap filters first and, among filters of equal cost, the filters that rejected the most elements during
+ * previous passes. The result for an element is memoized per parent until the element is invalidated, the filters
+ * are compiled again or the settings of a compiled filter change. Results that depend on a time dependent filter are
+ * not memoized.
+ */
+public class TaskListFilterEngine {
+
+	private static class FilterStatistics {
+
+		long evaluated;
+
+		long rejected;
+
+		double getSelectivity() {
+			return (evaluated == 0) ? 0 : (double) rejected / evaluated;
+		}
+
+	}
+
+	private Set<AbstractTaskListFilter> compiledFilters;
+
+	private AbstractTaskListFilter[] modifiableFilters = new AbstractTaskListFilter[0];
+
+	private int[] modificationCounts = new int[0];
+
+	private AbstractTaskListFilter[] pipeline = new AbstractTaskListFilter[0];
+
+	private FilterStatistics[] pipelineStatistics = new FilterStatistics[0];
+
+	private final Map<AbstractTaskListFilter, FilterStatistics> statistics = new HashMap<AbstractTaskListFilter, FilterStatistics>();
+
+	// maps elements to the results for each parent, the parent may be null
+	private final Map<Object, Map<Object, Boolean>> results = new HashMap<Object, Map<Object, Boolean>>();
+
+	private int generation;
+
+	/**
+	 * Compiles <code>filters</code> into the pipeline used by {@link #isFiltered(Object, Object)} and discards all
+	 * memoized results.
+	 *
+	 * @param searching
+	 *            if true, only filters that apply to filtered text are included
+	 */
+	public synchronized void compile(Collection<AbstractTaskListFilter> filters, boolean searching) {
+		compiledFilters = new HashSet<AbstractTaskListFilter>(filters);
+		List<AbstractTaskListFilter> activeFilters = new ArrayList<AbstractTaskListFilter>(filters.size());
+		for (AbstractTaskListFilter filter : filters) {
+			if (!searching || filter.applyToFilteredText()) {
+				activeFilters.add(filter);
+				if (!statistics.containsKey(filter)) {
+					statistics.put(filter, new FilterStatistics());
+				}
+			}
+		}
+		statistics.keySet().retainAll(compiledFilters);
+		final Map<AbstractTaskListFilter, Double> selectivity = new HashMap<AbstractTaskListFilter, Double>();
+		for (AbstractTaskListFilter filter : activeFilters) {
+			selectivity.put(filter, statistics.get(filter).getSelectivity());
+		}
+		Collections.sort(activeFilters, new Comparator<AbstractTaskListFilter>() {
+			public int compare(AbstractTaskListFilter o1, AbstractTaskListFilter o2) {
+				if (o1.getCost() != o2.getCost()) {
+					return (o1.getCost() < o2.getCost()) ? -1 : 1;
+				}
+				return Double.compare(selectivity.get(o2), selectivity.get(o1));
+			}
+		});
+		pipeline = activeFilters.toArray(new AbstractTaskListFilter[activeFilters.size()]);
+		pipelineStatistics = new FilterStatistics[pipeline.length];
+		for (int i = 0; i < pipeline.length; i++) {
+			pipelineStatistics[i] = statistics.get(pipeline[i]);
+		}
+		modifiableFilters = compiledFilters.toArray(new AbstractTaskListFilter[compiledFilters.size()]);
+		modificationCounts = new int[modifiableFilters.length];
+		for (int i = 0; i < modifiableFilters.length; i++) {
+			modificationCounts[i] = modifiableFilters[i].getModificationCount();
+		}
+		clear();
+	}
+
+	/**
+	 * Returns true, if the pipeline was compiled from the same filters as <code>filters</code>.
+	 */
+	public synchronized boolean isCompiled(Set<AbstractTaskListFilter> filters) {
+		return compiledFilters != null && compiledFilters.equals(filters);
+	}
+
+	/**
+	 * Returns true, if any of the compiled filters rejects <code>element</code>.
+	 */
+	public boolean isFiltered(Object parent, Object element) {
+		AbstractTaskListFilter[] filters;
+		FilterStatistics[] filterStatistics;
+		int startGeneration;
+		synchronized (this) {
+			checkModifications();
+			Map<Object, Boolean> resultByParent = results.get(element);
+			if (resultByParent != null) {
+				Boolean result = resultByParent.get(parent);
+				if (result != null) {
+					return result;
+				}
+			}
+			filters = pipeline;
+			filterStatistics = pipelineStatistics;
+			startGeneration = generation;
+		}
+
+		// evaluate without holding the lock since filters may access the task list, the statistics are only an
+		// estimate and are updated without synchronization
+		boolean filtered = false;
+		boolean timeDependent = false;
+		for (int i = 0; i < filters.length; i++) {
+			filterStatistics[i].evaluated++;
+			timeDependent |= filters[i].isTimeDependent();
+			if (!filters[i].select(parent, element)) {
+				filterStatistics[i].rejected++;
+				filtered = true;
+				break;
+			}
+		}
+
+		if (timeDependent) {
+			return filtered;
+		}
+
+		synchronized (this) {
+			// do not memoize a result that may predate a concurrent change
+			checkModifications();
+			if (startGeneration == generation) {
+				Map<Object, Boolean> resultByParent = results.get(element);
+				if (resultByParent == null) {
+					resultByParent = new HashMap<Object, Boolean>(2);
+					results.put(element, resultByParent);
+				}
+				resultByParent.put(parent, filtered);
+			}
+		}
+		return filtered;
+	}
+
+	private void checkModifications() {
+		for (int i = 0; i < modifiableFilters.length; i++) {
+			int modificationCount = modifiableFilters[i].getModificationCount();
+			if (modificationCount != modificationCounts[i]) {
+				modificationCounts[i] = modificationCount;
+				clear();
+			}
+		}
+	}
+
+	/**
+	 * Discards the memoized results for <code>element</code> and for the containers that include it since the
+	 * result for a container may depend on its descendants.
+	 */
+	public synchronized void invalidate(Object element) {
+		generation++;
+		invalidate(element, new HashSet<Object>());
+	}
+
+	private void invalidate(Object element, Set<Object> visited) {
+		if (element == null || !visited.add(element)) {
+			return;
+		}
+		results.remove(element);
+		if (element instanceof AbstractTask) {
+			for (AbstractTaskContainer container : ((AbstractTask) element).getParentContainers()) {
+				invalidate(container, visited);
+			}
+		}
+	}
+
+	/**
+	 * Discards all memoized results.
+	 */
+	public synchronized void clear() {
+		generation++;
+		results.clear();
+	}
+
+}
@@ -39,6 +39,16 @@ import org.eclipse.mylyn.tasks.core.ITaskContainer;
  */
 public class TaskListInterestFilter extends AbstractTaskListFilter {
 
+	@Override
+	public int getCost() {
+		return COST_HIGH;
+	}
+
+	@Override
+	public boolean isTimeDependent() {
+		return true;
+	}
+
 	@Override
 	public boolean select(Object parent, Object child) {
 		try {
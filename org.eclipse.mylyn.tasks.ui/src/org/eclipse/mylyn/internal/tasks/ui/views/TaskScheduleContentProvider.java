@@ -16,8 +16,10 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,16 +30,21 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTaskContainer;
 import org.eclipse.mylyn.internal.tasks.core.DateRange;
+import org.eclipse.mylyn.internal.tasks.core.ITaskListChangeListener;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.ScheduledTaskContainer;
 import org.eclipse.mylyn.internal.tasks.core.TaskActivityManager;
 import org.eclipse.mylyn.internal.tasks.core.TaskActivityUtil;
+import org.eclipse.mylyn.internal.tasks.core.TaskContainerDelta;
 import org.eclipse.mylyn.internal.tasks.core.WeekDateRange;
 import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
+import org.eclipse.mylyn.internal.tasks.ui.editors.TaskListChangeAdapter;
 import org.eclipse.mylyn.tasks.core.IRepositoryElement;
 import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.ITask.SynchronizationState;
+import org.eclipse.mylyn.tasks.core.ITaskActivationListener;
 import org.eclipse.mylyn.tasks.core.ITaskActivityListener;
+import org.eclipse.mylyn.tasks.core.TaskActivationAdapter;
 import org.eclipse.ui.PlatformUI;
 
 /**
@@ -67,10 +74,53 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 
 	private final Completed completed;
 
+	/**
+	 * Caches the children of scheduled containers by date range until the next change to the task list or the active
+	 * task. Guarded by itself.
+	 */
+	private final Map<DateRange, Collection<ITask>> scheduledChildren = new HashMap<DateRange, Collection<ITask>>();
+
+	private int scheduledChildrenGeneration;
+
+	private final ITaskListChangeListener taskListListener = new TaskListChangeAdapter() {
+		@Override
+		public void containersChanged(Set<TaskContainerDelta> deltas) {
+			for (TaskContainerDelta delta : deltas) {
+				if (delta.getKind() == TaskContainerDelta.Kind.ROOT) {
+					for (StateTaskContainer container : getStateContainers()) {
+						container.invalidate();
+					}
+				} else if (delta.getElement() instanceof ITask) {
+					ITask task = (ITask) delta.getElement();
+					boolean removed = delta.getKind() == TaskContainerDelta.Kind.DELETED
+							|| TasksUiPlugin.getTaskList().getTask(task.getHandleIdentifier()) == null;
+					for (StateTaskContainer container : getStateContainers()) {
+						container.update(task, removed);
+					}
+				}
+			}
+			clearScheduledChildren();
+		}
+	};
+
+	private final ITaskActivationListener taskActivationListener = new TaskActivationAdapter() {
+		@Override
+		public void taskActivated(ITask task) {
+			// the active task is always shown in the Today bin
+			clearScheduledChildren();
+		}
+
+		@Override
+		public void taskDeactivated(ITask task) {
+			clearScheduledChildren();
+		}
+	};
+
 	public TaskScheduleContentProvider(AbstractTaskListView taskListView) {
 		super(taskListView);
 		this.taskActivityManager = TasksUiPlugin.getTaskActivityManager();
 		taskActivityManager.addActivityListener(this);
+		taskActivityManager.addActivationListener(taskActivationListener);
 		END_OF_TIME = TaskActivityUtil.getCalendar();
 		END_OF_TIME.add(Calendar.YEAR, 5000);
 		END_OF_TIME.getTime();
@@ -89,12 +139,48 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 		COMPLETED_TIME.setTimeInMillis(END_OF_TIME.getTimeInMillis() + 2);
 		completed = new Completed();
 
+		TasksUiPlugin.getTaskList().addChangeListener(taskListListener);
+	}
+
+	private StateTaskContainer[] getStateContainers() {
+		return new StateTaskContainer[] { unscheduled, incoming, outgoing, completed };
+	}
+
+	private void clearScheduledChildren() {
+		synchronized (scheduledChildren) {
+			scheduledChildren.clear();
+			scheduledChildrenGeneration++;
+		}
+	}
+
+	private Collection<ITask> getScheduledChildren(ScheduledTaskContainer container) {
+		if (container instanceof StateTaskContainer) {
+			// maintained incrementally
+			return container.getChildren();
+		}
+		int generation;
+		synchronized (scheduledChildren) {
+			Collection<ITask> children = scheduledChildren.get(container.getDateRange());
+			if (children != null) {
+				return children;
+			}
+			generation = scheduledChildrenGeneration;
+		}
+		Collection<ITask> children = Collections.unmodifiableCollection(container.getChildren());
+		synchronized (scheduledChildren) {
+			// do not cache a result that may predate a concurrent change
+			if (generation == scheduledChildrenGeneration) {
+				scheduledChildren.put(container.getDateRange(), children);
+			}
+		}
+		return children;
 	}
 
 	@Override
 	public Object[] getElements(Object parent) {
 
 		if (parent != null && parent.equals(this.taskListView.getViewSite())) {
+			compileFilters();
 			Set<AbstractTaskContainer> containers = new HashSet<AbstractTaskContainer>();
 			WeekDateRange week = TaskActivityUtil.getCurrentWeek();
 			WeekDateRange nextWeek = TaskActivityUtil.getNextWeek();
@@ -183,7 +269,7 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 			return Collections.emptyList();
 		} else if (parent instanceof ScheduledTaskContainer) {
 			// always apply working set filter
-			Collection<ITask> children = ((ScheduledTaskContainer) parent).getChildren();
+			Collection<ITask> children = getScheduledChildren((ScheduledTaskContainer) parent);
 			List<IRepositoryElement> result = new ArrayList<IRepositoryElement>(children.size());
 			for (ITask child : children) {
 				if (!filter(parent, child)) {
@@ -236,10 +322,13 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 			}
 		}
 		taskActivityManager.removeActivityListener(this);
+		taskActivityManager.removeActivationListener(taskActivationListener);
+		TasksUiPlugin.getTaskList().removeChangeListener(taskListListener);
 		super.dispose();
 	}
 
 	public void activityReset() {
+		clearScheduledChildren();
 		refresh();
 	}
 
@@ -270,21 +359,49 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 
 		Calendar temp = TaskActivityUtil.getCalendar();
 
+		/**
+		 * The tasks that match {@link #select(ITask)}, <code>null</code> if not computed yet. Built with a single scan
+		 * of the task list and maintained from task list changes afterwards.
+		 */
+		private Set<ITask> members;
+
 		public StateTaskContainer(DateRange range, String summary) {
 			super(taskActivityManager, range, summary, summary);
 		}
 
 		@Override
-		public Collection<ITask> getChildren() {
+		public synchronized Collection<ITask> getChildren() {
+			if (members == null) {
+				members = new HashSet<ITask>();
+				for (ITask task : TasksUiPlugin.getTaskList().getAllTasks()) {
+					if (select(task)) {
+						members.add(task);
+					}
+				}
+			}
 			Set<ITask> children = new HashSet<ITask>();
-			for (ITask task : TasksUiPlugin.getTaskList().getAllTasks()) {
-				if (select(task) && include(task)) {
+			for (ITask task : members) {
+				if (include(task)) {
 					children.add(task);
 				}
 			}
 			return children;
 		}
 
+		synchronized void update(ITask task, boolean removed) {
+			if (members != null) {
+				if (!removed && select(task)) {
+					members.add(task);
+				} else {
+					members.remove(task);
+				}
+			}
+		}
+
+		synchronized void invalidate() {
+			members = null;
+		}
+
 		private boolean include(ITask task) {
 			// ensure that completed tasks always show somewhere
 			if (task.isCompleted()) {
@@ -381,6 +498,7 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
+			clearScheduledChildren();
 			refresh();
 			return Status.OK_STATUS;
 		}
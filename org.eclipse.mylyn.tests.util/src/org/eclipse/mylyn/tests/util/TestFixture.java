@@ -70,6 +70,7 @@ public abstract class TestFixture {
 		TasksUi.getTaskActivityManager().deactivateActiveTask();
 		TasksUiPlugin.getTaskListExternalizationParticipant().resetTaskList();
 		TasksUiPlugin.getTaskActivityManager().getTaskActivationHistory().clear();
+		TasksUiPlugin.getDefault().getPeopleDirectory().clear();
 		TaskListView view = TaskListView.getFromActivePerspective();
 		if (view != null) {
 			view.refresh();
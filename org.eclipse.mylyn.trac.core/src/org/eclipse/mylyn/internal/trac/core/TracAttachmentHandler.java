@@ -53,7 +53,7 @@ public class TracAttachmentHandler extends AbstractTaskAttachmentHandler {
 
 		monitor = Policy.monitorFor(monitor);
 		try {
-			monitor.beginTask(Messages.TracAttachmentHandler_Downloading_attachment, IProgressMonitor.UNKNOWN);
+			monitor.beginTask(Messages.TracAttachmentHandler_Downloading_attachment, getTotalWork(mapper.getLength()));
 			ITracClient client = connector.getClientManager().getTracClient(repository);
 			int id = Integer.parseInt(task.getTaskId());
 			return client.getAttachmentData(id, filename, monitor);
@@ -78,7 +78,7 @@ public class TracAttachmentHandler extends AbstractTaskAttachmentHandler {
 		UnsubmittedTaskAttachment attachment = new UnsubmittedTaskAttachment(source, attachmentAttribute);
 		monitor = Policy.monitorFor(monitor);
 		try {
-			monitor.beginTask(Messages.TracAttachmentHandler_Uploading_attachment, IProgressMonitor.UNKNOWN);
+			monitor.beginTask(Messages.TracAttachmentHandler_Uploading_attachment, getTotalWork(source.getLength()));
 			try {
 				ITracClient client = connector.getClientManager().getTracClient(repository);
 				int id = Integer.parseInt(task.getTaskId());
@@ -98,6 +98,16 @@ public class TracAttachmentHandler extends AbstractTaskAttachmentHandler {
 		}
 	}
 
+	/**
+	 * Returns the work for transferring <code>length</code> bytes since the client reports progress in bytes.
+	 */
+	private int getTotalWork(Long length) {
+		if (length != null && length > 0 && length <= Integer.MAX_VALUE) {
+			return length.intValue();
+		}
+		return IProgressMonitor.UNKNOWN;
+	}
+
 	@Override
 	public boolean canGetContent(TaskRepository repository, ITask task) {
 		return TracRepositoryConnector.hasAttachmentSupport(repository, task);
@@ -27,6 +27,7 @@ import org.eclipse.mylyn.commons.net.AbstractWebLocation;
 import org.eclipse.mylyn.internal.trac.core.client.ITracClient;
 import org.eclipse.mylyn.internal.trac.core.client.ITracClient.Version;
 import org.eclipse.mylyn.internal.trac.core.client.TracClientData;
+import org.eclipse.mylyn.internal.trac.core.client.TracXmlRpcClient;
 import org.eclipse.mylyn.tasks.core.IRepositoryListener;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
 import org.eclipse.mylyn.tasks.core.TaskRepositoryLocationFactory;
@@ -38,6 +39,16 @@ import org.eclipse.mylyn.tasks.core.TaskRepositoryLocationFactory;
  */
 public class TracClientManager implements IRepositoryListener {
 
+	/**
+	 * Repository property that specifies the number of tickets retrieved per multicall when performing queries.
+	 */
+	public static final String PROPERTY_SEARCH_BATCH_SIZE = "trac.search.batchSize"; //$NON-NLS-1$
+
+	/**
+	 * Repository property that specifies the number of multicalls sent at once when performing queries.
+	 */
+	public static final String PROPERTY_SEARCH_CONCURRENCY = "trac.search.concurrency"; //$NON-NLS-1$
+
 	private final Map<String, ITracClient> clientByUrl = new HashMap<String, ITracClient>();
 
 	private final Map<String, TracClientData> clientDataByUrl = new HashMap<String, TracClientData>();
@@ -58,6 +69,13 @@ public class TracClientManager implements IRepositoryListener {
 		if (repository == null) {
 			AbstractWebLocation location = taskRepositoryLocationFactory.createWebLocation(taskRepository);
 			repository = TracClientFactory.createClient(location, Version.fromVersion(taskRepository.getVersion()));
+			if (repository instanceof TracXmlRpcClient) {
+				TracXmlRpcClient client = (TracXmlRpcClient) repository;
+				client.setSearchBatchSize(getIntProperty(taskRepository, PROPERTY_SEARCH_BATCH_SIZE,
+						TracXmlRpcClient.DEFAULT_SEARCH_BATCH_SIZE));
+				client.setSearchConcurrency(getIntProperty(taskRepository, PROPERTY_SEARCH_CONCURRENCY,
+						TracXmlRpcClient.DEFAULT_SEARCH_CONCURRENCY));
+			}
 			clientByUrl.put(taskRepository.getRepositoryUrl(), repository);
 
 			TracClientData data = clientDataByUrl.get(taskRepository.getRepositoryUrl());
@@ -70,6 +88,18 @@ public class TracClientManager implements IRepositoryListener {
 		return repository;
 	}
 
+	private int getIntProperty(TaskRepository taskRepository, String key, int defaultValue) {
+		String value = taskRepository.getProperty(key);
+		if (value != null) {
+			try {
+				return Integer.parseInt(value.trim());
+			} catch (NumberFormatException e) {
+				// ignore
+			}
+		}
+		return defaultValue;
+	}
+
 	public void repositoriesRead() {
 		// ignore
 	}
@@ -37,6 +37,7 @@ import org.eclipse.mylyn.internal.trac.core.client.ITracClient;
 import org.eclipse.mylyn.internal.trac.core.client.ITracClient.Version;
 import org.eclipse.mylyn.internal.trac.core.client.ITracWikiClient;
 import org.eclipse.mylyn.internal.trac.core.client.TracException;
+import org.eclipse.mylyn.internal.trac.core.client.TracTicketCollector;
 import org.eclipse.mylyn.internal.trac.core.model.TracComment;
 import org.eclipse.mylyn.internal.trac.core.model.TracPriority;
 import org.eclipse.mylyn.internal.trac.core.model.TracSearch;
@@ -446,8 +447,8 @@ public class TracRepositoryConnector extends AbstractRepositoryConnector {
 	}
 
 	@Override
-	public IStatus performQuery(TaskRepository repository, IRepositoryQuery query, TaskDataCollector resultCollector,
-			ISynchronizationSession session, IProgressMonitor monitor) {
+	public IStatus performQuery(final TaskRepository repository, IRepositoryQuery query,
+			final TaskDataCollector resultCollector, final ISynchronizationSession session, IProgressMonitor monitor) {
 		try {
 			monitor.beginTask(Messages.TracRepositoryConnector_Querying_repository, IProgressMonitor.UNKNOWN);
 
@@ -486,28 +487,34 @@ public class TracRepositoryConnector extends AbstractRepositoryConnector {
 						resultCollector.accept(taskData);
 					}
 				} else {
-					List<TracTicket> tickets = new ArrayList<TracTicket>();
-					client.search(search, tickets, monitor);
-
-					for (TracTicket ticket : tickets) {
-						TaskData taskData = taskDataHandler.createTaskDataFromTicket(client, repository, ticket,
-								monitor);
-						taskData.setPartial(true);
-						if (session != null && !session.isFullSynchronization() && hasRichEditor(repository)) {
-							if (taskById == null) {
-								taskById = new HashMap<String, ITask>();
-								for (ITask task : session.getTasks()) {
-									taskById.put(task.getTaskId(), task);
-								}
+					final ITracClient tracClient = client;
+					final IProgressMonitor progress = monitor;
+					final Map<String, ITask> sessionTaskById = new HashMap<String, ITask>();
+					if (session != null && !session.isFullSynchronization() && hasRichEditor(repository)) {
+						for (ITask task : session.getTasks()) {
+							sessionTaskById.put(task.getTaskId(), task);
+						}
+					}
+					// tickets are converted as they are retrieved to avoid holding all results in memory
+					client.search(search, new TracTicketCollector() {
+						@Override
+						public void accept(TracTicket ticket) throws TracException {
+							TaskData taskData;
+							try {
+								taskData = taskDataHandler.createTaskDataFromTicket(tracClient, repository, ticket,
+										progress);
+							} catch (CoreException e) {
+								throw new TracException(e.getStatus().getMessage(), e);
 							}
+							taskData.setPartial(true);
 							// preSyncronization() only handles full synchronizations
-							ITask task = taskById.get(ticket.getId() + ""); //$NON-NLS-1$
+							ITask task = sessionTaskById.get(ticket.getId() + ""); //$NON-NLS-1$
 							if (task != null && hasTaskChanged(repository, task, taskData)) {
 								session.markStale(task);
 							}
+							resultCollector.accept(taskData);
 						}
-						resultCollector.accept(taskData);
-					}
+					}, monitor);
 				}
 			} catch (OperationCanceledException e) {
 				throw e;
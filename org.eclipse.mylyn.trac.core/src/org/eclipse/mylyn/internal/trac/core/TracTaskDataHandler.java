@@ -29,6 +29,9 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.mylyn.commons.net.Policy;
 import org.eclipse.mylyn.internal.trac.core.client.ITracClient;
 import org.eclipse.mylyn.internal.trac.core.client.InvalidTicketException;
+import org.eclipse.mylyn.internal.trac.core.client.TracException;
+import org.eclipse.mylyn.internal.trac.core.client.TracRemoteException;
+import org.eclipse.mylyn.internal.trac.core.client.TracXmlRpcClient;
 import org.eclipse.mylyn.internal.trac.core.model.TracAction;
 import org.eclipse.mylyn.internal.trac.core.model.TracAttachment;
 import org.eclipse.mylyn.internal.trac.core.model.TracComment;
@@ -49,6 +52,7 @@ import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskAttributeMetaData;
 import org.eclipse.mylyn.tasks.core.data.TaskCommentMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
 import org.eclipse.mylyn.tasks.core.data.TaskMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskOperation;
 import org.eclipse.osgi.util.NLS;
@@ -90,6 +94,57 @@ public class TracTaskDataHandler extends AbstractTaskDataHandler {
 		}
 	}
 
+	@Override
+	public boolean canGetMultiTaskData(TaskRepository repository) {
+		return TracRepositoryConnector.hasRichEditor(repository);
+	}
+
+	@Override
+	public void getMultiTaskData(TaskRepository repository, Set<String> taskIds, TaskDataCollector collector,
+			IProgressMonitor monitor) throws CoreException {
+		monitor = Policy.monitorFor(monitor);
+		try {
+			monitor.beginTask("Task Download", IProgressMonitor.UNKNOWN); //$NON-NLS-1$
+			ITracClient client = connector.getClientManager().getTracClient(repository);
+			if (!(client instanceof TracXmlRpcClient)) {
+				downloadTaskData(repository, taskIds, collector, monitor);
+				return;
+			}
+
+			List<Integer> ids = new ArrayList<Integer>(taskIds.size());
+			for (String taskId : taskIds) {
+				ids.add(TracRepositoryConnector.getTicketId(taskId));
+			}
+			List<TracTicket> tickets;
+			try {
+				// getTickets() updates the attributes of the client if needed
+				tickets = ((TracXmlRpcClient) client).getTickets(ids, monitor);
+			} catch (TracRemoteException e) {
+				// a single ticket that can not be retrieved fails the whole multicall
+				downloadTaskData(repository, taskIds, collector, monitor);
+				return;
+			} catch (TracException e) {
+				throw new CoreException(TracCorePlugin.toStatus(e, repository));
+			}
+			for (TracTicket ticket : tickets) {
+				collector.accept(createTaskDataFromTicket(client, repository, ticket, monitor));
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	private void downloadTaskData(TaskRepository repository, Set<String> taskIds, TaskDataCollector collector,
+			IProgressMonitor monitor) throws CoreException {
+		for (String taskId : taskIds) {
+			try {
+				collector.accept(downloadTaskData(repository, TracRepositoryConnector.getTicketId(taskId), monitor));
+			} catch (CoreException e) {
+				collector.failed(taskId, e.getStatus());
+			}
+		}
+	}
+
 	public TaskData downloadTaskData(TaskRepository repository, int taskId, IProgressMonitor monitor)
 			throws CoreException {
 		ITracClient client = connector.getClientManager().getTracClient(repository);
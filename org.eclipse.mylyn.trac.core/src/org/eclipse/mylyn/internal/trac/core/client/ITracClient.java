@@ -130,6 +130,18 @@ public interface ITracClient {
 	 */
 	void search(TracSearch query, List<TracTicket> result, IProgressMonitor monitor) throws TracException;
 
+	/**
+	 * Queries tickets from repository. Found tickets are passed to <code>collector</code> as they are retrieved.
+	 * 
+	 * @param query
+	 *            the search criteria
+	 * @param collector
+	 *            receives the found tickets
+	 * @throws TracException
+	 *             thrown in case of a connection error or if <code>collector</code> fails
+	 */
+	void search(TracSearch query, TracTicketCollector collector, IProgressMonitor monitor) throws TracException;
+
 	/**
 	 * Queries ticket id from repository. All found tickets are added to <code>result</code>.
 	 * 
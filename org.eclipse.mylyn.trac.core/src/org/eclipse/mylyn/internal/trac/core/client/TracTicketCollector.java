@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.trac.core.client;
+
+import org.eclipse.mylyn.internal.trac.core.model.TracTicket;
+
+/**
+ * Receives tickets as they are retrieved from a repository, e.g. when performing queries.
+ *
+ * @see ITracClient#search(org.eclipse.mylyn.internal.trac.core.model.TracSearch, TracTicketCollector,
+ *      org.eclipse.core.runtime.IProgressMonitor)
+ */
+public abstract class TracTicketCollector {
+
+	public abstract void accept(TracTicket ticket) throws TracException;
+
+}
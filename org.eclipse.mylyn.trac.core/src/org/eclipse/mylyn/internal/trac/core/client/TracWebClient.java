@@ -475,6 +475,15 @@ public class TracWebClient extends AbstractTracClient {
 		}
 	}
 
+	public void search(TracSearch query, TracTicketCollector collector, IProgressMonitor monitor)
+			throws TracException {
+		List<TracTicket> tickets = new ArrayList<TracTicket>();
+		search(query, tickets, monitor);
+		for (TracTicket ticket : tickets) {
+			collector.accept(ticket);
+		}
+	}
+
 	public void search(TracSearch query, List<TracTicket> result, IProgressMonitor monitor) throws TracException {
 		GetMethod method = connect(repositoryUrl + ITracClient.QUERY_URL + query.toUrl(), monitor);
 		try {
@@ -12,20 +12,34 @@
 
 package org.eclipse.mylyn.internal.trac.core.client;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import org.apache.commons.httpclient.Credentials;
@@ -42,6 +56,7 @@ import org.apache.commons.httpclient.auth.DigestScheme;
 import org.apache.commons.httpclient.auth.NTLMScheme;
 import org.apache.commons.httpclient.methods.HeadMethod;
 import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequestConfig;
 import org.apache.xmlrpc.client.XmlRpcClient;
 import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
 import org.apache.xmlrpc.serializer.CharSetXmlWriterFactory;
@@ -82,7 +97,9 @@ import org.eclipse.mylyn.internal.trac.core.model.TracWikiPageInfo;
 import org.eclipse.mylyn.internal.trac.core.util.HttpMethodInterceptor;
 import org.eclipse.mylyn.internal.trac.core.util.TracHttpClientTransportFactory;
 import org.eclipse.mylyn.internal.trac.core.util.TracHttpClientTransportFactory.TracHttpException;
+import org.eclipse.mylyn.internal.trac.core.util.TracTypeFactory;
 import org.eclipse.mylyn.internal.trac.core.util.TracUtil;
+import org.eclipse.mylyn.internal.trac.core.util.TracXmlRpcClientConfig;
 import org.eclipse.mylyn.internal.trac.core.util.TracXmlRpcClientRequest;
 import org.eclipse.osgi.util.NLS;
 
@@ -100,15 +117,37 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 
 	private static final String ERROR_XML_RPC_PRIVILEGES_REQUIRED = "XML_RPC privileges are required to perform this operation"; //$NON-NLS-1$
 
+	/**
+	 * The maximum number of tickets that are retrieved in a single multicall by
+	 * {@link #getTickets(Collection, IProgressMonitor)}.
+	 */
+	public static final int TICKETS_PER_MULTICALL = 50;
+
+	private static final int CALLS_PER_TICKET = 4;
+
+	public static final int DEFAULT_SEARCH_BATCH_SIZE = 100;
+
+	public static final int DEFAULT_SEARCH_CONCURRENCY = 1;
+
 	private class XmlRpcRequest {
 
 		private final String method;
 
 		private final Object[] parameters;
 
+		private final boolean streaming;
+
+		private final OutputStream base64Output;
+
 		public XmlRpcRequest(String method, Object[] parameters) {
+			this(method, parameters, false, null);
+		}
+
+		public XmlRpcRequest(String method, Object[] parameters, boolean streaming, OutputStream base64Output) {
 			this.method = method;
 			this.parameters = parameters;
+			this.streaming = streaming;
+			this.base64Output = base64Output;
 		}
 
 		public Object execute(IProgressMonitor monitor) throws TracException {
@@ -129,24 +168,30 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 
 				// try form-based authentication via AccountManagerPlugin as a
 				// fall-back
-				HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
-				try {
-					authenticateAccountManager(httpClient, hostConfiguration, credentials, monitor);
-				} catch (TracLoginException loginException) {
-					// caused by wrong user name or password
-					throw loginException;
-				} catch (IOException ignore) {
-					accountMangerAuthenticationFailed = true;
-					throw e;
-				}
+				synchronized (authenticationLock) {
+					if (accountMangerAuthenticationFailed) {
+						throw e;
+					}
+					HostConfiguration hostConfiguration = WebUtil.createHostConfiguration(httpClient, location,
+							monitor);
+					try {
+						authenticateAccountManager(httpClient, hostConfiguration, credentials, monitor);
+					} catch (TracLoginException loginException) {
+						// caused by wrong user name or password
+						throw loginException;
+					} catch (IOException ignore) {
+						accountMangerAuthenticationFailed = true;
+						throw e;
+					}
 
-				try {
-					validateAuthenticationState(httpClient);
-				} catch (TracLoginException ignore) {
-					// most likely form based authentication is not supported by
-					// repository
-					accountMangerAuthenticationFailed = true;
-					throw e;
+					try {
+						validateAuthenticationState(httpClient);
+					} catch (TracLoginException ignore) {
+						// most likely form based authentication is not supported by
+						// repository
+						accountMangerAuthenticationFailed = true;
+						throw e;
+					}
 				}
 
 				// the authentication information is available through the shared state in httpClient
@@ -164,9 +209,9 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 				if (DEBUG_XMLRPC) {
 					System.err.println("Calling " + location.getUrl() + ": " + method + " " + CoreUtil.toString(parameters)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 				}
-				TracXmlRpcClientRequest request = new TracXmlRpcClientRequest(xmlrpc.getClientConfig(), method,
+				TracXmlRpcClientRequest request = new TracXmlRpcClientRequest(createRequestConfig(monitor), method,
 						parameters, monitor);
-				return xmlrpc.execute(request);
+				return checkResult(xmlrpc.execute(request));
 			} catch (TracHttpException e) {
 				handleAuthenticationException(e.code, e.getAuthScheme());
 				// if not handled, throw generic exception
@@ -191,6 +236,27 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 			}
 		}
 
+		/**
+		 * Invoked with the result of a successful request. Throws an exception if the result represents a fault such
+		 * that it is handled like a fault of the request.
+		 */
+		protected Object checkResult(Object result) throws XmlRpcException {
+			return result;
+		}
+
+		private XmlRpcRequestConfig createRequestConfig(IProgressMonitor monitor) {
+			if (!streaming) {
+				return xmlrpc.getClientConfig();
+			}
+			// the request is not buffered in memory if the content length is optional, see TracHttpClientTransport
+			TracXmlRpcClientConfig requestConfig = new TracXmlRpcClientConfig(config);
+			requestConfig.setContentLengthOptional(true);
+			requestConfig.setEnabledForExtensions(true);
+			requestConfig.setBase64Output(base64Output);
+			requestConfig.setUploadMonitor(monitor);
+			return requestConfig;
+		}
+
 		private boolean isMidAirCollision(XmlRpcException e) {
 			if (e.code == XML_FAULT_GENERAL_ERROR && e.getMessage() != null
 					&& ERROR_PATTERN_MID_AIR_COLLISION.matcher(e.getMessage()).find()) {
@@ -242,6 +308,26 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 		}
 	}
 
+	/**
+	 * A <code>system.multicall</code> request. Faults of individual calls are handled like faults of the request, e.g.
+	 * an expired login triggers authentication and the request is retried.
+	 */
+	private class MulticallRequest extends XmlRpcRequest {
+
+		public MulticallRequest(Map<String, Object>... calls) {
+			super("system.multicall", new Object[] { calls }); //$NON-NLS-1$
+		}
+
+		@Override
+		protected Object checkResult(Object result) throws XmlRpcException {
+			for (Object item : (Object[]) result) {
+				checkForException(item);
+			}
+			return result;
+		}
+
+	}
+
 	private static final boolean DEBUG_XMLRPC = Boolean.valueOf(Platform.getDebugOption("org.eclipse.mylyn.trac.core/debug/xmlrpc")); //$NON-NLS-1$
 
 	public static final String XMLRPC_URL = "/xmlrpc"; //$NON-NLS-1$
@@ -272,19 +358,26 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 
 	private TracHttpClientTransportFactory factory;
 
-	private boolean accountMangerAuthenticationFailed;
+	private volatile boolean accountMangerAuthenticationFailed;
 
 	private XmlRpcClientConfigImpl config;
 
 	private final HttpClient httpClient;
 
-	private boolean probed;
+	private volatile int searchBatchSize = DEFAULT_SEARCH_BATCH_SIZE;
+
+	private volatile int searchConcurrency = DEFAULT_SEARCH_CONCURRENCY;
+
+	private volatile boolean probed;
+
+	// serializes probing and form-based authentication of concurrent requests
+	private final Object authenticationLock = new Object();
 
 	private volatile DigestScheme digestScheme;
 
 	private final AuthScope authScope;
 
-	private boolean isTracd;
+	private volatile boolean isTracd;
 
 	private TracRepositoryInfo info = new TracRepositoryInfo();
 
@@ -308,6 +401,7 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 			xmlrpc.setConfig(config);
 			// bug 307200: force factory that supports proper UTF-8 encoding
 			xmlrpc.setXmlWriterFactory(new CharSetXmlWriterFactory());
+			xmlrpc.setTypeFactory(new TracTypeFactory(xmlrpc));
 
 			factory = new TracHttpClientTransportFactory(xmlrpc, httpClient);
 			factory.setLocation(location);
@@ -375,6 +469,12 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 	}
 
 	private void probeAuthenticationScheme(IProgressMonitor monitor) throws TracException {
+		synchronized (authenticationLock) {
+			probeAuthenticationSchemeInternal(monitor);
+		}
+	}
+
+	private void probeAuthenticationSchemeInternal(IProgressMonitor monitor) throws TracException {
 		AuthenticationCredentials credentials = location.getCredentials(AuthenticationType.REPOSITORY);
 		if (!credentialsValid(credentials)) {
 			return;
@@ -442,21 +542,37 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 	}
 
 	private Object call(IProgressMonitor monitor, String method, Object... parameters) throws TracException {
+		return call(monitor, new XmlRpcRequest(method, parameters));
+	}
+
+	/**
+	 * Sends a request that streams {@link File} parameters and decodes base64 values of the response into
+	 * <code>base64Output</code>, if specified, instead of holding them in memory.
+	 */
+	private Object callStreaming(IProgressMonitor monitor, OutputStream base64Output, String method,
+			Object... parameters) throws TracException {
+		return call(monitor, new XmlRpcRequest(method, parameters, true, base64Output));
+	}
+
+	private Object call(IProgressMonitor monitor, XmlRpcRequest request) throws TracException {
 		monitor = Policy.monitorFor(monitor);
 		TracException lastException = null;
 		for (int attempt = 0; attempt < 3; attempt++) {
 			if (!probed) {
-				try {
-					probeAuthenticationScheme(monitor);
-				} finally {
-					probed = true;
+				synchronized (authenticationLock) {
+					if (!probed) {
+						try {
+							probeAuthenticationScheme(monitor);
+						} finally {
+							probed = true;
+						}
+					}
 				}
 			}
 
 			getClient();
 
 			try {
-				XmlRpcRequest request = new XmlRpcRequest(method, parameters);
 				return request.execute(monitor);
 			} catch (TracLoginException e) {
 				try {
@@ -497,17 +613,7 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 	}
 
 	private Object[] multicall(IProgressMonitor monitor, Map<String, Object>... calls) throws TracException {
-		Object[] result = (Object[]) call(monitor, "system.multicall", new Object[] { calls }); //$NON-NLS-1$
-		for (Object item : result) {
-			try {
-				checkForException(item);
-			} catch (XmlRpcException e) {
-				throw new TracRemoteException(e);
-			} catch (Exception e) {
-				throw new TracException(e);
-			}
-		}
-		return result;
+		return (Object[]) call(monitor, new MulticallRequest(calls));
 	}
 
 	private void checkForException(Object result) throws NumberFormatException, XmlRpcException {
@@ -591,35 +697,61 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 	}
 
 	public TracTicket getTicket(int id, IProgressMonitor monitor) throws TracException {
-		Object[] result = (Object[]) call(monitor, "ticket.get", id); //$NON-NLS-1$
-		TracTicket ticket = parseTicket(result);
+		return getTickets(Collections.singletonList(id), monitor).get(0);
+	}
 
-		result = (Object[]) call(monitor, "ticket.changeLog", id, 0); //$NON-NLS-1$
-		for (Object item : result) {
-			ticket.addComment(parseChangeLogEntry((Object[]) item));
-		}
+	/**
+	 * Retrieves tickets including their change log, attachments and actions. The requests for each ticket are combined
+	 * into multicalls that retrieve up to {@link #TICKETS_PER_MULTICALL} tickets each.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<TracTicket> getTickets(Collection<Integer> ids, IProgressMonitor monitor) throws TracException {
+		boolean workflow = supportsWorkFlow(monitor);
+		updateAttributes(new NullProgressMonitor(), false);
+		String[] resolutions = getResolutionNames();
+
+		List<TracTicket> tickets = new ArrayList<TracTicket>(ids.size());
+		List<Integer> remaining = new ArrayList<Integer>(ids);
+		while (!remaining.isEmpty()) {
+			List<Integer> batch = remaining.subList(0, Math.min(TICKETS_PER_MULTICALL, remaining.size()));
+			List<Map<String, Object>> calls = new ArrayList<Map<String, Object>>(batch.size() * CALLS_PER_TICKET);
+			for (Integer id : batch) {
+				calls.add(createMultiCall("ticket.get", id)); //$NON-NLS-1$
+				calls.add(createMultiCall("ticket.changeLog", id, 0)); //$NON-NLS-1$
+				calls.add(createMultiCall("ticket.listAttachments", id)); //$NON-NLS-1$
+				calls.add(createMultiCall((workflow) ? "ticket.getActions" : "ticket.getAvailableActions", id)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
 
-		result = (Object[]) call(monitor, "ticket.listAttachments", id); //$NON-NLS-1$
-		for (Object item : result) {
-			ticket.addAttachment(parseAttachment((Object[]) item));
-		}
+			Object[] result = multicall(monitor, calls.toArray(new Map[calls.size()]));
+			assert result.length == calls.size();
 
-		TracAction[] actions = getActions(id, monitor);
-		ticket.setActions(actions);
+			for (int i = 0; i < result.length; i += CALLS_PER_TICKET) {
+				TracTicket ticket = parseTicket((Object[]) getMultiCallResult(result[i]));
+				for (Object item : (Object[]) getMultiCallResult(result[i + 1])) {
+					ticket.addComment(parseChangeLogEntry((Object[]) item));
+				}
+				for (Object item : (Object[]) getMultiCallResult(result[i + 2])) {
+					ticket.addAttachment(parseAttachment((Object[]) item));
+				}
+				ticket.setActions(parseActions((Object[]) getMultiCallResult(result[i + 3]), workflow));
+				ticket.setResolutions(resolutions);
+				tickets.add(ticket);
+			}
+			batch.clear();
+		}
+		return tickets;
+	}
 
-		updateAttributes(new NullProgressMonitor(), false);
+	private String[] getResolutionNames() {
 		TracTicketResolution[] resolutions = getTicketResolutions();
 		if (resolutions != null) {
 			String[] resolutionStrings = new String[resolutions.length];
 			for (int i = 0; i < resolutions.length; i++) {
 				resolutionStrings[i] = resolutions[i].getName();
 			}
-			ticket.setResolutions(resolutionStrings);
-		} else {
-			ticket.setResolutions(getDefaultTicketResolutions());
+			return resolutionStrings;
 		}
-
-		return ticket;
+		return getDefaultTicketResolutions();
 	}
 
 	private TracAttachment parseAttachment(Object[] entry) {
@@ -671,22 +803,126 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 		}
 	}
 
-	@SuppressWarnings("unchecked")
-	public void search(TracSearch query, List<TracTicket> tickets, IProgressMonitor monitor) throws TracException {
+	public void search(TracSearch query, final List<TracTicket> tickets, IProgressMonitor monitor)
+			throws TracException {
+		search(query, new TracTicketCollector() {
+			@Override
+			public void accept(TracTicket ticket) {
+				tickets.add(ticket);
+			}
+		}, monitor);
+	}
+
+	/**
+	 * Retrieves the tickets found by <code>query</code> in multicalls of {@link #getSearchBatchSize()} tickets. Up to
+	 * {@link #getSearchConcurrency()} multicalls are sent at once. Tickets are passed to <code>collector</code> on the
+	 * calling thread in the order returned by the query as each multicall completes.
+	 */
+	public void search(TracSearch query, TracTicketCollector collector, IProgressMonitor monitor)
+			throws TracException {
+		monitor = Policy.monitorFor(monitor);
 		// an empty query string is not valid, therefore prepend order
 		Object[] result = (Object[]) call(monitor,
 				"ticket.query", "order=id" + query.toQuery(supportsMaxSearchResults(monitor))); //$NON-NLS-1$ //$NON-NLS-2$
 
-		Map<String, Object>[] calls = new Map[result.length];
+		List<Object[]> batches = new ArrayList<Object[]>();
+		int batchSize = searchBatchSize;
+		for (int i = 0; i < result.length; i += batchSize) {
+			Object[] batch = new Object[Math.min(batchSize, result.length - i)];
+			System.arraycopy(result, i, batch, 0, batch.length);
+			batches.add(batch);
+		}
+		int concurrency = Math.min(searchConcurrency, batches.size());
+		if (concurrency <= 1) {
+			for (Object[] batch : batches) {
+				for (TracTicket ticket : getTicketsForSearch(batch, monitor)) {
+					collector.accept(ticket);
+				}
+			}
+			return;
+		}
+
+		final IProgressMonitor parentMonitor = monitor;
+		final IProgressMonitor requestMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return parentMonitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		try {
+			// keep at most concurrency multicalls in flight to bound the number of tickets held in memory
+			LinkedList<Future<List<TracTicket>>> pending = new LinkedList<Future<List<TracTicket>>>();
+			Iterator<Object[]> it = batches.iterator();
+			while (it.hasNext() || !pending.isEmpty()) {
+				while (it.hasNext() && pending.size() < concurrency) {
+					final Object[] batch = it.next();
+					pending.add(executor.submit(new Callable<List<TracTicket>>() {
+						public List<TracTicket> call() throws Exception {
+							return getTicketsForSearch(batch, requestMonitor);
+						}
+					}));
+				}
+				Policy.checkCanceled(monitor);
+				for (TracTicket ticket : pending.removeFirst().get()) {
+					collector.accept(ticket);
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof TracException) {
+				throw (TracException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new TracException(cause);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<TracTicket> getTicketsForSearch(Object[] ids, IProgressMonitor monitor) throws TracException {
+		Map<String, Object>[] calls = new Map[ids.length];
 		for (int i = 0; i < calls.length; i++) {
-			calls[i] = createMultiCall("ticket.get", result[i]); //$NON-NLS-1$
+			calls[i] = createMultiCall("ticket.get", ids[i]); //$NON-NLS-1$
 		}
-		result = multicall(monitor, calls);
+		Object[] result = multicall(monitor, calls);
 
+		List<TracTicket> tickets = new ArrayList<TracTicket>(result.length);
 		for (Object item : result) {
 			Object[] ticketResult = (Object[]) getMultiCallResult(item);
 			tickets.add(parseTicket(ticketResult));
 		}
+		return tickets;
+	}
+
+	public int getSearchBatchSize() {
+		return searchBatchSize;
+	}
+
+	/**
+	 * Sets the number of tickets that are retrieved in a single multicall by
+	 * {@link #search(TracSearch, TracTicketCollector, IProgressMonitor)}.
+	 */
+	public void setSearchBatchSize(int searchBatchSize) {
+		this.searchBatchSize = Math.max(1, searchBatchSize);
+	}
+
+	public int getSearchConcurrency() {
+		return searchConcurrency;
+	}
+
+	/**
+	 * Sets the number of multicalls that are sent at once by
+	 * {@link #search(TracSearch, TracTicketCollector, IProgressMonitor)}.
+	 */
+	public void setSearchConcurrency(int searchConcurrency) {
+		this.searchConcurrency = Math.max(1, searchConcurrency);
 	}
 
 	private boolean supportsWorkFlow(IProgressMonitor monitor) throws TracException {
@@ -910,20 +1146,89 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 		return attributes;
 	}
 
+	/**
+	 * Decodes the attachment into a temporary file while it is received. The file is deleted when the returned stream
+	 * is closed. Progress is reported in bytes.
+	 */
 	public InputStream getAttachmentData(int ticketId, String filename, IProgressMonitor monitor) throws TracException {
-		byte[] data = (byte[]) call(monitor, "ticket.getAttachment", ticketId, filename); //$NON-NLS-1$
-		return new ByteArrayInputStream(data);
+		monitor = Policy.monitorFor(monitor);
+		boolean success = false;
+		final File file = createTempFile();
+		try {
+			OutputStream out = new MonitoredOutputStream(new BufferedOutputStream(new FileOutputStream(file)),
+					monitor);
+			try {
+				callStreaming(monitor, out, "ticket.getAttachment", ticketId, filename); //$NON-NLS-1$
+			} finally {
+				out.close();
+			}
+			InputStream in = new FileInputStream(file) {
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						file.delete();
+					}
+				}
+			};
+			success = true;
+			return in;
+		} catch (IOException e) {
+			throw new TracException(e);
+		} finally {
+			if (!success) {
+				file.delete();
+			}
+		}
 	}
 
+	/**
+	 * Copies the attachment to a temporary file which is then base64 encoded while the request is sent. Progress is
+	 * reported in bytes while the file is sent, see {@link TracTypeFactory.FileSerializer}.
+	 */
 	public void putAttachmentData(int ticketId, String filename, String description, InputStream in,
 			IProgressMonitor monitor, boolean replace) throws TracException {
-		byte[] data;
+		monitor = Policy.monitorFor(monitor);
+		File file = createTempFile();
 		try {
-			data = readData(in, new NullProgressMonitor());
+			writeData(in, file);
+			callStreaming(monitor, null, "ticket.putAttachment", ticketId, filename, description, file, replace); //$NON-NLS-1$
 		} catch (IOException e) {
 			throw new TracException(e);
+		} finally {
+			file.delete();
+		}
+	}
+
+	private File createTempFile() throws TracException {
+		try {
+			return File.createTempFile("mylyn-trac", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+		} catch (IOException e) {
+			throw new TracException(e);
+		}
+	}
+
+	private void writeData(InputStream in, File file) throws IOException {
+		try {
+			OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+			try {
+				byte[] buffer = new byte[8192];
+				int count;
+				while ((count = in.read(buffer)) != -1) {
+					out.write(buffer, 0, count);
+				}
+			} finally {
+				out.close();
+			}
+		} finally {
+			try {
+				in.close();
+			} catch (IOException e) {
+				StatusHandler.log(new Status(IStatus.ERROR, TracCorePlugin.ID_PLUGIN,
+						"Error closing attachment stream", e)); //$NON-NLS-1$
+			}
 		}
-		call(monitor, "ticket.putAttachment", ticketId, filename, description, data, replace); //$NON-NLS-1$
 	}
 
 	private byte[] readData(InputStream in, IProgressMonitor monitor) throws IOException {
@@ -953,6 +1258,34 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 		}
 	}
 
+	/**
+	 * Reports the number of written bytes as work and checks for cancellation before each write.
+	 */
+	private static class MonitoredOutputStream extends FilterOutputStream {
+
+		private final IProgressMonitor monitor;
+
+		public MonitoredOutputStream(OutputStream out, IProgressMonitor monitor) {
+			super(out);
+			this.monitor = monitor;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			out.write(b, off, len);
+			monitor.worked(len);
+		}
+
+	}
+
 	public void deleteAttachment(int ticketId, String filename, IProgressMonitor monitor) throws TracException {
 		call(monitor, "ticket.deleteAttachment", ticketId, filename); //$NON-NLS-1$
 	}
@@ -1012,9 +1345,15 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 	}
 
 	public TracAction[] getActions(int id, IProgressMonitor monitor) throws TracException {
-		if (supportsWorkFlow(monitor)) {
-			Object[] actions = (Object[]) call(monitor, "ticket.getActions", id); //$NON-NLS-1$
-			TracAction[] result = new TracAction[actions.length];
+		boolean workflow = supportsWorkFlow(monitor);
+		Object[] actions = (Object[]) call(monitor,
+				(workflow) ? "ticket.getActions" : "ticket.getAvailableActions", id); //$NON-NLS-1$ //$NON-NLS-2$
+		return parseActions(actions, workflow);
+	}
+
+	private TracAction[] parseActions(Object[] actions, boolean workflow) {
+		TracAction[] result = new TracAction[actions.length];
+		if (workflow) {
 			for (int i = 0; i < result.length; i++) {
 				Object[] entry = (Object[]) actions[i];
 				TracAction action = new TracAction((String) entry[0]);
@@ -1041,15 +1380,12 @@ public class TracXmlRpcClient extends AbstractTracClient implements ITracWikiCli
 				}
 				result[i] = action;
 			}
-			return result;
 		} else {
-			Object[] actions = (Object[]) call(monitor, "ticket.getAvailableActions", id); //$NON-NLS-1$
-			TracAction[] result = new TracAction[actions.length];
 			for (int i = 0; i < result.length; i++) {
 				result[i] = new TracAction((String) actions[i]);
 			}
-			return result;
 		}
+		return result;
 	}
 
 	public Date getTicketLastChanged(Integer id, IProgressMonitor monitor) throws TracException {
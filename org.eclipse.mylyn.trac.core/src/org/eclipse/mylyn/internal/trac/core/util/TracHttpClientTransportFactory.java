@@ -63,7 +63,7 @@ public class TracHttpClientTransportFactory implements XmlRpcTransportFactory {
 
 		private PostMethod method;
 
-		private int contentLength = -1;
+		private long contentLength = -1;
 
 		private XmlRpcHttpClientConfig config;
 
@@ -86,7 +86,7 @@ public class TracHttpClientTransportFactory implements XmlRpcTransportFactory {
 			method.releaseConnection();
 		}
 
-		public int getContentLength() {
+		public long getContentLength() {
 			return contentLength;
 		}
 
@@ -170,6 +170,32 @@ public class TracHttpClientTransportFactory implements XmlRpcTransportFactory {
 
 		@Override
 		protected void writeRequest(final ReqWriter writer) throws XmlRpcException {
+			if (getContentLength() == -1 && !isUsingByteArrayOutput(config)) {
+				// the request is streamed, serialize it once to determine the content length since not all servers
+				// accept chunked requests, progress is only reported while the request is sent
+				TracXmlRpcClientConfig tracConfig = (config instanceof TracXmlRpcClientConfig)
+						? (TracXmlRpcClientConfig) config
+						: null;
+				IProgressMonitor uploadMonitor = (tracConfig != null) ? tracConfig.getUploadMonitor() : null;
+				CountingOutputStream out = new CountingOutputStream();
+				try {
+					if (tracConfig != null) {
+						tracConfig.setUploadMonitor(null);
+					}
+					writer.write(out);
+				} catch (SAXException e) {
+					throw new XmlRpcClientException("Failed to serialize request: " + e.getMessage(), e); //$NON-NLS-1$
+				} catch (IOException e) {
+					throw new XmlRpcClientException("Failed to serialize request: " + e.getMessage(), e); //$NON-NLS-1$
+				} finally {
+					if (tracConfig != null) {
+						tracConfig.setUploadMonitor(uploadMonitor);
+					}
+				}
+				// the content length of the request entity is a long, setContentLength() would overflow above 2 GB
+				contentLength = out.getCount();
+			}
+
 			method.setRequestEntity(new RequestEntity() {
 				public long getContentLength() {
 					return TracHttpClientTransport.this.getContentLength();
@@ -234,6 +260,26 @@ public class TracHttpClientTransportFactory implements XmlRpcTransportFactory {
 		}
 	}
 
+	private static class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+	}
+
 	public static class TracHttpException extends XmlRpcException {
 
 		private static final long serialVersionUID = 9032521978140685830L;
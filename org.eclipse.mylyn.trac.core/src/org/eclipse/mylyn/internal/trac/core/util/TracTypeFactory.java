@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.trac.core.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.ws.commons.util.Base64;
+import org.apache.ws.commons.util.NamespaceContextImpl;
+import org.apache.xmlrpc.common.TypeFactoryImpl;
+import org.apache.xmlrpc.common.XmlRpcController;
+import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.parser.TypeParser;
+import org.apache.xmlrpc.parser.TypeParserImpl;
+import org.apache.xmlrpc.serializer.TypeSerializer;
+import org.apache.xmlrpc.serializer.TypeSerializerImpl;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * A type factory that encodes and decodes base64 values on the fly. {@link File} parameters are sent as base64 values
+ * without reading the file into memory. Base64 values of a response are decoded into the stream set on
+ * {@link TracXmlRpcClientConfig#setBase64Output(OutputStream)}, if any.
+ */
+public class TracTypeFactory extends TypeFactoryImpl {
+
+	private static final String BASE64_TAG = "base64"; //$NON-NLS-1$
+
+	// a multiple of 3 and 4 to encode and decode without partial blocks
+	private static final int BUFFER_SIZE = 3 * 4 * 1024;
+
+	/**
+	 * Writes the content of a {@link File} as a base64 value. The file is read each time the value is written which
+	 * allows requests to be serialized more than once, e.g. to determine the content length. If a monitor is
+	 * specified, the number of read bytes is reported as work and the monitor is checked for cancellation.
+	 */
+	public static class FileSerializer implements TypeSerializer {
+
+		private static final Attributes ZERO_ATTRIBUTES = new AttributesImpl();
+
+		private final IProgressMonitor monitor;
+
+		public FileSerializer(IProgressMonitor monitor) {
+			this.monitor = monitor;
+		}
+
+		public void write(ContentHandler handler, Object object) throws SAXException {
+			InputStream in;
+			try {
+				in = new FileInputStream((File) object);
+			} catch (IOException e) {
+				throw new SAXException(e);
+			}
+			try {
+				write(handler, in);
+			} finally {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+
+		private void write(ContentHandler handler, InputStream in) throws SAXException {
+			handler.startElement("", TypeSerializerImpl.VALUE_TAG, TypeSerializerImpl.VALUE_TAG, //$NON-NLS-1$
+					ZERO_ATTRIBUTES);
+			handler.startElement("", BASE64_TAG, BASE64_TAG, ZERO_ATTRIBUTES); //$NON-NLS-1$
+			Base64.Encoder encoder = new Base64.SAXEncoder(new char[BUFFER_SIZE], 0, null, handler);
+			try {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int count;
+				while ((count = in.read(buffer)) != -1) {
+					if (monitor != null && monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					encoder.write(buffer, 0, count);
+					if (monitor != null) {
+						monitor.worked(count);
+					}
+				}
+				encoder.flush();
+			} catch (Base64.SAXIOException e) {
+				throw e.getSAXException();
+			} catch (IOException e) {
+				throw new SAXException(e);
+			}
+			handler.endElement("", BASE64_TAG, BASE64_TAG); //$NON-NLS-1$
+			handler.endElement("", TypeSerializerImpl.VALUE_TAG, TypeSerializerImpl.VALUE_TAG); //$NON-NLS-1$
+		}
+
+	}
+
+	/**
+	 * Decodes a base64 value into an {@link OutputStream}. The result is the number of decoded bytes.
+	 */
+	public static class OutputStreamParser extends TypeParserImpl {
+
+		private final OutputStream out;
+
+		private Base64.Decoder decoder;
+
+		private int level;
+
+		private long count;
+
+		public OutputStreamParser(OutputStream out) {
+			this.out = out;
+		}
+
+		public void startDocument() throws SAXException {
+			level = 0;
+		}
+
+		public void characters(char[] chars, int start, int length) throws SAXException {
+			if (decoder == null) {
+				if (!isEmpty(chars, start, length)) {
+					throw new SAXParseException("Unexpected non-whitespace characters", getDocumentLocator()); //$NON-NLS-1$
+				}
+			} else {
+				try {
+					decoder.write(chars, start, length);
+				} catch (IOException e) {
+					throw new SAXParseException("Failed to decode base64 stream", getDocumentLocator(), e); //$NON-NLS-1$
+				}
+			}
+		}
+
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			if (--level == 0) {
+				try {
+					decoder.flush();
+				} catch (IOException e) {
+					throw new SAXParseException("Failed to decode base64 stream", getDocumentLocator(), e); //$NON-NLS-1$
+				}
+				setResult(Long.valueOf(count));
+			} else {
+				throw new SAXParseException("Unexpected end tag in base64 element: " + localName, //$NON-NLS-1$
+						getDocumentLocator());
+			}
+		}
+
+		public void startElement(String uri, String localName, String qName, Attributes attributes)
+				throws SAXException {
+			if (level++ == 0) {
+				count = 0;
+				decoder = new Base64.Decoder(BUFFER_SIZE) {
+					@Override
+					protected void writeBuffer(byte[] buffer, int offset, int length) throws IOException {
+						out.write(buffer, offset, length);
+						count += length;
+					}
+				};
+			} else {
+				throw new SAXParseException("Unexpected start tag in base64 element: " + localName, //$NON-NLS-1$
+						getDocumentLocator());
+			}
+		}
+
+	}
+
+	public TracTypeFactory(XmlRpcController controller) {
+		super(controller);
+	}
+
+	@Override
+	public TypeSerializer getSerializer(XmlRpcStreamConfig config, Object object) throws SAXException {
+		if (object instanceof File) {
+			IProgressMonitor monitor = null;
+			if (config instanceof TracXmlRpcClientConfig) {
+				monitor = ((TracXmlRpcClientConfig) config).getUploadMonitor();
+			}
+			return new FileSerializer(monitor);
+		}
+		return super.getSerializer(config, object);
+	}
+
+	@Override
+	public TypeParser getParser(XmlRpcStreamConfig config, NamespaceContextImpl context, String uri,
+			String localName) {
+		if (BASE64_TAG.equals(localName) && config instanceof TracXmlRpcClientConfig) {
+			OutputStream out = ((TracXmlRpcClientConfig) config).getBase64Output();
+			if (out != null) {
+				return new OutputStreamParser(out);
+			}
+		}
+		return super.getParser(config, context, uri, localName);
+	}
+
+}
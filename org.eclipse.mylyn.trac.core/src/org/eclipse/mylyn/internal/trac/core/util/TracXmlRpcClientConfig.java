@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Tasktop Technologies and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.trac.core.util;
+
+import java.io.OutputStream;
+
+import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * A request configuration that allows base64 values of the response to be decoded into a stream instead of a byte
+ * array and reports the progress of sending file parameters.
+ *
+ * @see TracTypeFactory
+ */
+public class TracXmlRpcClientConfig extends XmlRpcClientConfigImpl {
+
+	private static final long serialVersionUID = -2803357094734325245L;
+
+	private transient OutputStream base64Output;
+
+	private transient IProgressMonitor uploadMonitor;
+
+	public TracXmlRpcClientConfig() {
+	}
+
+	/**
+	 * Creates a copy of the settings in <code>config</code> that are used by the Trac client.
+	 */
+	public TracXmlRpcClientConfig(XmlRpcClientConfigImpl config) {
+		setServerURL(config.getServerURL());
+		setEncoding(config.getEncoding());
+		setTimeZone(config.getTimeZone());
+		setContentLengthOptional(config.isContentLengthOptional());
+		setEnabledForExtensions(config.isEnabledForExtensions());
+		setConnectionTimeout(config.getConnectionTimeout());
+		setReplyTimeout(config.getReplyTimeout());
+	}
+
+	public OutputStream getBase64Output() {
+		return base64Output;
+	}
+
+	/**
+	 * Sets the stream that base64 values of the response are decoded into. If <code>base64Output</code> is not
+	 * <code>null</code>, the result of the call is the number of decoded bytes.
+	 */
+	public void setBase64Output(OutputStream base64Output) {
+		this.base64Output = base64Output;
+	}
+
+	public IProgressMonitor getUploadMonitor() {
+		return uploadMonitor;
+	}
+
+	/**
+	 * Sets the monitor that is checked for cancellation while {@link java.io.File} parameters are sent. The number of
+	 * sent bytes of the files is reported as work.
+	 */
+	public void setUploadMonitor(IProgressMonitor uploadMonitor) {
+		this.uploadMonitor = uploadMonitor;
+	}
+
+}
@@ -129,6 +129,24 @@ public class TracXmlRpcClientTest extends TestCase {
 		TracTestUtil.assertTicketEquals(ticket, result.get(0));
 	}
 
+	public void testSearchConcurrentBatches() throws Exception {
+		String uniqueTag = RandomStringUtils.randomAlphanumeric(6);
+		TracTicket ticket1 = harness.createTicket("searchConcurrentBatches1 " + uniqueTag);
+		TracTicket ticket2 = harness.createTicket("searchConcurrentBatches2 " + uniqueTag);
+		TracTicket ticket3 = harness.createTicket("searchConcurrentBatches3 " + uniqueTag);
+		client.setSearchBatchSize(1);
+		client.setSearchConcurrency(2);
+
+		TracSearch search = new TracSearch();
+		search.addFilter(new TracSearchFilter("summary", CompareOperator.CONTAINS, uniqueTag));
+		List<TracTicket> result = new ArrayList<TracTicket>();
+		client.search(search, result, null);
+		assertEquals(3, result.size());
+		assertEquals(ticket1.getId(), result.get(0).getId());
+		assertEquals(ticket2.getId(), result.get(1).getId());
+		assertEquals(ticket3.getId(), result.get(2).getId());
+	}
+
 	public void testGetTicketActions() throws Exception {
 		TracTicket ticket = harness.createTicket("getTicketActions");
 		TracAction[] actions = ticket.getActions();
@@ -163,6 +181,20 @@ public class TracXmlRpcClientTest extends TestCase {
 		assertEquals("reopen", actions[1].getId());
 	}
 
+	public void testGetTicketsFull() throws Exception {
+		TracTicket ticket1 = harness.createTicket("getTicketsFull1");
+		TracTicket ticket2 = harness.createTicket("getTicketsFull2");
+		client.updateTicket(ticket2, "comment", null);
+
+		List<TracTicket> tickets = client.getTickets(Arrays.asList(ticket1.getId(), ticket2.getId()), null);
+		assertEquals(2, tickets.size());
+		assertEquals(ticket1.getId(), tickets.get(0).getId());
+		assertEquals(ticket2.getId(), tickets.get(1).getId());
+		assertNotNull(tickets.get(1).getComments());
+		assertEquals(4, tickets.get(1).getActions().length);
+		assertNotNull(tickets.get(1).getResolutions());
+	}
+
 	public void testWikiToHtml() throws Exception {
 		String tracUrl = client.getUrl();
 		if (tracUrl.endsWith("/")) {
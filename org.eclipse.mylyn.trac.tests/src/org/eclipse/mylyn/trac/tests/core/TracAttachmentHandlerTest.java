@@ -11,10 +11,12 @@
 
 package org.eclipse.mylyn.trac.tests.core;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.List;
 
 import junit.framework.TestCase;
@@ -98,6 +100,40 @@ public class TracAttachmentHandlerTest extends TestCase {
 		}
 	}
 
+	public void testPostContentLarge() throws Exception {
+		if (!harness.isXmlRpc()) {
+			return;
+		}
+		ITask task = harness.createTask("postContentLarge");
+		byte[] content = new byte[100 * 1024 + 1];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		File file = File.createTempFile("attachment", null);
+		file.deleteOnExit();
+		OutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content);
+		} finally {
+			out.close();
+		}
+		attachmentHandler.postContent(repository, task, new FileTaskAttachmentSource(file), null, null, null);
+
+		ITracClient client = connector.getClientManager().getTracClient(repository);
+		InputStream in = client.getAttachmentData(Integer.parseInt(task.getTaskId()), file.getName(), null);
+		try {
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1000];
+			int count;
+			while ((count = in.read(buffer)) != -1) {
+				result.write(buffer, 0, count);
+			}
+			assertTrue(Arrays.equals(content, result.toByteArray()));
+		} finally {
+			in.close();
+		}
+	}
+
 	public void testCanUploadAttachment() throws Exception {
 		ITask task = harness.createTask("canUploadAttachment");
 		if (harness.isXmlRpc()) {